@@ -45,6 +45,26 @@ public interface Constants {
          * Minimum word length
          */
         Integer MIN_WORD_LENGTH = 2;
+
+        /**
+         * Number of board versions between two full boards in the board history
+         */
+        Integer BOARD_CHECKPOINT_INTERVAL = 10;
+
+        /**
+         * Number of seconds until a cached value such as the bag of a game expires
+         */
+        Integer CACHE_TTL_SECONDS = 3600;
+
+        /**
+         * Number of seconds the last board and the racks of an archived game are kept in Redis
+         */
+        Integer ARCHIVED_CONTENT_TTL_SECONDS = 600;
+
+        /**
+         * Number of seconds a claimed timer is not run by the other nodes
+         */
+        Integer TIMER_CLAIM_TTL_SECONDS = 60;
     }
 
     /**
@@ -54,8 +74,10 @@ public interface Constants {
         String ACTION = "ACTION";
         String CHATS = "CHATS";
         String BOARD = "BOARD";
+        String LATEST_BOARD = "LATEST_BOARD";
         String RACK = "RACK";
         String TILES = "TILES";
+        String TIMERS = "TIMERS";
     }
 
     /**
@@ -77,6 +99,12 @@ public interface Constants {
         // Game
         String searchByUser = "searchByUser";
         String searchGames = "searchGames";
+        String getExpiredGames = "getExpiredGames";
+        String getExpiredGamesAfter = "getExpiredGamesAfter";
+        String getGameVersion = "getGameVersion";
+
+        // GameArchive
+        String getGameArchive = "getGameArchive";
 
         // Player
         String getPlayerByUserId = "getPlayerByUserId";
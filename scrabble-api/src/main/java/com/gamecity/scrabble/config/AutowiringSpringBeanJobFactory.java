@@ -1,37 +0,0 @@
-package com.gamecity.scrabble.config;
-
-import org.quartz.Job;
-import org.quartz.Scheduler;
-import org.quartz.spi.TriggerFiredBundle;
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
-import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationContextAware;
-import org.springframework.scheduling.quartz.SpringBeanJobFactory;
-import org.springframework.stereotype.Component;
-
-/**
- * By default {@link Job jobs} created by {@link Scheduler Quartz scheduler} do not use the same
- * applicationContext as Spring hence autowiring of components do not work in the jobs. This class sets
- * the applicationContext on Quartz jobs
- * 
- * @author ekarakus
- */
-@Component
-public final class AutowiringSpringBeanJobFactory extends SpringBeanJobFactory implements ApplicationContextAware {
-
-    private transient AutowireCapableBeanFactory beanFactory;
-
-    @Override
-    public void setApplicationContext(ApplicationContext context) throws BeansException {
-        beanFactory = context.getAutowireCapableBeanFactory();
-    }
-
-    @Override
-    protected Object createJobInstance(final TriggerFiredBundle bundle) throws Exception {
-        final Object job = super.createJobInstance(bundle);
-        beanFactory.autowireBean(job);
-        return job;
-    }
-
-}
@@ -11,17 +11,23 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.connection.jedis.JedisClientConfiguration.JedisClientConfigurationBuilder;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gamecity.scrabble.Constants;
+import com.gamecity.scrabble.dao.CellDao;
+import com.gamecity.scrabble.util.VirtualModelRedisSerializer;
 
 import lombok.Generated;
 
@@ -36,8 +42,6 @@ import lombok.Generated;
 @Generated
 public class RedisConfig implements CachingConfigurer {
 
-    private static final Integer TTL_SECONDS = 3600;
-
     @Value("${redis.host}")
     private String redisHost;
 
@@ -75,11 +79,12 @@ public class RedisConfig implements CachingConfigurer {
     }
 
     @Bean
-    RedisTemplate<String, Object> redisTemplate(JedisConnectionFactory connectionFactory) {
+    RedisTemplate<String, Object> redisTemplate(JedisConnectionFactory connectionFactory, CellDao cellDao) {
         final RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(connectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new CustomJackson2JsonRedisSerializer());
+        redisTemplate.setValueSerializer(
+                new VirtualModelRedisSerializer(new CustomJackson2JsonRedisSerializer(), cellDao::list));
         return redisTemplate;
     }
 
@@ -93,10 +98,21 @@ public class RedisConfig implements CachingConfigurer {
                         .computePrefixWith(name -> name + ":")
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(customJackson2JsonRedisSerializer))
-                        .entryTtl(Duration.ofSeconds(TTL_SECONDS)))
+                        .entryTtl(Duration.ofSeconds(Constants.Game.CACHE_TTL_SECONDS)))
                 .build();
     }
 
+    @Bean
+    RedisMessageListenerContainer redisMessageListenerContainer(JedisConnectionFactory connectionFactory,
+                                                                MessageListener redisRepository) {
+        // the repository invalidates its cached racks when an action is published by any node
+        final RedisMessageListenerContainer messageListenerContainer = new RedisMessageListenerContainer();
+        messageListenerContainer.setConnectionFactory(connectionFactory);
+        messageListenerContainer.addMessageListener(redisRepository,
+                new PatternTopic(Constants.CacheKey.ACTION + ":*"));
+        return messageListenerContainer;
+    }
+
     class CustomJackson2JsonRedisSerializer extends GenericJackson2JsonRedisSerializer {
 
         public CustomJackson2JsonRedisSerializer() {
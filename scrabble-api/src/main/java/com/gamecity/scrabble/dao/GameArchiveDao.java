@@ -0,0 +1,21 @@
+package com.gamecity.scrabble.dao;
+
+import com.gamecity.scrabble.entity.Game;
+import com.gamecity.scrabble.entity.GameArchive;
+
+/**
+ * Provides dao operations for {@link GameArchive} entity
+ * 
+ * @author ekarakus
+ */
+public interface GameArchiveDao extends BaseDao<GameArchive> {
+
+    /**
+     * Gets the {@link GameArchive archive} of the {@link Game game}
+     * 
+     * @param gameId <code>id</code> of the game
+     * @return the archive
+     */
+    GameArchive getByGameId(Long gameId);
+
+}
@@ -1,5 +1,6 @@
 package com.gamecity.scrabble.dao;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.gamecity.scrabble.entity.Game;
@@ -21,4 +22,24 @@ public interface GameDao extends BaseDao<Game> {
      */
     List<Game> search(Long userId, boolean includeUser);
 
+    /**
+     * Gets the {@link List list} of the {@link Game games} in progress whose current turn has expired
+     * before the given time, ordered by the turn deadline. The games are read in pages, a page starts after
+     * the last game of the previous page.
+     * 
+     * @param time     the time to compare the turn deadlines with
+     * @param lastGame the last game of the previous page, null for the first page
+     * @param count    maximum number of the games
+     * @return the games
+     */
+    List<Game> getExpiredGames(LocalDateTime time, Game lastGame, int count);
+
+    /**
+     * Gets the <code>version</code> of the {@link Game game} without loading the game
+     * 
+     * @param id <code>id</code> of the game
+     * @return the version, null if the game doesn't exist
+     */
+    Integer getVersion(Long id);
+
 }
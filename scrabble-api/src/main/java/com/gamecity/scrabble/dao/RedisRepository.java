@@ -1,9 +1,13 @@
 package com.gamecity.scrabble.dao;
 
+import java.util.List;
+
 import com.gamecity.scrabble.entity.Action;
 import com.gamecity.scrabble.entity.Chat;
 import com.gamecity.scrabble.entity.Game;
+import com.gamecity.scrabble.entity.GameArchive;
 import com.gamecity.scrabble.entity.Player;
+import com.gamecity.scrabble.entity.Tile;
 import com.gamecity.scrabble.model.VirtualBoard;
 import com.gamecity.scrabble.model.VirtualRack;
 
@@ -76,4 +80,97 @@ public interface RedisRepository {
      */
     VirtualRack getRack(Long gameId, Integer playerNumber, Integer roundNumber);
 
+    /**
+     * Stores the changes of a move of the {@link Player player} in the {@link Game game} in a single
+     * transaction, so the rack, the bag and the board are either all updated or none of them is updated
+     * 
+     * @param gameId       <code>id</code> of the game
+     * @param playerNumber <code>number</code> of the player
+     * @param roundNumber  <code>number</code> of the round played
+     * @param updatedRack  the rack played in the round
+     * @param filledRack   the rack filled for the next round
+     * @param tiles        the tiles left in the bag
+     * @param board        the board after the move
+     * @throws IllegalStateException if the board is updated by another move at the same time
+     */
+    void commitMove(Long gameId, Integer playerNumber, Integer roundNumber, VirtualRack updatedRack,
+                    VirtualRack filledRack, List<Tile> tiles, VirtualBoard board);
+
+    /**
+     * Creates the {@link GameArchive archive} of the {@link Game game} with the last {@link VirtualBoard
+     * board} as a single snapshot and the compressed board and rack history. The content of the game is not
+     * removed from Redis.
+     * 
+     * @param gameId      <code>id</code> of the game
+     * @param playerCount number of the players in the game
+     * @return the archive, <code>null</code> if the game has no board
+     */
+    GameArchive createArchive(Long gameId, Integer playerCount);
+
+    /**
+     * Releases the content of an archived {@link Game game} in Redis. The board history and the bag are
+     * removed, the last board and the racks are kept for a while for the players who are still looking at
+     * the game.
+     * 
+     * @param gameId      <code>id</code> of the game
+     * @param playerCount number of the players in the game
+     * @return the number of the removed and expiring keys
+     */
+    long releaseContent(Long gameId, Integer playerCount);
+
+    /**
+     * Gets the {@link VirtualBoard board} in the {@link GameArchive archive} by the specified
+     * <code>version</code>
+     * 
+     * @param archive the archive of the game
+     * @param version <code>version</code> of the board
+     * @return the board
+     */
+    VirtualBoard getArchivedBoard(GameArchive archive, Integer version);
+
+    /**
+     * Gets the {@link VirtualRack rack} in the {@link GameArchive archive} by the specified
+     * <code>roundNumber</code>
+     * 
+     * @param archive      the archive of the game
+     * @param playerNumber <code>number</code> of the player
+     * @param roundNumber  <code>number</code> of the round
+     * @return the rack
+     */
+    VirtualRack getArchivedRack(GameArchive archive, Integer playerNumber, Integer roundNumber);
+
+    /**
+     * Stores the timer with the due time, the due time of an existing timer is updated
+     * 
+     * @param timerKey key of the timer
+     * @param dueTime  due time of the timer in epoch milliseconds
+     */
+    void scheduleTimer(String timerKey, long dueTime);
+
+    /**
+     * Removes the timer, a timer is either run or cancelled by the caller that removes it
+     * 
+     * @param timerKey key of the timer
+     * @return whether the timer is removed by this call
+     */
+    boolean removeTimer(String timerKey);
+
+    /**
+     * Claims the timer that is not stored in Redis, a claimed timer is not claimed again until the claim
+     * expires
+     * 
+     * @param timerKey key of the timer
+     * @return whether the timer is claimed by this call
+     */
+    boolean claimTimer(String timerKey);
+
+    /**
+     * Gets the keys of the timers that are due at the given time in the due time order
+     * 
+     * @param time  the time in epoch milliseconds
+     * @param count maximum number of the timers
+     * @return the keys of the due timers
+     */
+    List<String> getDueTimers(long time, int count);
+
 }
@@ -0,0 +1,20 @@
+package com.gamecity.scrabble.dao.impl;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.stereotype.Repository;
+
+import com.gamecity.scrabble.Constants;
+import com.gamecity.scrabble.dao.GameArchiveDao;
+import com.gamecity.scrabble.entity.GameArchive;
+
+@Repository(value = "gameArchiveDao")
+class GameArchiveDaoImpl extends AbstractDaoImpl<GameArchive> implements GameArchiveDao {
+
+    @Override
+    public GameArchive getByGameId(Long gameId) {
+        return getByNamedQuery(Constants.NamedQuery.getGameArchive, Arrays.asList(Pair.of("gameId", gameId)));
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.gamecity.scrabble.dao.impl;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.gamecity.scrabble.Constants;
+import com.gamecity.scrabble.entity.Game;
+import com.gamecity.scrabble.model.VirtualBoard;
+import com.gamecity.scrabble.model.VirtualRack;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * In-process cache of the {@link VirtualBoard boards} and the {@link VirtualRack racks} of the
+ * {@link Game games}, so the boards and the racks of the active games are not read from Redis on every
+ * request. The cache is bounded by the number of the cached cells and tiles, the entries that are not
+ * used for a while are evicted. The cached objects are copied when they are cached and when they are read,
+ * since the callers change them.
+ *
+ * A board version doesn't change after it is stored, but the rack of a round is updated when the round is
+ * played. The racks of a game are invalidated when an action of the game is published by any node.
+ *
+ * @author ekarakus
+ */
+final class GameCache {
+
+    private static final long MAXIMUM_WEIGHT = 100_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+
+    private final Cache<String, Object> entries = CacheBuilder.newBuilder()
+            .maximumWeight(MAXIMUM_WEIGHT)
+            .weigher(GameCache::weigh)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+
+    // incremented before the racks are invalidated, a rack read during an invalidation is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Gets the current generation of the cache, the generation should be read before a rack is read
+     * from Redis and passed to {@link #putRack(Long, Integer, Integer, VirtualRack, long)}
+     *
+     * @return the generation
+     */
+    long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Gets a copy of the cached board
+     *
+     * @param gameId  <code>id</code> of the game
+     * @param version <code>version</code> of the board
+     * @return the board, null if the board is not cached
+     */
+    VirtualBoard getBoard(Long gameId, Integer version) {
+        final VirtualBoard board = (VirtualBoard) entries.getIfPresent(getBoardKey(gameId, version));
+        if (board == null) {
+            return null;
+        }
+
+        final VirtualBoard copy = copy(board);
+        copy.markVersion(version);
+        return copy;
+    }
+
+    /**
+     * Caches a copy of the board
+     *
+     * @param gameId  <code>id</code> of the game
+     * @param version <code>version</code> of the board
+     * @param board   the board
+     */
+    void putBoard(Long gameId, Integer version, VirtualBoard board) {
+        entries.put(getBoardKey(gameId, version), copy(board));
+    }
+
+    /**
+     * Gets a copy of the cached rack
+     *
+     * @param gameId       <code>id</code> of the game
+     * @param playerNumber <code>number</code> of the player
+     * @param roundNumber  <code>number</code> of the round
+     * @return the rack, null if the rack is not cached
+     */
+    VirtualRack getRack(Long gameId, Integer playerNumber, Integer roundNumber) {
+        final VirtualRack rack = (VirtualRack) entries.getIfPresent(getRackKey(gameId, playerNumber, roundNumber));
+        return rack == null ? null : copy(rack);
+    }
+
+    /**
+     * Caches a copy of the rack if the racks are not invalidated after the given <code>generation</code>
+     *
+     * @param gameId       <code>id</code> of the game
+     * @param playerNumber <code>number</code> of the player
+     * @param roundNumber  <code>number</code> of the round
+     * @param rack         the rack
+     * @param generation   generation of the cache before the rack is read
+     */
+    void putRack(Long gameId, Integer playerNumber, Integer roundNumber, VirtualRack rack, long generation) {
+        final String key = getRackKey(gameId, playerNumber, roundNumber);
+        entries.put(key, copy(rack));
+
+        // the rack may be invalidated while it is being cached
+        if (this.generation.get() != generation) {
+            entries.invalidate(key);
+        }
+    }
+
+    /**
+     * Invalidates the cached racks of the game
+     *
+     * @param gameId <code>id</code> of the game
+     */
+    void invalidateRacks(Long gameId) {
+        generation.incrementAndGet();
+
+        final String prefix = Constants.CacheKey.RACK + ":" + gameId + ":";
+        entries.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /*
+     * Returns the number of the cells or the tiles in the entry
+     */
+    private static int weigh(String key, Object value) {
+        if (value instanceof VirtualBoard) {
+            return ((VirtualBoard) value).getCells().size();
+        }
+        return ((VirtualRack) value).getTiles().size();
+    }
+
+    private static String getBoardKey(Long gameId, Integer version) {
+        return Constants.CacheKey.BOARD + ":" + gameId + ":" + version;
+    }
+
+    private static String getRackKey(Long gameId, Integer playerNumber, Integer roundNumber) {
+        return Constants.CacheKey.RACK + ":" + gameId + ":" + playerNumber + ":" + roundNumber;
+    }
+
+    private static VirtualBoard copy(VirtualBoard board) {
+        return new VirtualBoard(
+                board.getCells().stream().map(cell -> cell.toBuilder().build()).collect(Collectors.toList()));
+    }
+
+    private static VirtualRack copy(VirtualRack rack) {
+        return new VirtualRack(
+                rack.getTiles().stream().map(tile -> tile.toBuilder().build()).collect(Collectors.toList()));
+    }
+
+}
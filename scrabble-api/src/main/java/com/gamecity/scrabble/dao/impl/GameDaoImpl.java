@@ -1,5 +1,6 @@
 package com.gamecity.scrabble.dao.impl;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -9,10 +10,21 @@ import org.springframework.stereotype.Repository;
 import com.gamecity.scrabble.Constants;
 import com.gamecity.scrabble.dao.GameDao;
 import com.gamecity.scrabble.entity.Game;
+import com.gamecity.scrabble.entity.GameStatus;
 
 @Repository(value = "gameDao")
 class GameDaoImpl extends AbstractDaoImpl<Game> implements GameDao {
 
+    @Override
+    public Game save(Game game) {
+        final Game savedGame = super.save(game);
+        // the deadline of the current turn is stored with the game, so the expired turns are found by an index
+        savedGame.setTurnDeadline(GameStatus.IN_PROGRESS == savedGame.getStatus()
+                ? savedGame.getLastUpdatedDate().plusSeconds(savedGame.getDuration())
+                : null);
+        return savedGame;
+    }
+
     @Override
     public List<Game> search(Long userId, boolean includeUser) {
         final List<Pair<String, Object>> parameters = Arrays.asList(Pair.of("userId", userId));
@@ -23,4 +35,22 @@ class GameDaoImpl extends AbstractDaoImpl<Game> implements GameDao {
         return listByNamedQuery(Constants.NamedQuery.searchGames, parameters);
     }
 
+    @Override
+    public List<Game> getExpiredGames(LocalDateTime time, Game lastGame, int count) {
+        if (lastGame == null) {
+            return listByNamedQuery(Constants.NamedQuery.getExpiredGames, Arrays.asList(Pair.of("time", time)), count);
+        }
+
+        // the games are paged by the order of the index, so a page is found without skipping the previous pages
+        return listByNamedQuery(Constants.NamedQuery.getExpiredGamesAfter, Arrays.asList(Pair.of("time", time),
+                Pair.of("turnDeadline", lastGame.getTurnDeadline()), Pair.of("id", lastGame.getId())), count);
+    }
+
+    @Override
+    public Integer getVersion(Long id) {
+        final List<Integer> versions =
+                listGenericByNamedQuery(Constants.NamedQuery.getGameVersion, Arrays.asList(Pair.of("id", id)));
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
 }
@@ -0,0 +1,129 @@
+package com.gamecity.scrabble.dao.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.gamecity.scrabble.entity.Game;
+import com.gamecity.scrabble.entity.GameArchive;
+import com.gamecity.scrabble.model.VirtualBoardDelta;
+import com.gamecity.scrabble.model.VirtualRack;
+
+/**
+ * The board history and the racks of the players of a {@link Game game} as they are stored in Redis. The
+ * history is written to the {@link GameArchive archive} as a single compressed blob, the entries are kept
+ * in their Redis format, so they are read back with the serializer of the Redis values.
+ *
+ * @author ekarakus
+ */
+final class GameHistory {
+
+    private final List<byte[]> boards;
+    private final List<List<byte[]>> racks;
+
+    /**
+     * Creates the history of a game
+     *
+     * @param boards the serialized {@link VirtualBoardDelta board history entries} in the version order
+     * @param racks  the serialized {@link VirtualRack racks} of each player in the round order
+     */
+    GameHistory(final List<byte[]> boards, final List<List<byte[]>> racks) {
+        this.boards = boards;
+        this.racks = racks;
+    }
+
+    /**
+     * Gets the serialized board history entries
+     *
+     * @return the board history entries
+     */
+    List<byte[]> getBoards() {
+        return boards;
+    }
+
+    /**
+     * Gets the serialized racks of the player
+     *
+     * @param playerNumber <code>number</code> of the player
+     * @return the racks, empty if the player is not in the history
+     */
+    List<byte[]> getRacks(Integer playerNumber) {
+        return playerNumber < 1 || playerNumber > racks.size() ? Collections.emptyList()
+                : racks.get(playerNumber - 1);
+    }
+
+    /**
+     * Gets the number of the board history entries and the racks in the history
+     *
+     * @return the number of the entries
+     */
+    int getEntryCount() {
+        return boards.size() + racks.stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Writes the history as a compressed blob
+     *
+     * @return the compressed history
+     */
+    byte[] compress() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            writeEntries(output, boards);
+            output.writeInt(racks.size());
+            for (List<byte[]> playerRacks : racks) {
+                writeEntries(output, playerRacks);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("The game history cannot be compressed", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a history from a compressed blob
+     *
+     * @param bytes the compressed history
+     * @return the history
+     */
+    static GameHistory decompress(byte[] bytes) {
+        try (DataInputStream input = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes)))) {
+            final List<byte[]> boards = readEntries(input);
+            final int playerCount = input.readInt();
+            final List<List<byte[]>> racks = new ArrayList<>(playerCount);
+            for (int index = 0; index < playerCount; index++) {
+                racks.add(readEntries(input));
+            }
+            return new GameHistory(boards, racks);
+        } catch (IOException e) {
+            throw new IllegalStateException("The game history cannot be decompressed", e);
+        }
+    }
+
+    private static void writeEntries(DataOutputStream output, List<byte[]> entries) throws IOException {
+        output.writeInt(entries.size());
+        for (byte[] entry : entries) {
+            output.writeInt(entry.length);
+            output.write(entry);
+        }
+    }
+
+    private static List<byte[]> readEntries(DataInputStream input) throws IOException {
+        final int entryCount = input.readInt();
+        final List<byte[]> entries = new ArrayList<>(entryCount);
+        for (int index = 0; index < entryCount; index++) {
+            final byte[] entry = new byte[input.readInt()];
+            input.readFully(entry);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+}
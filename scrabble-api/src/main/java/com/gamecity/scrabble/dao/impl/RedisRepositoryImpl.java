@@ -1,21 +1,45 @@
 package com.gamecity.scrabble.dao.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.BoundListOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 import com.gamecity.scrabble.Constants;
 import com.gamecity.scrabble.dao.RedisRepository;
 import com.gamecity.scrabble.entity.Action;
 import com.gamecity.scrabble.entity.Chat;
+import com.gamecity.scrabble.entity.GameArchive;
+import com.gamecity.scrabble.entity.Tile;
 import com.gamecity.scrabble.model.VirtualRack;
 import com.gamecity.scrabble.model.Mapper;
 import com.gamecity.scrabble.model.VirtualBoard;
+import com.gamecity.scrabble.model.VirtualBoardDelta;
+import com.gamecity.scrabble.model.rest.ActionDto;
 import com.gamecity.scrabble.model.rest.ChatDto;
 import com.gamecity.scrabble.util.JsonUtils;
 
+import static com.gamecity.scrabble.Constants.Game.BOARD_CHECKPOINT_INTERVAL;
+
+import lombok.extern.slf4j.Slf4j;
+
 @Repository(value = "redisRepository")
-class RedisRepositoryImpl implements RedisRepository {
+@Slf4j
+class RedisRepositoryImpl implements RedisRepository, MessageListener {
+
+    private final GameCache gameCache = new GameCache();
 
     private RedisTemplate<String, Object> redisTemplate;
 
@@ -25,8 +49,9 @@ class RedisRepositoryImpl implements RedisRepository {
 
     @Override
     public void publishAction(Long gameId, Action action) {
+        // the actions are published on the channel of the game, so a subscriber is notified only by its games
         final String payload = JsonUtils.toJson(Mapper.toDto(action));
-        redisTemplate.convertAndSend(Constants.CacheKey.ACTION, payload);
+        redisTemplate.convertAndSend(Constants.CacheKey.ACTION + ":" + gameId, payload);
     }
 
     @Override
@@ -37,32 +62,298 @@ class RedisRepositoryImpl implements RedisRepository {
 
     @Override
     public void updateBoard(Long gameId, VirtualBoard board) {
-        redisTemplate.boundListOps(Constants.CacheKey.BOARD + ":" + gameId).rightPush(board);
+        final BoundListOperations<String, Object> boards = redisTemplate
+                .boundListOps(Constants.CacheKey.BOARD + ":" + gameId);
+        final Long size = boards.size();
+        boards.rightPush(createBoardEntry(size, board));
+
+        // the latest board is kept as a whole, so the current board is read without the history
+        final int version = size == null ? 1 : size.intValue() + 1;
+        redisTemplate.opsForValue()
+                .set(Constants.CacheKey.LATEST_BOARD + ":" + gameId, VirtualBoardDelta.checkpoint(board, version));
+        gameCache.putBoard(gameId, version, board);
     }
 
     @Override
     public VirtualBoard getBoard(Long gameId, Integer version) {
+        if (version < 1) {
+            return null;
+        }
+
+        final VirtualBoard cachedBoard = gameCache.getBoard(gameId, version);
+        if (cachedBoard != null) {
+            return cachedBoard;
+        }
+
+        final Object latestBoard = redisTemplate.opsForValue().get(Constants.CacheKey.LATEST_BOARD + ":" + gameId);
+        if (latestBoard instanceof VirtualBoardDelta
+                && version.equals(((VirtualBoardDelta) latestBoard).getVersion())) {
+            final VirtualBoard board = VirtualBoardDelta.restore(List.of(latestBoard));
+            gameCache.putBoard(gameId, version, board);
+            board.markVersion(version);
+            return board;
+        }
+
         final BoundListOperations<String, Object> boards = redisTemplate
                 .boundListOps(Constants.CacheKey.BOARD + ":" + gameId);
-        return (VirtualBoard) boards.range(version - 1, -1).stream().findFirst().orElse(null);
+
+        // read the version with the last checkpoint before it
+        final int index = version - 1;
+        final int checkpointIndex = index - index % BOARD_CHECKPOINT_INTERVAL;
+        final List<Object> entries = boards.range(checkpointIndex, index);
+        if (entries == null || entries.size() != index - checkpointIndex + 1) {
+            return null;
+        }
+
+        final VirtualBoard board = VirtualBoardDelta.restore(entries);
+        gameCache.putBoard(gameId, version, board);
+        board.markVersion(version);
+        return board;
     }
 
     @Override
     public void fillRack(Long gameId, Integer playerNumber, VirtualRack rack) {
-        redisTemplate.boundListOps(Constants.CacheKey.RACK + ":" + gameId + ":" + playerNumber).rightPush(rack);
+        final long generation = gameCache.getGeneration();
+        final Long size = redisTemplate.boundListOps(Constants.CacheKey.RACK + ":" + gameId + ":" + playerNumber)
+                .rightPush(rack);
+        if (size != null) {
+            gameCache.putRack(gameId, playerNumber, size.intValue(), rack, generation);
+        }
     }
 
     @Override
     public void updateRack(Long gameId, Integer playerNumber, Integer roundNumber, VirtualRack rack) {
         redisTemplate.boundListOps(Constants.CacheKey.RACK + ":" + gameId + ":" + playerNumber)
                 .set(roundNumber - 1, rack);
+        gameCache.putRack(gameId, playerNumber, roundNumber, rack, gameCache.getGeneration());
     }
 
     @Override
     public VirtualRack getRack(Long gameId, Integer playerNumber, Integer roundNumber) {
+        final VirtualRack cachedRack = gameCache.getRack(gameId, playerNumber, roundNumber);
+        if (cachedRack != null) {
+            return cachedRack;
+        }
+
+        final long generation = gameCache.getGeneration();
         final BoundListOperations<String, Object> racks = redisTemplate
                 .boundListOps(Constants.CacheKey.RACK + ":" + gameId + ":" + playerNumber);
-        return (VirtualRack) racks.range(roundNumber - 1, -1).stream().findFirst().orElse(null);
+        final VirtualRack rack = (VirtualRack) racks.index(roundNumber - 1);
+        if (rack != null) {
+            gameCache.putRack(gameId, playerNumber, roundNumber, rack, generation);
+        }
+        return rack;
+    }
+
+    @Override
+    public void commitMove(Long gameId, Integer playerNumber, Integer roundNumber, VirtualRack updatedRack,
+                           VirtualRack filledRack, List<Tile> tiles, VirtualBoard board) {
+        final String rackKey = Constants.CacheKey.RACK + ":" + gameId + ":" + playerNumber;
+        final String boardKey = Constants.CacheKey.BOARD + ":" + gameId;
+        final long generation = gameCache.getGeneration();
+
+        final Integer version = redisTemplate.execute(new SessionCallback<Integer>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Integer execute(RedisOperations<K, V> redisOperations) {
+                final RedisOperations<String, Object> operations = (RedisOperations<String, Object>) redisOperations;
+
+                // the transaction is discarded if another move appends a board after the size is read
+                operations.watch(boardKey);
+                final Long size = operations.opsForList().size(boardKey);
+                final int version = size == null ? 1 : size.intValue() + 1;
+
+                // the commands are queued and sent to Redis at once when the transaction is executed
+                operations.multi();
+                operations.opsForList().set(rackKey, roundNumber - 1, updatedRack);
+                operations.opsForList().rightPush(rackKey, filledRack);
+                operations.opsForValue()
+                        .set(Constants.CacheKey.TILES + ":" + gameId, tiles,
+                                Duration.ofSeconds(Constants.Game.CACHE_TTL_SECONDS));
+                operations.opsForList().rightPush(boardKey, createBoardEntry(size, board));
+                operations.opsForValue()
+                        .set(Constants.CacheKey.LATEST_BOARD + ":" + gameId,
+                                VirtualBoardDelta.checkpoint(board, version));
+                final List<Object> results = operations.exec();
+                return results == null || results.isEmpty() ? null : version;
+            }
+        });
+
+        if (version == null) {
+            throw new IllegalStateException("The move cannot be stored, game " + gameId + " has been updated!");
+        }
+
+        gameCache.putRack(gameId, playerNumber, roundNumber, updatedRack, generation);
+        gameCache.putRack(gameId, playerNumber, roundNumber + 1, filledRack, generation);
+        gameCache.putBoard(gameId, version, board);
+        log.debug("Move of player {} has been stored as board version {} on game {}", playerNumber, version, gameId);
+    }
+
+    @Override
+    public GameArchive createArchive(Long gameId, Integer playerCount) {
+        // the raw values are archived, so the entries are not deserialized and serialized again
+        final List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(rawKey(Constants.CacheKey.LATEST_BOARD + ":" + gameId));
+            connection.listCommands().lRange(rawKey(Constants.CacheKey.BOARD + ":" + gameId), 0, -1);
+            IntStream.range(1, playerCount + 1).forEach(playerNumber -> connection.listCommands()
+                    .lRange(rawKey(Constants.CacheKey.RACK + ":" + gameId + ":" + playerNumber), 0, -1));
+            return null;
+        }, RedisSerializer.byteArray());
+
+        final byte[] latestBoard = (byte[]) values.get(0);
+        if (latestBoard == null) {
+            return null;
+        }
+
+        final List<byte[]> boards = toEntries(values.get(1));
+        final List<List<byte[]>> racks = values.subList(2, values.size())
+                .stream()
+                .map(RedisRepositoryImpl::toEntries)
+                .collect(Collectors.toList());
+        final GameHistory history = new GameHistory(boards, racks);
+
+        final VirtualBoardDelta board = (VirtualBoardDelta) redisTemplate.getValueSerializer()
+                .deserialize(latestBoard);
+        final GameArchive archive = GameArchive.builder()
+                .gameId(gameId)
+                .boardVersion(board.getVersion() == null ? boards.size() : board.getVersion())
+                .board(latestBoard)
+                .history(history.compress())
+                .build();
+        log.info("Archive of game {} has been created with {} entries in {} bytes", gameId,
+                history.getEntryCount(), archive.getBoard().length + archive.getHistory().length);
+        return archive;
+    }
+
+    @Override
+    public long releaseContent(Long gameId, Integer playerCount) {
+        final long ttlSeconds = Constants.Game.ARCHIVED_CONTENT_TTL_SECONDS;
+        final List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands()
+                    .del(rawKey(Constants.CacheKey.BOARD + ":" + gameId),
+                            rawKey(Constants.CacheKey.TILES + ":" + gameId));
+            connection.keyCommands().expire(rawKey(Constants.CacheKey.LATEST_BOARD + ":" + gameId), ttlSeconds);
+            IntStream.range(1, playerCount + 1).forEach(playerNumber -> connection.keyCommands()
+                    .expire(rawKey(Constants.CacheKey.RACK + ":" + gameId + ":" + playerNumber), ttlSeconds));
+            return null;
+        });
+
+        // the number of the removed keys and whether an expiring key exists
+        return results.stream()
+                .mapToLong(result -> result instanceof Long ? (Long) result : Boolean.TRUE.equals(result) ? 1 : 0)
+                .sum();
+    }
+
+    @Override
+    public VirtualBoard getArchivedBoard(GameArchive archive, Integer version) {
+        if (version < 1 || version > archive.getBoardVersion()) {
+            return null;
+        }
+
+        final RedisSerializer<?> serializer = redisTemplate.getValueSerializer();
+        final VirtualBoard board;
+        if (version.equals(archive.getBoardVersion())) {
+            board = VirtualBoardDelta.restore(List.of(serializer.deserialize(archive.getBoard())));
+        } else {
+            final List<byte[]> boards = GameHistory.decompress(archive.getHistory()).getBoards();
+            if (boards.size() < version) {
+                return null;
+            }
+
+            // read the version with the last checkpoint before it
+            final int index = version - 1;
+            final int checkpointIndex = index - index % BOARD_CHECKPOINT_INTERVAL;
+            board = VirtualBoardDelta.restore(boards.subList(checkpointIndex, index + 1)
+                    .stream()
+                    .map(serializer::deserialize)
+                    .collect(Collectors.toList()));
+        }
+
+        gameCache.putBoard(archive.getGameId(), version, board);
+        board.markVersion(version);
+        return board;
+    }
+
+    @Override
+    public VirtualRack getArchivedRack(GameArchive archive, Integer playerNumber, Integer roundNumber) {
+        final long generation = gameCache.getGeneration();
+        final List<byte[]> racks = GameHistory.decompress(archive.getHistory()).getRacks(playerNumber);
+        if (roundNumber < 1 || roundNumber > racks.size()) {
+            return null;
+        }
+
+        final VirtualRack rack = (VirtualRack) redisTemplate.getValueSerializer()
+                .deserialize(racks.get(roundNumber - 1));
+        gameCache.putRack(archive.getGameId(), playerNumber, roundNumber, rack, generation);
+        return rack;
+    }
+
+    @Override
+    public void scheduleTimer(String timerKey, long dueTime) {
+        redisTemplate.opsForZSet().add(Constants.CacheKey.TIMERS, timerKey, dueTime);
+    }
+
+    @Override
+    public boolean removeTimer(String timerKey) {
+        // only one of the nodes removes the timer when the nodes try to run it at the same time
+        final Long count = redisTemplate.opsForZSet().remove(Constants.CacheKey.TIMERS, timerKey);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public boolean claimTimer(String timerKey) {
+        // the claim expires, so the timer is claimed again if the node fails to run it
+        final Boolean claimed = redisTemplate.opsForValue().setIfAbsent(Constants.CacheKey.TIMERS + ":" + timerKey,
+                Boolean.TRUE, Duration.ofSeconds(Constants.Game.TIMER_CLAIM_TTL_SECONDS));
+        return Boolean.TRUE.equals(claimed);
+    }
+
+    @Override
+    public List<String> getDueTimers(long time, int count) {
+        final Set<Object> timerKeys = redisTemplate.opsForZSet()
+                .rangeByScore(Constants.CacheKey.TIMERS, Double.NEGATIVE_INFINITY, time, 0, count);
+        if (timerKeys == null) {
+            return List.of();
+        }
+        return timerKeys.stream().map(String.class::cast).collect(Collectors.toList());
+    }
+
+    /*
+     * Creates the history entry of the board that is appended after the given number of entries
+     */
+    private static VirtualBoardDelta createBoardEntry(Long size, VirtualBoard board) {
+        // a delta can only be stored if the board is read from the last version
+        if (size == null || size % BOARD_CHECKPOINT_INTERVAL == 0
+                || !Integer.valueOf(size.intValue()).equals(board.getVersion())) {
+            return VirtualBoardDelta.checkpoint(board);
+        }
+        return VirtualBoardDelta.of(board);
+    }
+
+    /*
+     * Converts a key to the bytes written by the key serializer
+     */
+    private static byte[] rawKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<byte[]> toEntries(Object values) {
+        return values == null ? List.of() : (List<byte[]>) values;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            // the racks of the game may be updated by another node before the action is published
+            final String payload = (String) redisTemplate.getValueSerializer().deserialize(message.getBody());
+            final ActionDto actionDto = JsonUtils.toDto(payload, ActionDto.class);
+            if (actionDto != null) {
+                gameCache.invalidateRacks(actionDto.getGameId());
+            }
+        } catch (Exception e) {
+            log.error("The cached racks cannot be invalidated by the action {}", message, e);
+        }
     }
 
 }
@@ -49,6 +49,9 @@ public class Action extends AbstractEntity implements Serializable {
     @Column(name = "version")
     private Integer version;
 
+    @Column(name = "board_version")
+    private Integer boardVersion;
+
     @Column(name = "current_player_number")
     private Integer currentPlayerNumber;
 
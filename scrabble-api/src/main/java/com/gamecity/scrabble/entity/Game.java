@@ -38,7 +38,16 @@ import lombok.experimental.SuperBuilder;
         @NamedQuery(name = Constants.NamedQuery.searchGames, query = "Select g from Game g "
                 + " where g.status = 'WAITING' " + "   and not exists (select userId from Player p "
                 + "                    where p.gameId = g.id " + "                      and p.leftDate is null "
-                + "                      and p.userId = :userId) " + " order by g.createdDate asc")
+                + "                      and p.userId = :userId) " + " order by g.createdDate asc"),
+        @NamedQuery(name = Constants.NamedQuery.getExpiredGames, query = "Select g from Game g "
+                + " where g.status = 'IN_PROGRESS' " + "   and g.turnDeadline < :time "
+                + " order by g.turnDeadline asc, g.id asc"),
+        @NamedQuery(name = Constants.NamedQuery.getExpiredGamesAfter, query = "Select g from Game g "
+                + " where g.status = 'IN_PROGRESS' " + "   and g.turnDeadline < :time "
+                + "   and (g.turnDeadline > :turnDeadline or (g.turnDeadline = :turnDeadline and g.id > :id)) "
+                + " order by g.turnDeadline asc, g.id asc"),
+        @NamedQuery(name = Constants.NamedQuery.getGameVersion, query = "Select g.version from Game g "
+                + " where g.id = :id")
 })
 public class Game extends AbstractEntity {
 
@@ -94,4 +103,7 @@ public class Game extends AbstractEntity {
     @Column(name = "end_date")
     private LocalDateTime endDate;
 
+    @Column(name = "turn_deadline")
+    private LocalDateTime turnDeadline;
+
 }
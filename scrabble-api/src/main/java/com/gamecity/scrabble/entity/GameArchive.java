@@ -0,0 +1,53 @@
+package com.gamecity.scrabble.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Table;
+
+import com.gamecity.scrabble.Constants;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * An archive keeps the board and the rack history of an ended or terminated {@link Game game} after they
+ * are removed from Redis
+ * 
+ * @author ekarakus
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(exclude = { "board", "history" })
+@NoArgsConstructor
+@SuperBuilder
+@Entity(name = "GameArchive")
+@Table(name = "game_archives")
+@NamedQueries({
+        @NamedQuery(name = Constants.NamedQuery.getGameArchive, query = "Select a from GameArchive a"
+                + " where a.gameId = :gameId")
+})
+public class GameArchive extends AbstractEntity {
+
+    // @JoinColumn(name = "game_id", referencedColumnName = "id", foreignKey = @ForeignKey(name =
+    // "FK_GAME_ARCHIVE_GAME"))
+    @Column(name = "game_id", nullable = false, unique = true)
+    private Long gameId;
+
+    // version of the last board of the game
+    @Column(name = "board_version", nullable = false)
+    private Integer boardVersion;
+
+    // the last board of the game as a single snapshot
+    @Column(name = "board", nullable = false)
+    private byte[] board;
+
+    // the compressed board history and racks of the players
+    @Column(name = "history", nullable = false)
+    private byte[] history;
+
+}
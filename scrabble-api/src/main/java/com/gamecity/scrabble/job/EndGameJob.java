@@ -1,9 +1,5 @@
 package com.gamecity.scrabble.job;
 
-import org.quartz.Job;
-import org.quartz.JobDataMap;
-import org.quartz.JobExecutionContext;
-import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -11,17 +7,19 @@ import com.gamecity.scrabble.dao.RedisRepository;
 import com.gamecity.scrabble.entity.Action;
 import com.gamecity.scrabble.entity.Game;
 import com.gamecity.scrabble.service.ActionService;
+import com.gamecity.scrabble.service.ContentService;
 import com.gamecity.scrabble.service.GameService;
 
 /**
- * A Quartz {@link Job job} to end a game when the status of a {@link Game game} is ready to end
+ * A job to end a {@link Game game} when the status of the game is ready to end
  * 
  * @author ekarakus
  */
 @Component
-public class EndGameJob implements Job {
+public class EndGameJob {
 
     private ActionService actionService;
+    private ContentService contentService;
     private GameService gameService;
     private RedisRepository redisRepository;
 
@@ -30,6 +28,11 @@ public class EndGameJob implements Job {
         this.actionService = actionService;
     }
 
+    @Autowired
+    void setContentService(ContentService contentService) {
+        this.contentService = contentService;
+    }
+
     @Autowired
     void setGameService(GameService gameService) {
         this.gameService = gameService;
@@ -40,15 +43,19 @@ public class EndGameJob implements Job {
         this.redisRepository = redisRepository;
     }
 
-    @Override
-    public void execute(JobExecutionContext context) throws JobExecutionException {
-        final JobDataMap dataMap = context.getJobDetail().getJobDataMap();
-
-        final Long gameId = dataMap.getLong("gameId");
+    /**
+     * Ends the {@link Game game} and archives the content of the game
+     * 
+     * @param gameId <code>id</code> of the game
+     */
+    public void end(Long gameId) {
         final Game game = gameService.end(gameId);
 
         final Action action = actionService.getAction(gameId, game.getVersion());
         redisRepository.publishAction(action.getGameId(), action);
+
+        // the content of the game is archived after the players are notified
+        contentService.archive(game);
     }
 
 }
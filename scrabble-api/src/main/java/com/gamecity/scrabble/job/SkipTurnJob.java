@@ -1,9 +1,5 @@
 package com.gamecity.scrabble.job;
 
-import org.quartz.Job;
-import org.quartz.JobDataMap;
-import org.quartz.JobExecutionContext;
-import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -19,13 +15,13 @@ import com.gamecity.scrabble.service.PlayerService;
 import com.gamecity.scrabble.service.VirtualRackService;
 
 /**
- * A Quartz {@link Job job} to skip the turn of a {@link Player player} at the end of the play
- * duration in a {@link Game game}
+ * A job to skip the turn of a {@link Player player} at the end of the play duration in a
+ * {@link Game game}
  * 
  * @author ekarakus
  */
 @Component
-public class SkipTurnJob implements Job {
+public class SkipTurnJob {
 
     private ActionService actionService;
     private GameService gameService;
@@ -58,14 +54,13 @@ public class SkipTurnJob implements Job {
         this.redisRepository = redisRepository;
     }
 
-    @Override
-    public void execute(JobExecutionContext context) throws JobExecutionException {
-        final JobDataMap dataMap = context.getJobDetail().getJobDataMap();
-
-        final Long gameId = dataMap.getLong("gameId");
-        final Integer playerNumber = dataMap.getInt("playerNumber");
-        final Integer version = dataMap.getInt("version");
-
+    /**
+     * Skips the turn of the current {@link Player player} unless the player has already played the turn
+     * 
+     * @param gameId  <code>id</code> of the game
+     * @param version <code>version</code> of the game when the turn started
+     */
+    public void skipTurn(Long gameId, Integer version) {
         final Game game = gameService.get(gameId);
 
         // TODO add a test for version validation
@@ -74,6 +69,7 @@ public class SkipTurnJob implements Job {
             return;
         }
 
+        final Integer playerNumber = game.getCurrentPlayerNumber();
         final Player player = playerService.getByPlayerNumber(gameId, playerNumber);
         final VirtualRack virtualRack = virtualRackService.getRack(gameId, playerNumber, game.getRoundNumber());
 
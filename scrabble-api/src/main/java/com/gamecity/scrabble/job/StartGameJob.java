@@ -1,9 +1,5 @@
 package com.gamecity.scrabble.job;
 
-import org.quartz.Job;
-import org.quartz.JobDataMap;
-import org.quartz.JobExecutionContext;
-import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -15,12 +11,12 @@ import com.gamecity.scrabble.service.GameService;
 import com.gamecity.scrabble.service.SchedulerService;
 
 /**
- * A Quartz {@link Job job} to start a game when the status of a {@link Game game} is ready to start
+ * A job to start a {@link Game game} when the status of the game is ready to start
  * 
  * @author ekarakus
  */
 @Component
-public class StartGameJob implements Job {
+public class StartGameJob {
 
     private ActionService actionService;
     private GameService gameService;
@@ -47,11 +43,12 @@ public class StartGameJob implements Job {
         this.redisRepository = redisRepository;
     }
 
-    @Override
-    public void execute(JobExecutionContext context) throws JobExecutionException {
-        final JobDataMap dataMap = context.getJobDetail().getJobDataMap();
-
-        final Long gameId = dataMap.getLong("gameId");
+    /**
+     * Starts the {@link Game game} and schedules the jobs of the first round
+     * 
+     * @param gameId <code>id</code> of the game
+     */
+    public void start(Long gameId) {
         final Game game = gameService.start(gameId);
 
         final Action action = actionService.getAction(gameId, game.getVersion());
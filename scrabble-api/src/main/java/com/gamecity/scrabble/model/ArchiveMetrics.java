@@ -0,0 +1,32 @@
+package com.gamecity.scrabble.model;
+
+import com.gamecity.scrabble.entity.Game;
+import com.gamecity.scrabble.entity.GameArchive;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Metrics of the {@link GameArchive archives} created for the ended and terminated {@link Game games} and
+ * the Redis keys released after the games are archived
+ * 
+ * @author ekarakus
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveMetrics {
+
+    // number of the games archived since the application is started
+    private long archivedGameCount;
+
+    // total size of the archives in bytes
+    private long archivedSize;
+
+    // number of the Redis keys removed or set to expire after the games are archived
+    private long releasedKeyCount;
+
+}
@@ -0,0 +1,169 @@
+package com.gamecity.scrabble.model;
+
+import static com.gamecity.scrabble.Constants.Game.BOARD_SIZE;
+import static com.gamecity.scrabble.model.Direction.HORIZONTAL;
+
+/**
+ * Primitive representation of a {@link VirtualBoard board} to validate the moves. The used and the
+ * sealed cells of each row and column are kept as bits, the bit of a cell in a row is its column
+ * number - 1 and the bit of a cell in a column is its row number - 1. The neighbour checks are bit
+ * operations that don't create any objects.
+ * 
+ * The bit board is created from the {@link VirtualCell cells} of the board and the cells are sealed
+ * through the bit board, so both representations stay the same.
+ * 
+ * @author ekarakus
+ */
+public final class BitBoard {
+
+    private static final int SIZE = BOARD_SIZE;
+    private static final int ALL_CELLS = (1 << SIZE) - 1;
+
+    private final int[] rows = new int[SIZE];
+    private final int[] columns = new int[SIZE];
+    private final int[] sealedRows = new int[SIZE];
+    private final int[] sealedColumns = new int[SIZE];
+    private final char[] letters = new char[SIZE * SIZE];
+
+    private int centerRowNumber;
+    private int centerColumnNumber;
+
+    /**
+     * Creates a bit board from the cells of the given board
+     * 
+     * @param virtualBoard the board
+     */
+    public BitBoard(final VirtualBoard virtualBoard) {
+        for (VirtualCell cell : virtualBoard.getCells()) {
+            final int rowNumber = cell.getRowNumber();
+            final int columnNumber = cell.getColumnNumber();
+
+            if (cell.isCenter()) {
+                centerRowNumber = rowNumber;
+                centerColumnNumber = columnNumber;
+            }
+
+            if (cell.getLetter() != null) {
+                rows[rowNumber - 1] |= bit(columnNumber);
+                columns[columnNumber - 1] |= bit(rowNumber);
+                letters[(rowNumber - 1) * SIZE + columnNumber - 1] = cell.getLetter().charAt(0);
+                if (cell.isSealed()) {
+                    sealedRows[rowNumber - 1] |= bit(columnNumber);
+                    sealedColumns[columnNumber - 1] |= bit(rowNumber);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the bit of the given row or column number
+     * 
+     * @param number row or column number
+     * @return the bit
+     */
+    public static int bit(int number) {
+        return 1 << (number - 1);
+    }
+
+    /**
+     * Returns the used cells of the row or the column with the given <code>index</code>
+     * 
+     * @param direction HORIZONTAL for a row, VERTICAL for a column
+     * @param index     row or column number
+     * @return the bits of the used cells
+     */
+    public int getLine(Direction direction, int index) {
+        return HORIZONTAL == direction ? rows[index - 1] : columns[index - 1];
+    }
+
+    /**
+     * Returns the sealed cells of the row or the column with the given <code>index</code>
+     * 
+     * @param direction HORIZONTAL for a row, VERTICAL for a column
+     * @param index     row or column number
+     * @return the bits of the sealed cells
+     */
+    public int getSealedLine(Direction direction, int index) {
+        return HORIZONTAL == direction ? sealedRows[index - 1] : sealedColumns[index - 1];
+    }
+
+    /**
+     * Returns the center cell of the row or the column with the given <code>index</code>
+     * 
+     * @param direction HORIZONTAL for a row, VERTICAL for a column
+     * @param index     row or column number
+     * @return the bit of the center cell, 0 if the center is not in the line
+     */
+    public int getCenterLine(Direction direction, int index) {
+        if (HORIZONTAL == direction) {
+            return index == centerRowNumber ? bit(centerColumnNumber) : 0;
+        }
+        return index == centerColumnNumber ? bit(centerRowNumber) : 0;
+    }
+
+    /**
+     * Returns the letter of the cell
+     * 
+     * @param rowNumber    row number of the cell
+     * @param columnNumber column number of the cell
+     * @return the letter, 0 if the cell is empty
+     */
+    public char getLetter(int rowNumber, int columnNumber) {
+        return letters[(rowNumber - 1) * SIZE + columnNumber - 1];
+    }
+
+    /**
+     * Whether the cell is sealed
+     * 
+     * @param rowNumber    row number of the cell
+     * @param columnNumber column number of the cell
+     * @return true if the cell is sealed
+     */
+    public boolean isSealed(int rowNumber, int columnNumber) {
+        return (sealedRows[rowNumber - 1] & bit(columnNumber)) != 0;
+    }
+
+    /**
+     * Whether any of the horizontal or vertical neighbours of the cell is used
+     * 
+     * @param rowNumber    row number of the cell
+     * @param columnNumber column number of the cell
+     * @return true if a neighbour is used
+     */
+    public boolean hasUsedNeighbour(int rowNumber, int columnNumber) {
+        return (rows[rowNumber - 1] & neighbours(columnNumber)) != 0
+                || (columns[columnNumber - 1] & neighbours(rowNumber)) != 0;
+    }
+
+    /**
+     * Whether any of the horizontal or vertical neighbours of the cell is sealed
+     * 
+     * @param rowNumber    row number of the cell
+     * @param columnNumber column number of the cell
+     * @return true if a neighbour is sealed
+     */
+    public boolean hasSealedNeighbour(int rowNumber, int columnNumber) {
+        return (sealedRows[rowNumber - 1] & neighbours(columnNumber)) != 0
+                || (sealedColumns[columnNumber - 1] & neighbours(rowNumber)) != 0;
+    }
+
+    /**
+     * Seals the given cell on both the bit board and the cell
+     * 
+     * @param cell the cell
+     */
+    public void seal(VirtualCell cell) {
+        sealedRows[cell.getRowNumber() - 1] |= bit(cell.getColumnNumber());
+        sealedColumns[cell.getColumnNumber() - 1] |= bit(cell.getRowNumber());
+        cell.setSealed(true);
+    }
+
+    /*
+     * Returns the bits of the previous and the next cells in a line
+     */
+    private static int neighbours(int number) {
+        final int bit = bit(number);
+        return ((bit << 1) | (bit >>> 1)) & ALL_CELLS;
+    }
+
+}
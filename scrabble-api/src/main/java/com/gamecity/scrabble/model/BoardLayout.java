@@ -0,0 +1,78 @@
+package com.gamecity.scrabble.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gamecity.scrabble.entity.Cell;
+
+import static com.gamecity.scrabble.Constants.Game.BOARD_SIZE;
+
+/**
+ * Static layout of a {@link VirtualBoard board} created from the {@link Cell cells}. The position, the
+ * color, the multipliers and the neighbours of a cell are the same in every game, only the letter, the
+ * value, the round and the sealed/last played flags of a {@link VirtualCell virtual cell} change.
+ *
+ * @author ekarakus
+ */
+public final class BoardLayout {
+
+    private final Cell[] cells = new Cell[BOARD_SIZE * BOARD_SIZE];
+
+    /**
+     * Creates the layout of the given cells
+     *
+     * @param cells the cells of the board
+     * @throws IllegalStateException if a cell of the board is missing
+     */
+    public BoardLayout(final List<Cell> cells) {
+        cells.stream()
+                .filter(cell -> cell.getCellNumber() >= 1 && cell.getCellNumber() <= this.cells.length)
+                .forEach(cell -> this.cells[cell.getCellNumber() - 1] = cell);
+
+        for (int index = 0; index < this.cells.length; index++) {
+            if (this.cells[index] == null) {
+                throw new IllegalStateException("Cell [{" + (index / BOARD_SIZE + 1) + "},{"
+                        + (index % BOARD_SIZE + 1) + "}] is not found!");
+            }
+        }
+    }
+
+    /**
+     * Creates an empty virtual cell with the layout of the cell
+     *
+     * @param cellNumber <code>number</code> of the cell
+     * @return the virtual cell
+     */
+    public VirtualCell createCell(int cellNumber) {
+        final Cell cell = cells[cellNumber - 1];
+        return VirtualCell.builder()
+                .cellNumber(cell.getCellNumber())
+                .center(cell.isCenter())
+                .color(cell.getColor())
+                .columnNumber(cell.getColumnNumber())
+                .hasBottom(cell.isHasBottom())
+                .hasLeft(cell.isHasLeft())
+                .hasRight(cell.isHasRight())
+                .hasTop(cell.isHasTop())
+                .letterValueMultiplier(cell.getLetterValueMultiplier())
+                .rowNumber(cell.getRowNumber())
+                .sealed(false)
+                .value(0)
+                .wordScoreMultiplier(cell.getWordScoreMultiplier())
+                .build();
+    }
+
+    /**
+     * Creates the empty virtual cells of the board in the cell number order
+     *
+     * @return the virtual cells
+     */
+    public List<VirtualCell> createCells() {
+        final List<VirtualCell> virtualCells = new ArrayList<>(cells.length);
+        for (int cellNumber = 1; cellNumber <= cells.length; cellNumber++) {
+            virtualCells.add(createCell(cellNumber));
+        }
+        return virtualCells;
+    }
+
+}
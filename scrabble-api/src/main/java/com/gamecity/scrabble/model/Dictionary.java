@@ -1,97 +1,267 @@
 package com.gamecity.scrabble.model;
 
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
 import com.gamecity.scrabble.entity.Language;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /**
- * A dictionary is the stack of words in a {@link Language language}
+ * A dictionary is the stack of words in a {@link Language language}. The words are stored in a
+ * minimized directed acyclic word graph (DAWG) whose nodes and edges live in flat primitive arrays
+ * instead of one object per letter. Every word is also numbered by its lexicographical position in the
+ * graph so that the word definitions can be stored in a single UTF-8 encoded blob indexed by the word
+ * number. Dictionaries are immutable and created either by a {@link DictionaryBuilder builder} or by
+ * mapping a precompiled {@link DictionaryImage image}, in which case the buffers live in the mapped file.
  * 
  * @author ekarakus
  */
-@Data
-@AllArgsConstructor
 public class Dictionary {
 
+    /*
+     * bit layout of an edge: letter index (8 bits) | target node (28 bits) | word offset (28 bits)
+     */
+    static final int LETTER_BITS = 8;
+    static final int NODE_BITS = 28;
+    static final int OFFSET_BITS = 28;
+
+    static final long LETTER_MASK = (1L << LETTER_BITS) - 1;
+    static final long NODE_MASK = (1L << NODE_BITS) - 1;
+    static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+    private static final int ROOT = 0;
+    private static final int NOT_FOUND = -1;
+
     /*
      * language of the dictionary
      */
+    @Getter
     private final Language language;
 
     /*
-     * root node of the dictionary
+     * letters of the dictionary in ascending order
      */
-    private final DictionaryNode root;
+    @Getter(AccessLevel.PACKAGE)
+    private final char[] alphabet;
 
-    /**
-     * Creates an empty dictionary by the given <code>language</code>
-     * 
-     * @param language language of the dictionary
+    /*
+     * letter index of the characters, -1 if the character is not in the alphabet
+     */
+    private final int[] letterIndexes;
+
+    /*
+     * first edge index of each node shifted by one bit, the lowest bit marks the end of a word
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final IntBuffer nodes;
+
+    /*
+     * outgoing edges of the nodes ordered by the letter index
      */
-    public Dictionary(final Language language) {
+    @Getter(AccessLevel.PACKAGE)
+    private final LongBuffer edges;
+
+    /*
+     * offset of the definition in the definitions blob by the word number, -1 if the word has no
+     * definition
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final IntBuffer definitionOffsets;
+
+    /*
+     * length prefixed UTF-8 encoded definitions
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final ByteBuffer definitions;
+
+    Dictionary(final Language language, final char[] alphabet, final IntBuffer nodes, final LongBuffer edges,
+               final IntBuffer definitionOffsets, final ByteBuffer definitions) {
         this.language = language;
-        this.root = new DictionaryNode(language);
+        this.alphabet = alphabet;
+        this.nodes = nodes;
+        this.edges = edges;
+        this.definitionOffsets = definitionOffsets;
+        this.definitions = definitions;
+
+        final int maxLetter = alphabet.length == 0 ? 0 : alphabet[alphabet.length - 1];
+        this.letterIndexes = new int[maxLetter + 1];
+        Arrays.fill(letterIndexes, NOT_FOUND);
+        for (int index = 0; index < alphabet.length; index++) {
+            letterIndexes[alphabet[index]] = index;
+        }
     }
 
     /**
-     * Add word to the dictionary with the given word definition
+     * Search the given word in the dictionary
      * 
-     * @param word       the word
-     * @param definition definition of the word
+     * @param word the word to search
+     * @return true if the word exists
      */
-    public void add(String word, String definition) {
-        DictionaryNode current = root;
+    public boolean search(String word) {
+        return indexOf(word) != NOT_FOUND;
+    }
 
-        // adds child nodes for each letter in the word
-        for (char letter : word.toCharArray()) {
-            current = current.getChildren().computeIfAbsent(letter, c -> new DictionaryNode(language));
+    /**
+     * @param word the word to search
+     * @return the word in the dictionary
+     */
+    public DictionaryWord get(String word) {
+        final int wordNumber = indexOf(word);
+        if (wordNumber == NOT_FOUND) {
+            return null;
         }
 
-        current.setDefinition(definition);
-        current.setEndOfWord(true);
+        return getDictionaryWord(word, wordNumber);
     }
 
     /**
-     * Search the given word in the dictionary
+     * Validates the given words in the dictionary without creating a {@link DictionaryWord dictionary
+     * word} for each of them
+     * 
+     * @param words the words to validate
+     * @return the validation result
+     */
+    public WordValidation validateAll(List<? extends CharSequence> words) {
+        final int[] wordNumbers = new int[words.size()];
+        for (int index = 0; index < wordNumbers.length; index++) {
+            wordNumbers[index] = indexOf(words.get(index));
+        }
+        return new WordValidation(language, this, words, wordNumbers);
+    }
+
+    /**
+     * Finds the number of the given word in the dictionary. Words are numbered by their lexicographical
+     * order starting from zero. The letters that are not in the alphabet are searched in upper case
      * 
      * @param word the word to search
-     * @return true if the word exists
+     * @return the number of the word, -1 if the word doesn't exist
      */
-    public boolean search(String word) {
-        DictionaryNode current = root;
+    public int indexOf(CharSequence word) {
+        if (word.length() == 0) {
+            return NOT_FOUND;
+        }
+
+        int node = ROOT;
+        int wordNumber = 0;
+
+        for (int position = 0; position < word.length(); position++) {
+            final int letterIndex = letterIndexOf(word.charAt(position));
+            if (letterIndex == NOT_FOUND) {
+                return NOT_FOUND;
+            }
 
-        for (char letter : word.toCharArray()) {
-            DictionaryNode node = current.getChildren().get(letter);
-            if (node == null) {
-                return false;
+            final long edge = findEdge(node, letterIndex);
+            if (edge == NOT_FOUND) {
+                return NOT_FOUND;
             }
-            current = node;
+
+            node = (int) ((edge >>> LETTER_BITS) & NODE_MASK);
+            wordNumber += (int) ((edge >>> (LETTER_BITS + NODE_BITS)) & OFFSET_MASK);
         }
 
-        return current.isEndOfWord();
+        return isEndOfWord(node) ? wordNumber : NOT_FOUND;
     }
 
     /**
-     * @param word the word to search
-     * @return the word in the dictionary
+     * Returns the number of words in the dictionary
+     * 
+     * @return the word count
      */
-    public DictionaryWord get(String word) {
-        DictionaryNode current = root;
+    public int size() {
+        return definitionOffsets.limit();
+    }
+
+    /**
+     * Returns the number of nodes in the word graph
+     * 
+     * @return the node count
+     */
+    public int getNodeCount() {
+        return nodes.limit() - 1;
+    }
 
-        for (char letter : word.toCharArray()) {
-            DictionaryNode node = current.getChildren().get(letter);
-            if (node == null) {
-                return null;
+    /**
+     * Returns the number of edges in the word graph
+     * 
+     * @return the edge count
+     */
+    public int getEdgeCount() {
+        return edges.limit();
+    }
+
+    /**
+     * Returns the size of the dictionary in bytes
+     * 
+     * @return the memory size
+     */
+    public long getMemorySize() {
+        return (long) edges.capacity() * Long.BYTES + (long) nodes.capacity() * Integer.BYTES
+                + (long) definitionOffsets.capacity() * Integer.BYTES + definitions.capacity()
+                + (long) alphabet.length * Character.BYTES + (long) letterIndexes.length * Integer.BYTES;
+    }
+
+    /**
+     * Whether the dictionary is mapped from a {@link DictionaryImage dictionary image}. The buffers of a
+     * mapped dictionary are kept outside the heap
+     * 
+     * @return true if the dictionary is mapped
+     */
+    public boolean isMapped() {
+        return edges.isDirect();
+    }
+
+    /*
+     * Creates the dictionary word of the given word number, the definition is decoded when it is requested
+     */
+    DictionaryWord getDictionaryWord(CharSequence word, int wordNumber) {
+        return new EncodedDictionaryWord(word.toString().toUpperCase(), this, wordNumber);
+    }
+
+    private int letterIndexOf(char letter) {
+        final int letterIndex = letter < letterIndexes.length ? letterIndexes[letter] : NOT_FOUND;
+        if (letterIndex == NOT_FOUND && Character.isLowerCase(letter)) {
+            return letterIndexOf(Character.toUpperCase(letter));
+        }
+        return letterIndex;
+    }
+
+    private long findEdge(int node, int letterIndex) {
+        final int lastEdge = nodes.get(node + 1) >>> 1;
+        for (int edgeIndex = nodes.get(node) >>> 1; edgeIndex < lastEdge; edgeIndex++) {
+            final long edge = edges.get(edgeIndex);
+            final int edgeLetterIndex = (int) (edge & LETTER_MASK);
+            if (edgeLetterIndex == letterIndex) {
+                return edge;
+            } else if (edgeLetterIndex > letterIndex) {
+                // edges are ordered by the letter index
+                break;
             }
-            current = node;
         }
+        return NOT_FOUND;
+    }
 
-        // TODO add a test
-        if (!current.isEndOfWord()) {
+    private boolean isEndOfWord(int node) {
+        return (nodes.get(node) & 1) == 1;
+    }
+
+    /*
+     * Decodes the definition of the given word number
+     */
+    String getDefinition(int wordNumber) {
+        final int offset = definitionOffsets.get(wordNumber);
+        if (offset == NOT_FOUND) {
             return null;
         }
 
-        return DictionaryWord.builder().word(word.toUpperCase()).definition(current.getDefinition()).build();
+        final byte[] bytes = new byte[definitions.getInt(offset)];
+        definitions.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+
+}
@@ -0,0 +1,363 @@
+package com.gamecity.scrabble.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Scanner;
+import java.util.TreeSet;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.gamecity.scrabble.entity.Language;
+
+import static com.gamecity.scrabble.model.Dictionary.LETTER_BITS;
+import static com.gamecity.scrabble.model.Dictionary.LETTER_MASK;
+import static com.gamecity.scrabble.model.Dictionary.NODE_BITS;
+import static com.gamecity.scrabble.model.Dictionary.NODE_MASK;
+import static com.gamecity.scrabble.model.Dictionary.OFFSET_MASK;
+
+/**
+ * Builds a {@link Dictionary dictionary} from the added words. The words are sorted and then inserted
+ * into a minimal word graph by merging the equivalent suffix nodes as soon as they are complete, so the
+ * full letter tree is never kept in memory.
+ * 
+ * @author ekarakus
+ */
+public class DictionaryBuilder {
+
+    private final Language language;
+    private final List<String> words = new ArrayList<>();
+    private final List<String> definitions = new ArrayList<>();
+
+    /**
+     * Creates a builder for a dictionary in the given <code>language</code>
+     * 
+     * @param language language of the dictionary
+     */
+    public DictionaryBuilder(final Language language) {
+        this.language = language;
+    }
+
+    /**
+     * Add word to the dictionary with the given word definition. If the word is added more than once, the
+     * last definition is used
+     * 
+     * @param word       the word
+     * @param definition definition of the word
+     * @return the builder
+     */
+    public DictionaryBuilder add(String word, String definition) {
+        if (!word.isEmpty()) {
+            words.add(word);
+            definitions.add(definition);
+        }
+        return this;
+    }
+
+    /**
+     * Add the words in the given dictionary text file. Each line contains a word optionally followed by
+     * its definition, separated by a tab or a space. Words containing non letter characters are skipped.
+     * The file is read as UTF-8 regardless of the platform encoding
+     * 
+     * @param file the dictionary text file
+     * @return the builder
+     * @throws IOException if the file cannot be read
+     */
+    public DictionaryBuilder read(File file) throws IOException {
+        try (Scanner scanner = new Scanner(file, StandardCharsets.UTF_8)) {
+            while (scanner.hasNextLine()) {
+                final String content = scanner.nextLine();
+                if (content.toLowerCase().contains("\t")) {
+                    final String selectedWord = StringUtils.substringBefore(content, "\t");
+                    if (selectedWord.chars().allMatch(Character::isLetter)) {
+                        final String definition = StringUtils.substringAfter(content, "\t");
+                        add(selectedWord.toUpperCase(), definition);
+                    }
+                } else if (content.toLowerCase().contains(" ")) {
+                    final String selectedWord = StringUtils.substringBefore(content, " ");
+                    if (selectedWord.chars().allMatch(Character::isLetter)) {
+                        final String definition = StringUtils.substringAfter(content, " ");
+                        add(selectedWord.toUpperCase(), definition);
+                    }
+                } else if (content.chars().allMatch(Character::isLetter) && content.trim().length() > 1) {
+                    add(content.toUpperCase(), null);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Builds the dictionary with the added words
+     * 
+     * @return the dictionary
+     */
+    public Dictionary build() {
+        // sort the words lexicographically, the sort is stable so duplicate words keep their order
+        final Integer[] order = new Integer[words.size()];
+        Arrays.setAll(order, index -> index);
+        Arrays.sort(order, Comparator.comparing(words::get));
+
+        final char[] alphabet = createAlphabet();
+        final int[] letterIndexes = new int[alphabet.length == 0 ? 0 : alphabet[alphabet.length - 1] + 1];
+        for (int index = 0; index < alphabet.length; index++) {
+            letterIndexes[alphabet[index]] = index;
+        }
+
+        final Map<BuilderNode, BuilderNode> register = new HashMap<>();
+        final BuilderNode root = new BuilderNode();
+        final List<String> sortedDefinitions = new ArrayList<>(order.length);
+
+        String previousWord = "";
+        for (int index = 0; index < order.length; index++) {
+            final String word = words.get(order[index]);
+            final String definition = definitions.get(order[index]);
+
+            // duplicate words override the definition of the previous one
+            if (word.equals(previousWord)) {
+                sortedDefinitions.set(sortedDefinitions.size() - 1, definition);
+                continue;
+            }
+
+            final int prefixLength = commonPrefixLength(previousWord, word);
+
+            BuilderNode lastNode = root;
+            for (int position = 0; position < prefixLength; position++) {
+                lastNode = lastNode.lastChild();
+            }
+
+            if (lastNode.hasChildren()) {
+                replaceOrRegister(lastNode, register);
+            }
+
+            for (int position = prefixLength; position < word.length(); position++) {
+                lastNode = lastNode.addChild(letterIndexes[word.charAt(position)]);
+            }
+            lastNode.endOfWord = true;
+
+            sortedDefinitions.add(definition);
+            previousWord = word;
+        }
+
+        if (root.hasChildren()) {
+            replaceOrRegister(root, register);
+        }
+
+        return compile(root, alphabet, sortedDefinitions.toArray(new String[0]));
+    }
+
+    private char[] createAlphabet() {
+        final TreeSet<Character> letters = new TreeSet<>();
+        words.forEach(word -> word.chars().forEach(letter -> letters.add((char) letter)));
+
+        if (letters.size() > LETTER_MASK + 1) {
+            throw new IllegalStateException("Alphabet of the " + language + " dictionary is too large");
+        }
+
+        final char[] alphabet = new char[letters.size()];
+        int index = 0;
+        for (Character letter : letters) {
+            alphabet[index++] = letter;
+        }
+        return alphabet;
+    }
+
+    private static int commonPrefixLength(String previousWord, String word) {
+        final int maxLength = Math.min(previousWord.length(), word.length());
+        int length = 0;
+        while (length < maxLength && previousWord.charAt(length) == word.charAt(length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /*
+     * Replaces the last child of the node with an equivalent registered node or registers it
+     */
+    private static void replaceOrRegister(BuilderNode node, Map<BuilderNode, BuilderNode> register) {
+        final BuilderNode child = node.lastChild();
+        if (child.hasChildren()) {
+            replaceOrRegister(child, register);
+        }
+
+        final BuilderNode registeredNode = register.putIfAbsent(child, child);
+        if (registeredNode != null) {
+            node.children[node.childCount - 1] = registeredNode;
+        }
+    }
+
+    /*
+     * Flattens the word graph to the primitive arrays used by the dictionary
+     */
+    private Dictionary compile(BuilderNode root, char[] alphabet, String[] sortedDefinitions) {
+        final Map<BuilderNode, Integer> nodeNumbers = new IdentityHashMap<>();
+        final List<BuilderNode> nodeList = new ArrayList<>();
+
+        // number the nodes in breadth first order, the root is always the first node
+        nodeNumbers.put(root, 0);
+        nodeList.add(root);
+        int edgeCount = 0;
+        for (int index = 0; index < nodeList.size(); index++) {
+            final BuilderNode node = nodeList.get(index);
+            edgeCount += node.childCount;
+            for (int childIndex = 0; childIndex < node.childCount; childIndex++) {
+                final BuilderNode child = node.children[childIndex];
+                if (!nodeNumbers.containsKey(child)) {
+                    nodeNumbers.put(child, nodeList.size());
+                    nodeList.add(child);
+                }
+            }
+        }
+
+        if (nodeList.size() > NODE_MASK || sortedDefinitions.length > OFFSET_MASK) {
+            throw new IllegalStateException("The " + language + " dictionary is too large");
+        }
+
+        final int[] nodes = new int[nodeList.size() + 1];
+        final long[] edges = new long[edgeCount];
+
+        int edgeIndex = 0;
+        for (int index = 0; index < nodeList.size(); index++) {
+            final BuilderNode node = nodeList.get(index);
+            nodes[index] = (edgeIndex << 1) | (node.endOfWord ? 1 : 0);
+
+            // words ending on the node come before the words passing through the edges
+            long offset = node.endOfWord ? 1 : 0;
+            for (int childIndex = 0; childIndex < node.childCount; childIndex++) {
+                final BuilderNode child = node.children[childIndex];
+                final long target = nodeNumbers.get(child);
+                edges[edgeIndex++] = (offset << (LETTER_BITS + NODE_BITS)) | (target << LETTER_BITS)
+                        | node.letterIndexes[childIndex];
+                offset += child.countWords();
+            }
+        }
+        nodes[nodeList.size()] = edgeIndex << 1;
+
+        final int[] definitionOffsets = new int[sortedDefinitions.length];
+        final ByteBuffer definitions = createDefinitions(sortedDefinitions, definitionOffsets);
+
+        return new Dictionary(language, alphabet, IntBuffer.wrap(nodes), LongBuffer.wrap(edges),
+                IntBuffer.wrap(definitionOffsets), definitions);
+    }
+
+    /*
+     * Encodes the definitions to a blob where identical definitions are stored only once
+     */
+    private static ByteBuffer createDefinitions(String[] sortedDefinitions, int[] definitionOffsets) {
+        final Map<String, Integer> offsets = new HashMap<>();
+        final ByteArrayOutputStream blob = new ByteArrayOutputStream();
+
+        for (int wordNumber = 0; wordNumber < sortedDefinitions.length; wordNumber++) {
+            final String definition = sortedDefinitions[wordNumber];
+            if (definition == null) {
+                definitionOffsets[wordNumber] = -1;
+                continue;
+            }
+
+            definitionOffsets[wordNumber] = offsets.computeIfAbsent(definition, key -> {
+                final int offset = blob.size();
+                final byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                blob.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+                blob.writeBytes(bytes);
+                return offset;
+            });
+        }
+
+        return ByteBuffer.wrap(blob.toByteArray());
+    }
+
+    /*
+     * A mutable node of the word graph used while the dictionary is being built. Two nodes are equal if
+     * they have the same end of word flag and the same edges pointing to the same registered nodes
+     */
+    private static final class BuilderNode {
+
+        private int[] letterIndexes = new int[0];
+        private BuilderNode[] children = new BuilderNode[0];
+        private int childCount;
+        private boolean endOfWord;
+        private int wordCount = -1;
+
+        /*
+         * Returns the number of the words reachable from the node, the node must not be changed anymore
+         */
+        private int countWords() {
+            if (wordCount == -1) {
+                int count = endOfWord ? 1 : 0;
+                for (int index = 0; index < childCount; index++) {
+                    count += children[index].countWords();
+                }
+                wordCount = count;
+            }
+            return wordCount;
+        }
+
+        private boolean hasChildren() {
+            return childCount > 0;
+        }
+
+        private BuilderNode lastChild() {
+            return children[childCount - 1];
+        }
+
+        private BuilderNode addChild(int letterIndex) {
+            if (childCount == children.length) {
+                final int capacity = Math.max(2, childCount * 2);
+                letterIndexes = Arrays.copyOf(letterIndexes, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+
+            final BuilderNode child = new BuilderNode();
+            letterIndexes[childCount] = letterIndex;
+            children[childCount] = child;
+            childCount++;
+            return child;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof BuilderNode)) {
+                return false;
+            }
+
+            final BuilderNode node = (BuilderNode) object;
+            if (endOfWord != node.endOfWord || childCount != node.childCount) {
+                return false;
+            }
+
+            for (int index = 0; index < childCount; index++) {
+                if (letterIndexes[index] != node.letterIndexes[index] || children[index] != node.children[index]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = Objects.hashCode(endOfWord);
+            for (int index = 0; index < childCount; index++) {
+                hashCode = 31 * hashCode + letterIndexes[index];
+                hashCode = 31 * hashCode + System.identityHashCode(children[index]);
+            }
+            return hashCode;
+        }
+
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.gamecity.scrabble.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.gamecity.scrabble.entity.Language;
+
+/**
+ * A dictionary image is the precompiled binary form of a {@link Dictionary dictionary}. The image is
+ * mapped to the memory as it is, so the dictionary is ready without parsing the text file and the
+ * mapped pages are shared by every process reading the same image.
+ * 
+ * <pre>
+ * header      : magic, version, alphabet size, node count, edge count, word count, definitions size, 0
+ * edges       : edge count longs
+ * nodes       : node count ints
+ * offsets     : word count ints
+ * alphabet    : alphabet size chars
+ * definitions : definitions size bytes
+ * </pre>
+ * 
+ * All the values are big endian and the edges start at an 8 byte boundary.
+ * 
+ * @author ekarakus
+ */
+public final class DictionaryImage {
+
+    /**
+     * Extension of the dictionary image files
+     */
+    public static final String EXTENSION = ".bin";
+
+    static final int MAGIC = 0x53435244;
+    static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 8 * Integer.BYTES;
+
+    private DictionaryImage() {
+        // do not create a new instance
+    }
+
+    /**
+     * Returns the image of the given dictionary text file. The image has the same name as the text file
+     * with the {@link #EXTENSION image extension}
+     * 
+     * @param file the dictionary text file
+     * @return the image file
+     */
+    public static File getImageFile(File file) {
+        return new File(StringUtils.removeEnd(file.getPath(), ".txt") + EXTENSION);
+    }
+
+    /**
+     * Writes the dictionary to the given file as an image
+     * 
+     * @param dictionary the dictionary
+     * @param path       path of the image file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Dictionary dictionary, Path path) throws IOException {
+        final char[] alphabet = dictionary.getAlphabet();
+        final IntBuffer nodes = dictionary.getNodes().duplicate().rewind();
+        final LongBuffer edges = dictionary.getEdges().duplicate().rewind();
+        final IntBuffer definitionOffsets = dictionary.getDefinitionOffsets().duplicate().rewind();
+        final ByteBuffer definitions = dictionary.getDefinitions().duplicate().rewind();
+
+        final long size = (long) HEADER_SIZE + (long) edges.limit() * Long.BYTES
+                + (long) nodes.limit() * Integer.BYTES + (long) definitionOffsets.limit() * Integer.BYTES
+                + (long) alphabet.length * Character.BYTES + definitions.limit();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("The " + dictionary.getLanguage() + " dictionary is too large for an image");
+        }
+
+        final ByteBuffer image = ByteBuffer.allocate((int) size);
+        image.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(alphabet.length)
+                .putInt(nodes.limit())
+                .putInt(edges.limit())
+                .putInt(definitionOffsets.limit())
+                .putInt(definitions.limit())
+                .putInt(0);
+
+        image.asLongBuffer().put(edges);
+        image.position(image.position() + edges.limit() * Long.BYTES);
+        image.asIntBuffer().put(nodes);
+        image.position(image.position() + nodes.limit() * Integer.BYTES);
+        image.asIntBuffer().put(definitionOffsets);
+        image.position(image.position() + definitionOffsets.limit() * Integer.BYTES);
+        image.asCharBuffer().put(alphabet);
+        image.position(image.position() + alphabet.length * Character.BYTES);
+        image.put(definitions);
+        image.flip();
+
+        // the image is written to a temporary file first so that a running reader never maps a partial file
+        final Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (image.hasRemaining()) {
+                channel.write(image);
+            }
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps the given image file to the memory as a dictionary. The lookups of the dictionary read the
+     * mapped buffers directly
+     * 
+     * @param language language of the dictionary
+     * @param path     path of the image file
+     * @return the dictionary
+     * @throws IOException if the file cannot be read or it is not a valid image
+     */
+    public static Dictionary map(Language language, Path path) throws IOException {
+        final MappedByteBuffer image;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            image = channel.map(MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (image.limit() < HEADER_SIZE || image.getInt() != MAGIC) {
+            throw new IOException(path + " is not a dictionary image");
+        }
+
+        final int version = image.getInt();
+        if (version != VERSION) {
+            throw new IOException(path + " has the unsupported image version " + version);
+        }
+
+        final int alphabetSize = image.getInt();
+        final int nodeCount = image.getInt();
+        final int edgeCount = image.getInt();
+        final int wordCount = image.getInt();
+        final int definitionsSize = image.getInt();
+        image.getInt();
+
+        final long size = (long) HEADER_SIZE + (long) edgeCount * Long.BYTES + (long) nodeCount * Integer.BYTES
+                + (long) wordCount * Integer.BYTES + (long) alphabetSize * Character.BYTES + definitionsSize;
+        if (size != image.limit()) {
+            throw new IOException(path + " is not a complete dictionary image");
+        }
+
+        final LongBuffer edges = slice(image, edgeCount * Long.BYTES).asLongBuffer();
+        final IntBuffer nodes = slice(image, nodeCount * Integer.BYTES).asIntBuffer();
+        final IntBuffer definitionOffsets = slice(image, wordCount * Integer.BYTES).asIntBuffer();
+
+        final char[] alphabet = new char[alphabetSize];
+        slice(image, alphabetSize * Character.BYTES).asCharBuffer().get(alphabet);
+
+        final ByteBuffer definitions = slice(image, definitionsSize);
+
+        return new Dictionary(language, alphabet, nodes, edges, definitionOffsets, definitions);
+    }
+
+    /*
+     * Returns the next length bytes of the image as a separate buffer
+     */
+    private static ByteBuffer slice(ByteBuffer image, int length) {
+        final ByteBuffer slice = image.slice(image.position(), length);
+        image.position(image.position() + length);
+        return slice;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.gamecity.scrabble.model;
+
+import com.gamecity.scrabble.entity.Language;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Load, memory and wait metrics of a {@link Dictionary dictionary} in a {@link Language language}
+ * 
+ * @author ekarakus
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DictionaryMetrics {
+
+    // language of the dictionary
+    private Language language;
+
+    // whether the dictionary is loaded and ready to use
+    private boolean loaded;
+
+    // whether the dictionary is mapped from an image, a mapped dictionary is kept outside the heap
+    private boolean mapped;
+
+    // number of words in the dictionary
+    private Integer wordCount;
+
+    // size of the dictionary in bytes
+    private Long memorySize;
+
+    // change of the dictionary size in bytes with the last load
+    private Long memoryDelta;
+
+    // duration of the last load of the dictionary in milliseconds
+    private Long loadDuration;
+
+    // number of the times the dictionary is reloaded
+    private long reloadCount;
+
+    // number of the callers waited for the dictionary to be loaded
+    private long waitCount;
+
+    // total duration of the callers waited for the dictionary to be loaded in milliseconds
+    private long waitDuration;
+
+}
@@ -0,0 +1,40 @@
+package com.gamecity.scrabble.model;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.gamecity.scrabble.entity.Language;
+
+/**
+ * A dictionary registry holds the active {@link Dictionary dictionary} of each {@link Language language}.
+ * The dictionaries are indexed by the language ordinal, so finding the dictionary of a language is a
+ * single array read. A dictionary can be replaced atomically while the previous one is still being used
+ * by the callers that already got it.
+ * 
+ * @author ekarakus
+ */
+public class DictionaryRegistry {
+
+    private final AtomicReferenceArray<Dictionary> dictionaries =
+            new AtomicReferenceArray<>(Language.values().length);
+
+    /**
+     * Gets the active dictionary of the given <code>language</code>
+     * 
+     * @param language language of the dictionary
+     * @return the dictionary, null if no dictionary is registered for the language
+     */
+    public Dictionary get(Language language) {
+        return dictionaries.get(language.ordinal());
+    }
+
+    /**
+     * Registers the dictionary as the active dictionary of its language
+     * 
+     * @param dictionary the dictionary
+     * @return the previous dictionary of the language, null if there is none
+     */
+    public Dictionary register(Dictionary dictionary) {
+        return dictionaries.getAndSet(dictionary.getLanguage().ordinal(), dictionary);
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.gamecity.scrabble.model;
+
+/**
+ * A dictionary word whose definition stays encoded in the {@link Dictionary dictionary} until the
+ * definition is requested for the first time
+ * 
+ * @author ekarakus
+ */
+final class EncodedDictionaryWord extends DictionaryWord {
+
+    private final transient Dictionary dictionary;
+    private final int wordNumber;
+    private boolean decoded;
+
+    EncodedDictionaryWord(final String word, final Dictionary dictionary, final int wordNumber) {
+        this.dictionary = dictionary;
+        this.wordNumber = wordNumber;
+        setWord(word);
+    }
+
+    @Override
+    public String getDefinition() {
+        if (!decoded) {
+            setDefinition(dictionary.getDefinition(wordNumber));
+        }
+        return super.getDefinition();
+    }
+
+    @Override
+    public void setDefinition(String definition) {
+        super.setDefinition(definition);
+        decoded = true;
+    }
+
+}
@@ -298,6 +298,7 @@ public class Mapper {
     public static ActionDto toDto(Action action) {
         return ActionDto.builder()
                 .version(action.getVersion())
+                .boardVersion(action.getBoardVersion())
                 .currentPlayerNumber(action.getCurrentPlayerNumber())
                 .gameId(action.getGameId())
                 .id(action.getId())
@@ -2,6 +2,10 @@ package com.gamecity.scrabble.model;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import com.gamecity.scrabble.entity.Game;
 
@@ -28,6 +32,14 @@ public class VirtualBoard implements Serializable {
     private final VirtualCell[][] matrix = new VirtualCell[BOARD_SIZE][BOARD_SIZE];
     private List<VirtualCell> cells;
 
+    // version of the board when it is read
+    @JsonIgnore
+    private transient Integer version;
+
+    // copies of the cells when the board is read
+    @JsonIgnore
+    private transient List<VirtualCell> originalCells;
+
     /**
      * Creates a new virtual board with the given {@link VirtualCell cells}
      * 
@@ -40,6 +52,34 @@ public class VirtualBoard implements Serializable {
         });
     }
 
+    /**
+     * Marks the current cells as the cells of the given <code>version</code>, the cells changed after
+     * that are returned by {@link #getChangedCells()}
+     * 
+     * @param version <code>version</code> of the board
+     */
+    public void markVersion(Integer version) {
+        this.version = version;
+        this.originalCells = cells.stream().map(cell -> cell.toBuilder().build()).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the cells changed after the board is {@link #markVersion(Integer) marked with a version}
+     * 
+     * @return the changed cells, all the cells if the board is not marked
+     */
+    @JsonIgnore
+    public List<VirtualCell> getChangedCells() {
+        if (originalCells == null) {
+            return cells;
+        }
+
+        return IntStream.range(0, cells.size())
+                .filter(index -> !cells.get(index).equals(originalCells.get(index)))
+                .mapToObj(cells::get)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Clears lastPlayed value of the cells
      */
@@ -0,0 +1,98 @@
+package com.gamecity.scrabble.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gamecity.scrabble.entity.Game;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A version of a {@link VirtualBoard board} in the board history of a {@link Game game}. A delta keeps
+ * only the cells changed in the version, a checkpoint keeps all the cells of the board. A version is
+ * restored from the last checkpoint before it and the deltas after that checkpoint.
+ * 
+ * @author ekarakus
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VirtualBoardDelta implements Serializable {
+
+    private static final long serialVersionUID = 3920461738553817267L;
+
+    // whether the delta has all the cells of the board
+    private boolean checkpoint;
+
+    // the changed cells, all the cells if the delta is a checkpoint
+    private List<VirtualCell> cells;
+
+    // version of the board, only kept in the latest board of a game
+    private Integer version;
+
+    /**
+     * Creates a checkpoint with all the cells of the given board
+     * 
+     * @param virtualBoard the board
+     * @return the checkpoint
+     */
+    public static VirtualBoardDelta checkpoint(VirtualBoard virtualBoard) {
+        return new VirtualBoardDelta(true, new ArrayList<>(virtualBoard.getCells()), null);
+    }
+
+    /**
+     * Creates a checkpoint with all the cells of the given board in the given <code>version</code>
+     * 
+     * @param virtualBoard the board
+     * @param version      version of the board
+     * @return the checkpoint
+     */
+    public static VirtualBoardDelta checkpoint(VirtualBoard virtualBoard, Integer version) {
+        return new VirtualBoardDelta(true, new ArrayList<>(virtualBoard.getCells()), version);
+    }
+
+    /**
+     * Creates a delta with the cells of the given board changed after the board is read
+     * 
+     * @param virtualBoard the board
+     * @return the delta
+     */
+    public static VirtualBoardDelta of(VirtualBoard virtualBoard) {
+        return new VirtualBoardDelta(false, virtualBoard.getChangedCells(), null);
+    }
+
+    /**
+     * Restores the board of the last entry in the given history entries. The first entry must be a
+     * checkpoint, a {@link VirtualBoard board} entry stored before the deltas is used as a checkpoint
+     * 
+     * @param entries the history entries in the version order
+     * @return the board
+     */
+    public static VirtualBoard restore(List<?> entries) {
+        List<VirtualCell> cells = null;
+        for (Object entry : entries) {
+            if (entry instanceof VirtualBoard) {
+                cells = new ArrayList<>(((VirtualBoard) entry).getCells());
+                continue;
+            }
+
+            final VirtualBoardDelta delta = (VirtualBoardDelta) entry;
+            if (delta.isCheckpoint()) {
+                cells = new ArrayList<>(delta.getCells());
+            } else if (cells == null) {
+                throw new IllegalStateException("The board history doesn't start with a checkpoint");
+            } else {
+                for (VirtualCell cell : delta.getCells()) {
+                    cells.set(cell.getCellNumber() - 1, cell);
+                }
+            }
+        }
+        return cells == null ? null : new VirtualBoard(cells);
+    }
+
+}
@@ -21,7 +21,7 @@ import lombok.ToString;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @ToString
 @EqualsAndHashCode(callSuper = false)
 public class VirtualCell implements Serializable {
@@ -0,0 +1,112 @@
+package com.gamecity.scrabble.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.gamecity.scrabble.entity.Language;
+
+import lombok.Getter;
+
+/**
+ * Result of validating a list of words in the {@link Dictionary dictionary} of a {@link Language language}.
+ * Only the numbers of the words in the dictionary are kept, the {@link DictionaryWord dictionary words}
+ * are created when they are requested.
+ * 
+ * @author ekarakus
+ */
+public class WordValidation {
+
+    private static final int NOT_FOUND = -1;
+
+    @Getter
+    private final Language language;
+
+    private final Dictionary dictionary;
+    private final List<? extends CharSequence> words;
+    private final int[] wordNumbers;
+
+    WordValidation(final Language language, final Dictionary dictionary, final List<? extends CharSequence> words,
+                   final int[] wordNumbers) {
+        this.language = language;
+        this.dictionary = dictionary;
+        this.words = words;
+        this.wordNumbers = wordNumbers;
+    }
+
+    /**
+     * Creates a validation result where none of the words are found, used when the dictionary of the
+     * language doesn't exist
+     * 
+     * @param language language of the words
+     * @param words    the validated words
+     * @return the validation result
+     */
+    public static WordValidation notFound(Language language, List<? extends CharSequence> words) {
+        final int[] wordNumbers = new int[words.size()];
+        Arrays.fill(wordNumbers, NOT_FOUND);
+        return new WordValidation(language, null, words, wordNumbers);
+    }
+
+    /**
+     * Returns the number of the validated words
+     * 
+     * @return the word count
+     */
+    public int size() {
+        return wordNumbers.length;
+    }
+
+    /**
+     * Whether all the words exist in the dictionary
+     * 
+     * @return true if all the words exist
+     */
+    public boolean isValid() {
+        for (int wordNumber : wordNumbers) {
+            if (wordNumber == NOT_FOUND) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the word at the given <code>index</code> exists in the dictionary
+     * 
+     * @param index index of the word in the validated words
+     * @return true if the word exists
+     */
+    public boolean isFound(int index) {
+        return wordNumbers[index] != NOT_FOUND;
+    }
+
+    /**
+     * Returns the words that don't exist in the dictionary
+     * 
+     * @return the invalid words
+     */
+    public List<CharSequence> getInvalidWords() {
+        final List<CharSequence> invalidWords = new ArrayList<>();
+        for (int index = 0; index < wordNumbers.length; index++) {
+            if (wordNumbers[index] == NOT_FOUND) {
+                invalidWords.add(words.get(index));
+            }
+        }
+        return invalidWords;
+    }
+
+    /**
+     * Creates the dictionary word of the word at the given <code>index</code>
+     * 
+     * @param index index of the word in the validated words
+     * @return the dictionary word, null if the word doesn't exist
+     */
+    public DictionaryWord getDictionaryWord(int index) {
+        if (!isFound(index)) {
+            return null;
+        }
+        return dictionary.getDictionaryWord(words.get(index), wordNumbers[index]);
+    }
+
+}
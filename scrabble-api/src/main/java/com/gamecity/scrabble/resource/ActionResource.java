@@ -6,7 +6,9 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
 import com.gamecity.scrabble.model.rest.ActionDto;
@@ -25,12 +27,13 @@ public interface ActionResource {
      * 
      * @param gameId  <code>id</code> of the game
      * @param version <code>version</code> of the action
-     * @return the action
+     * @param request request object
+     * @return the action, or not modified if the action in If-None-Match is already stored
      */
     @GET
     @Path("/{version}")
     @Produces(MediaType.APPLICATION_JSON)
-    Response get(@PathParam("gameId") Long gameId, @PathParam("version") Integer version);
+    Response get(@PathParam("gameId") Long gameId, @PathParam("version") Integer version, @Context Request request);
 
     /**
      * Gets the {@link List list} of {@link ActionDto actions} in a {@link GameDto game}
@@ -0,0 +1,30 @@
+package com.gamecity.scrabble.resource;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import com.gamecity.scrabble.entity.GameArchive;
+import com.gamecity.scrabble.model.ArchiveMetrics;
+
+/**
+ * {@link GameArchive Archive} resources
+ * 
+ * @author ekarakus
+ */
+@Path("/archives")
+public interface ArchiveResource {
+
+    /**
+     * Gets the {@link ArchiveMetrics metrics} of the archived games
+     * 
+     * @return the archive metrics
+     */
+    @GET
+    @Path("/metrics")
+    @Produces(MediaType.APPLICATION_JSON)
+    Response getMetrics();
+
+}
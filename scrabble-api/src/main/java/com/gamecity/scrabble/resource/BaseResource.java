@@ -25,10 +25,11 @@ public interface BaseResource<D extends AbstractDto> {
     /**
      * Gets an entity
      * 
-     * @param id <code>id</code> of the entity
-     * @return dto representation of the entity
+     * @param id      <code>id</code> of the entity
+     * @param request request object
+     * @return dto representation of the entity, or not modified if the If-None-Match header matches the entity
      */
-    Response get(Long id);
+    Response get(Long id, Request request);
 
     /**
      * Creates an entity
@@ -0,0 +1,45 @@
+package com.gamecity.scrabble.resource;
+
+import java.util.List;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import com.gamecity.scrabble.entity.Language;
+import com.gamecity.scrabble.model.Dictionary;
+import com.gamecity.scrabble.model.DictionaryMetrics;
+
+/**
+ * {@link Dictionary Dictionary} resources
+ * 
+ * @author ekarakus
+ */
+@Path("/dictionaries")
+public interface DictionaryResource {
+
+    /**
+     * Gets the {@link List list} of {@link DictionaryMetrics metrics} of the dictionaries
+     * 
+     * @return the list of dictionary metrics
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    Response list();
+
+    /**
+     * Reloads the dictionary of the {@link Language language} without restarting the application
+     * 
+     * @param language <code>language</code> of the dictionary
+     * @return the metrics of the reloaded dictionary
+     */
+    @POST
+    @Path("/{language}")
+    @Produces(MediaType.APPLICATION_JSON)
+    Response reload(@PathParam("language") Language language);
+
+}
@@ -12,7 +12,9 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
 import com.gamecity.scrabble.model.rest.GameDto;
@@ -29,14 +31,15 @@ public interface GameResource extends BaseResource<GameDto> {
     /**
      * Gets the {@link GameDto game} by <code>id</code>
      * 
-     * @param id <code>id</code> of the game
-     * @return the game dto
+     * @param id      <code>id</code> of the game
+     * @param request request object
+     * @return the game dto, or not modified if the game is not updated since the version in If-None-Match
      */
     @GET
     @Path("/{id}")
     @Produces(MediaType.APPLICATION_JSON)
     @Override
-    Response get(@PathParam("id") Long id);
+    Response get(@PathParam("id") Long id, @Context Request request);
 
     /**
      * Gets the {@link List list} of {@link GameDto games}
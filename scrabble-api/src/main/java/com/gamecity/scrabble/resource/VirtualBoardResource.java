@@ -5,7 +5,9 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
 import com.gamecity.scrabble.entity.Game;
@@ -21,14 +23,17 @@ import com.gamecity.scrabble.model.rest.VirtualBoardDto;
 public interface VirtualBoardResource {
 
     /**
-     * Gets the {@link VirtualBoard board} in the {@link Game game}
+     * Gets the {@link VirtualBoard board} in the {@link Game game}. A board doesn't change after it is stored, so
+     * the board is tagged by the game and the version and it is not read again for a matching If-None-Match header.
      * 
      * @param gameId  <code>id</code> of the game
      * @param version <code>version</code> of the action
+     * @param request request object
      * @return the virtual board
      */
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    Response get(@PathParam("gameId") Long gameId, @QueryParam("version") Integer version);
+    Response get(@PathParam("gameId") Long gameId, @QueryParam("version") Integer version,
+            @Context Request request);
 
 }
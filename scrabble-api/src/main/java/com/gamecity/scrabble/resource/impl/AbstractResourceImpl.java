@@ -1,13 +1,12 @@
 package com.gamecity.scrabble.resource.impl;
 
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
 
 import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
 
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.Assert;
@@ -30,7 +29,16 @@ abstract class AbstractResourceImpl<T extends AbstractEntity, D extends Abstract
     }
 
     @Override
-    public Response get(Long id) {
+    public Response get(Long id, Request request) {
+        // the entity is neither read nor serialized if the client has its current version
+        final EntityTag currentETag = getCurrentETag(id);
+        if (currentETag != null) {
+            final ResponseBuilder notModifiedResponse = request.evaluatePreconditions(currentETag);
+            if (notModifiedResponse != null) {
+                return notModifiedResponse.build();
+            }
+        }
+
         final T entity = baseService.get(id);
         final D dto = (D) Mapper.toDto(entity);
         return Response.ok(dto).tag(createETag(dto)).build();
@@ -69,10 +77,27 @@ abstract class AbstractResourceImpl<T extends AbstractEntity, D extends Abstract
         return Response.ok(responseDto).tag(createETag(responseDto)).build();
     }
 
+    /**
+     * Creates the tag of the entity from the dto
+     * 
+     * @param dto dto representation of the entity
+     * @return the entity tag
+     */
     protected EntityTag createETag(D dto) {
-        final String lastUpdatedDate = DateTimeFormatter.ISO_DATE_TIME.format(dto.getLastUpdatedDate());
-        final String eTag = DigestUtils.sha256Hex(lastUpdatedDate);
-        return new EntityTag(eTag);
+        final long lastUpdatedDate = dto.getLastUpdatedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new EntityTag(dto.getId() + "-" + lastUpdatedDate);
+    }
+
+    /**
+     * Gets the tag of the current state of the entity without reading the entity. The entities with a cheaper
+     * source of their state such as the <code>version</code> override this method, so the conditional requests
+     * are answered before the entity is read.
+     * 
+     * @param id <code>id</code> of the entity
+     * @return the entity tag, null if the tag cannot be created without reading the entity
+     */
+    protected EntityTag getCurrentETag(Long id) {
+        return null;
     }
 
 }
@@ -4,7 +4,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
 
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -19,12 +22,19 @@ import com.gamecity.scrabble.service.ActionService;
 class ActionResourceImpl extends AbstractResourceImpl<Action, ActionDto, ActionService> implements ActionResource {
 
     @Override
-    public Response get(Long gameId, Integer version) {
+    public Response get(Long gameId, Integer version, Request request) {
         // TODO add a test
         if (version < 1) {
             return Response.ok().build();
         }
 
+        // an action is not updated once it is stored, the tag is only sent with a stored action
+        final EntityTag eTag = createETag(gameId, version);
+        final ResponseBuilder notModifiedResponse = request.evaluatePreconditions(eTag);
+        if (notModifiedResponse != null) {
+            return notModifiedResponse.build();
+        }
+
         boolean hasNewAction = baseService.hasNewAction(gameId, version);
         // TODO add a test
         if (!hasNewAction) {
@@ -38,7 +48,7 @@ class ActionResourceImpl extends AbstractResourceImpl<Action, ActionDto, ActionS
         }
 
         // TODO add a test
-        return Response.ok(Mapper.toDto(action)).build();
+        return Response.ok(Mapper.toDto(action)).tag(eTag).build();
     }
 
     @Override
@@ -53,4 +63,8 @@ class ActionResourceImpl extends AbstractResourceImpl<Action, ActionDto, ActionS
         return Response.ok(actionDtos).build();
     }
 
+    private static EntityTag createETag(Long gameId, Integer version) {
+        return new EntityTag("action-" + gameId + "-" + version);
+    }
+
 }
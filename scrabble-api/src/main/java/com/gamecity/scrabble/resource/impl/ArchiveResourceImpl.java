@@ -0,0 +1,24 @@
+package com.gamecity.scrabble.resource.impl;
+
+import jakarta.ws.rs.core.Response;
+
+import org.springframework.stereotype.Component;
+
+import com.gamecity.scrabble.resource.ArchiveResource;
+import com.gamecity.scrabble.service.ContentService;
+
+@Component(value = "archiveResource")
+class ArchiveResourceImpl implements ArchiveResource {
+
+    private ContentService contentService;
+
+    public ArchiveResourceImpl(final ContentService contentService) {
+        this.contentService = contentService;
+    }
+
+    @Override
+    public Response getMetrics() {
+        return Response.ok(contentService.getArchiveMetrics()).build();
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.gamecity.scrabble.resource.impl;
+
+import jakarta.ws.rs.core.Response;
+
+import org.springframework.stereotype.Component;
+
+import com.gamecity.scrabble.entity.Language;
+import com.gamecity.scrabble.resource.DictionaryResource;
+import com.gamecity.scrabble.service.DictionaryService;
+
+@Component(value = "dictionaryResource")
+class DictionaryResourceImpl implements DictionaryResource {
+
+    private DictionaryService dictionaryService;
+
+    public DictionaryResourceImpl(final DictionaryService dictionaryService) {
+        this.dictionaryService = dictionaryService;
+    }
+
+    @Override
+    public Response list() {
+        return Response.ok(dictionaryService.getMetrics()).build();
+    }
+
+    @Override
+    public Response reload(Language language) {
+        return Response.ok(dictionaryService.reload(language)).build();
+    }
+
+}
@@ -3,6 +3,7 @@ package com.gamecity.scrabble.resource.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.Response;
 
 import org.springframework.stereotype.Component;
@@ -78,7 +79,6 @@ class GameResourceImpl extends AbstractResourceImpl<Game, GameDto, GameService>
 
         publishLastAction(game);
 
-        schedulerService.terminateSkipTurnJob(id, game.getVersion() - 1);
         baseService.scheduleNextRoundJobs(game);
 
         return Response.ok(Mapper.toDto(game)).build();
@@ -90,9 +90,25 @@ class GameResourceImpl extends AbstractResourceImpl<Game, GameDto, GameService>
         return Response.ok(games.stream().map(Mapper::toDto).collect(Collectors.toList())).build();
     }
 
+    @Override
+    protected EntityTag createETag(GameDto gameDto) {
+        return createETag(gameDto.getId(), gameDto.getVersion());
+    }
+
+    @Override
+    protected EntityTag getCurrentETag(Long id) {
+        // the version is read without loading the game, the game is not found later if the version is missing
+        final Integer version = baseService.getVersion(id);
+        return version == null ? null : createETag(id, version);
+    }
+
     private void publishLastAction(Game game) {
         final Action action = actionService.getAction(game.getId(), game.getVersion());
         redisRepository.publishAction(game.getId(), action);
     }
 
+    private static EntityTag createETag(Long id, Integer version) {
+        return new EntityTag(id + "-" + version);
+    }
+
 }
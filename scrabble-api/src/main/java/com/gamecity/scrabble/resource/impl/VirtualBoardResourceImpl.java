@@ -1,6 +1,10 @@
 package com.gamecity.scrabble.resource.impl;
 
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
 
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -15,6 +19,8 @@ import com.gamecity.scrabble.service.VirtualBoardService;
 @Component(value = "virtualBoardResource")
 class VirtualBoardResourceImpl implements VirtualBoardResource {
 
+    private static final int IMMUTABLE_MAX_AGE_SECONDS = 365 * 24 * 60 * 60;
+
     private VirtualBoardService virtualBoardService;
     private ActionService actionService;
 
@@ -24,12 +30,19 @@ class VirtualBoardResourceImpl implements VirtualBoardResource {
     }
 
     @Override
-    public Response get(Long gameId, Integer version) {
+    public Response get(Long gameId, Integer version, Request request) {
         // TODO add a test
         if (version < 1) {
             return Response.ok().build();
         }
 
+        // the client has the board already, the tag is only sent with a stored board
+        final EntityTag eTag = createETag(gameId, version);
+        final ResponseBuilder notModifiedResponse = request.evaluatePreconditions(eTag);
+        if (notModifiedResponse != null) {
+            return notModifiedResponse.cacheControl(createCacheControl()).build();
+        }
+
         boolean hasNewAction = actionService.hasNewAction(gameId, version);
         // TODO add a test
         if (!hasNewAction) {
@@ -43,7 +56,19 @@ class VirtualBoardResourceImpl implements VirtualBoardResource {
         }
 
         final VirtualBoardDto virtualBoardDto = Mapper.toDto(virtualBoard);
-        return Response.ok(virtualBoardDto).build();
+        return Response.ok(virtualBoardDto).tag(eTag).cacheControl(createCacheControl()).build();
+    }
+
+    private static EntityTag createETag(Long gameId, Integer version) {
+        return new EntityTag("board-" + gameId + "-" + version);
+    }
+
+    private static CacheControl createCacheControl() {
+        final CacheControl cacheControl = new CacheControl();
+        cacheControl.setPrivate(true);
+        cacheControl.setMaxAge(IMMUTABLE_MAX_AGE_SECONDS);
+        cacheControl.getCacheExtension().put("immutable", null);
+        return cacheControl;
     }
 
 }
@@ -1,7 +1,9 @@
 package com.gamecity.scrabble.service;
 
 import com.gamecity.scrabble.entity.Game;
+import com.gamecity.scrabble.entity.GameArchive;
 import com.gamecity.scrabble.entity.Player;
+import com.gamecity.scrabble.model.ArchiveMetrics;
 import com.gamecity.scrabble.model.VirtualBoard;
 import com.gamecity.scrabble.model.VirtualRack;
 
@@ -32,4 +34,19 @@ public interface ContentService {
     void update(Game game, VirtualRack updatedRack, VirtualBoard updatedBoard, Integer playerNumber,
             Integer roundNumber);
 
+    /**
+     * Moves the content of the {@link Game game} to the {@link GameArchive archive} after the game is ended or
+     * terminated and releases the content in Redis
+     * 
+     * @param game the ended or terminated game
+     */
+    void archive(Game game);
+
+    /**
+     * Gets the {@link ArchiveMetrics metrics} of the archived {@link Game games}
+     * 
+     * @return the archive metrics
+     */
+    ArchiveMetrics getArchiveMetrics();
+
 }
@@ -1,9 +1,13 @@
 package com.gamecity.scrabble.service;
 
+import java.util.List;
+
 import com.gamecity.scrabble.entity.Game;
 import com.gamecity.scrabble.entity.Language;
 import com.gamecity.scrabble.entity.Word;
+import com.gamecity.scrabble.model.DictionaryMetrics;
 import com.gamecity.scrabble.model.DictionaryWord;
+import com.gamecity.scrabble.model.WordValidation;
 
 /**
  * Provides services for {@link Dictionary dictionaries} for the played {@link Word words} in a
@@ -31,4 +35,31 @@ public interface DictionaryService {
      */
     boolean find(String word, Language language);
 
+    /**
+     * Validates the given words in the specified {@link Language} dictionary at once. The words are
+     * searched case insensitively without converting them to strings
+     * 
+     * @param words    <code>words</code> to validate in the dictionary
+     * @param language <code>language</code> of the dictionary
+     * @return the validation result
+     */
+    WordValidation validateAll(List<? extends CharSequence> words, Language language);
+
+    /**
+     * Gets the load and wait metrics of the dictionaries in every {@link Language}
+     * 
+     * @return the dictionary metrics
+     */
+    List<DictionaryMetrics> getMetrics();
+
+    /**
+     * Reloads the dictionary of the specified {@link Language} without a restart. The new dictionary is
+     * built in the background and replaces the active dictionary at once, the validations that already
+     * started keep using the previous dictionary
+     * 
+     * @param language <code>language</code> of the dictionary
+     * @return the metrics of the reloaded dictionary
+     */
+    DictionaryMetrics reload(Language language);
+
 }
@@ -0,0 +1,21 @@
+package com.gamecity.scrabble.service;
+
+import com.gamecity.scrabble.entity.Game;
+import com.gamecity.scrabble.entity.GameArchive;
+
+/**
+ * Provides services for the {@link GameArchive archives} of the ended and terminated {@link Game games}
+ * 
+ * @author ekarakus
+ */
+public interface GameArchiveService extends BaseService<GameArchive> {
+
+    /**
+     * Gets the {@link GameArchive archive} of the {@link Game game}
+     * 
+     * @param gameId <code>id</code> of the game
+     * @return the archive, <code>null</code> if the game is not archived
+     */
+    GameArchive getByGameId(Long gameId);
+
+}
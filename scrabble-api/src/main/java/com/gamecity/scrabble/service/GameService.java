@@ -68,6 +68,15 @@ public interface GameService extends BaseService<Game> {
      */
     List<Game> search(Long userId, boolean includeUser);
 
+    /**
+     * Gets the <code>version</code> of the {@link Game game}, the version is incremented on every update of
+     * the game
+     * 
+     * @param id <code>id</code> of the game
+     * @return the version, null if the game doesn't exist
+     */
+    Integer getVersion(Long id);
+
     /**
      * Terminates the {@link Game game}
      * 
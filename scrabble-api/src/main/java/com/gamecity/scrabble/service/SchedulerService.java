@@ -2,38 +2,29 @@ package com.gamecity.scrabble.service;
 
 import java.time.LocalDateTime;
 
-import org.quartz.Job;
-import org.quartz.Scheduler;
-
 import com.gamecity.scrabble.entity.Game;
 import com.gamecity.scrabble.entity.Player;
+import com.gamecity.scrabble.job.EndGameJob;
+import com.gamecity.scrabble.job.SkipTurnJob;
+import com.gamecity.scrabble.job.StartGameJob;
+import com.gamecity.scrabble.job.TerminateGameJob;
 
 /**
- * Provides services for {@link Scheduler scheduler} {@link Job jobs}
+ * Provides services for the timers of the {@link Game games}. The timers are stored in Redis with their
+ * due times, so they survive a restart and they are shared by the nodes. The node that schedules a timer
+ * runs it on time, the other nodes run the overdue timers of a stopped node. A timer is only run by the
+ * node that removes it from Redis, so it runs once in the cluster.
+ * 
+ * The turns are not scheduled, the {@link SkipTurnJob skip turn job} runs for the games whose
+ * {@link Player player} exceeds the play duration. These games are found periodically by the deadline of
+ * the current turn stored in the game.
  * 
  * @author ekarakus
  */
 public interface SchedulerService {
 
     /**
-     * Schedules a {@link Job job} to run at the end of the play duration of the {@link Player
-     * player} in a {@link Game game} to skip the turn
-     * 
-     * @param game     the game
-     * @param duration skip duration in seconds
-     */
-    void scheduleSkipTurnJob(Game game, Integer duration);
-
-    /**
-     * Terminates the scheduled skip turn {@link Job job}
-     * 
-     * @param gameId  <code>id</code> of the game
-     * @param version <code>version</code> of the action
-     */
-    void terminateSkipTurnJob(Long gameId, Integer version);
-
-    /**
-     * Schedules a {@link Job job} to start the {@link Game game} when the game status is ready to
+     * Schedules a {@link StartGameJob job} to start the {@link Game game} when the game status is ready to
      * start
      * 
      * @param gameId <code>id</code> of the game
@@ -41,15 +32,15 @@ public interface SchedulerService {
     void scheduleStartGameJob(Long gameId);
 
     /**
-     * Schedules a {@link Job job} to end the {@link Game game} when the game status is ready to end
+     * Schedules a {@link EndGameJob job} to end the {@link Game game} when the game status is ready to end
      * 
      * @param gameId <code>id</code> of the game
      */
     void scheduleEndGameJob(Long gameId);
 
     /**
-     * Schedules a {@link Job job} to terminate the {@link Game game} in case it doesn't start after
-     * a certain time
+     * Schedules a {@link TerminateGameJob job} to terminate the {@link Game game} in case it doesn't start
+     * after a certain time
      * 
      * @param gameId      <code>id</code> of the game
      * @param createdDate <code>createdDate</code> of the game
@@ -57,7 +48,7 @@ public interface SchedulerService {
     void scheduleTerminateGameJob(Long gameId, LocalDateTime createdDate);
 
     /**
-     * Terminates the scheduled terminate game {@link Job job}
+     * Terminates the scheduled terminate game {@link TerminateGameJob job}
      * 
      * @param gameId <code>id</code> of the game
      */
@@ -7,6 +7,7 @@ import com.gamecity.scrabble.entity.Game;
 import com.gamecity.scrabble.model.BoardScanFlag;
 import com.gamecity.scrabble.model.ConstructedWord;
 import com.gamecity.scrabble.model.VirtualBoard;
+import com.gamecity.scrabble.model.VirtualTile;
 
 /**
  * Provides services for {@link VirtualBoard boards} in {@link Game games}
@@ -50,4 +51,18 @@ public interface VirtualBoardService {
      */
     List<ConstructedWord> scanWords(Long gameId, VirtualBoard virtualBoard, Set<BoardScanFlag> boardScanFlags);
 
+    /**
+     * Scans only the rows and the columns of the placed {@link VirtualTile tiles} on the given
+     * {@link VirtualBoard} to find the new words. The placed tiles must be the only letters on the board
+     * that are not sealed, the words are the same as the words found by scanning the whole board
+     * 
+     * @param gameId         <code>id</code> of the game
+     * @param virtualBoard   the board to scan
+     * @param placedTiles    the tiles placed on the board in this round
+     * @param boardScanFlags scan flags
+     * @return the words
+     */
+    List<ConstructedWord> scanWords(Long gameId, VirtualBoard virtualBoard, List<VirtualTile> placedTiles,
+                                    Set<BoardScanFlag> boardScanFlags);
+
 }
@@ -1,8 +1,11 @@
 package com.gamecity.scrabble.service;
 
+import java.util.List;
+
 import com.gamecity.scrabble.entity.Game;
 import com.gamecity.scrabble.entity.Language;
 import com.gamecity.scrabble.entity.Player;
+import com.gamecity.scrabble.entity.Tile;
 import com.gamecity.scrabble.entity.Word;
 import com.gamecity.scrabble.model.VirtualRack;
 import com.gamecity.scrabble.model.VirtualTile;
@@ -35,6 +38,22 @@ public interface VirtualRackService {
      */
     void fillRack(Long gameId, Language language, Integer playerNumber, Integer roundNumber, VirtualRack virtualRack);
 
+    /**
+     * Fills the empty tiles in the {@link VirtualRack rack} of the {@link Player player} with the {@link Tile
+     * tiles} drawn from the given bag. Neither the rack nor the bag is stored, they are stored together with
+     * the other changes of the move.
+     * 
+     * @param gameId       <code>id</code> of the game
+     * @param language     <code>language</code> of the bag
+     * @param playerNumber <code>number</code> of the player
+     * @param roundNumber  <code>number</code> of the round played
+     * @param virtualRack  the virtual rack to refresh
+     * @param tiles        the tiles in the bag, the counts of the drawn tiles are decreased
+     * @return the filled rack
+     */
+    VirtualRack refillRack(Long gameId, Language language, Integer playerNumber, Integer roundNumber,
+                           VirtualRack virtualRack, List<Tile> tiles);
+
     /**
      * Updates the {@link VirtualRack rack} of the {@link Player player} after a {@link Word word} is played
      * 
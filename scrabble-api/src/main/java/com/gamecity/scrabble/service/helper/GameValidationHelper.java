@@ -1,14 +1,10 @@
 package com.gamecity.scrabble.service.helper;
 
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
-import org.springframework.util.CollectionUtils;
 
 import com.gamecity.scrabble.entity.Language;
-import com.gamecity.scrabble.model.ConstructedWord;
 import com.gamecity.scrabble.model.VirtualBoard;
+import com.gamecity.scrabble.model.WordValidation;
 import com.gamecity.scrabble.service.exception.GameException;
 import com.gamecity.scrabble.service.exception.error.GameError;
 
@@ -53,17 +49,12 @@ public class GameValidationHelper {
     /**
      * Whether the words are defined in the dictionary
      * 
-     * @param constructedWords list of constructed words
-     * @param language         language of the constructed words
+     * @param wordValidation validation result of the constructed words
      */
-    public static void hasWordsInDictionary(List<ConstructedWord> constructedWords, Language language) {
-        final List<ConstructedWord> invalidWords = constructedWords.stream()
-                .filter(word -> word.getDictionaryWord() == null)
-                .collect(Collectors.toList());
-
-        if (!CollectionUtils.isEmpty(invalidWords)) {
-            final String commaSeperatedInvalidWords = String.join(",",
-                    invalidWords.stream().map(ConstructedWord::getBuilder).collect(Collectors.toList()));
+    public static void hasWordsInDictionary(WordValidation wordValidation) {
+        if (!wordValidation.isValid()) {
+            final String commaSeperatedInvalidWords = String.join(",", wordValidation.getInvalidWords());
+            final Language language = wordValidation.getLanguage();
             log.debug("Word(s) {} are not found in {} dictionary", commaSeperatedInvalidWords, language);
             throw new GameException(GameError.WORDS_ARE_NOT_FOUND,
                     Arrays.asList(commaSeperatedInvalidWords, language.name()));
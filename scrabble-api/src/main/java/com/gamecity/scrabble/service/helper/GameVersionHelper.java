@@ -0,0 +1,25 @@
+package com.gamecity.scrabble.service.helper;
+
+import com.gamecity.scrabble.entity.Game;
+
+/**
+ * Helper class for the versions of the game content
+ */
+public class GameVersionHelper {
+
+    private GameVersionHelper() {
+        // do not create a new instance
+    }
+
+    /**
+     * Gets the version of the board in the current version of the game. A board is stored with every action
+     * after the game starts, the actions of the players joining the game have no board.
+     * 
+     * @param game the game
+     * @return the board version
+     */
+    public static Integer getBoardVersion(Game game) {
+        return game.getVersion() - game.getExpectedPlayerCount();
+    }
+
+}
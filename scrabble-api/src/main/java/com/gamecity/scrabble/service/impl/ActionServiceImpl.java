@@ -12,6 +12,7 @@ import com.gamecity.scrabble.entity.Action;
 import com.gamecity.scrabble.entity.ActionType;
 import com.gamecity.scrabble.entity.Game;
 import com.gamecity.scrabble.service.ActionService;
+import com.gamecity.scrabble.service.helper.GameVersionHelper;
 
 @Service(value = "actionService")
 class ActionServiceImpl extends AbstractServiceImpl<Action, ActionDao> implements ActionService {
@@ -23,6 +24,7 @@ class ActionServiceImpl extends AbstractServiceImpl<Action, ActionDao> implement
                 .gameId(game.getId())
                 .userId(userId)
                 .version(game.getVersion())
+                .boardVersion(GameVersionHelper.getBoardVersion(game))
                 .gameStatus(game.getStatus())
                 .type(actionType)
                 .currentPlayerNumber(game.getCurrentPlayerNumber())
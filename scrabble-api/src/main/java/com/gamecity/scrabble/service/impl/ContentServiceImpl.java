@@ -1,26 +1,50 @@
 package com.gamecity.scrabble.service.impl;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.IntStream;
 
 import org.springframework.stereotype.Service;
 
+import com.gamecity.scrabble.dao.RedisRepository;
 import com.gamecity.scrabble.entity.Game;
+import com.gamecity.scrabble.entity.GameArchive;
+import com.gamecity.scrabble.entity.Tile;
+import com.gamecity.scrabble.model.ArchiveMetrics;
 import com.gamecity.scrabble.model.VirtualBoard;
 import com.gamecity.scrabble.model.VirtualRack;
 import com.gamecity.scrabble.service.ContentService;
+import com.gamecity.scrabble.service.GameArchiveService;
+import com.gamecity.scrabble.service.VirtualBagService;
 import com.gamecity.scrabble.service.VirtualBoardService;
 import com.gamecity.scrabble.service.VirtualRackService;
 
+import lombok.extern.slf4j.Slf4j;
+
 @Service(value = "contentService")
+@Slf4j
 class ContentServiceImpl implements ContentService {
 
+    private final AtomicLong archivedGameCount = new AtomicLong();
+    private final AtomicLong archivedSize = new AtomicLong();
+    private final AtomicLong releasedKeyCount = new AtomicLong();
+
     private VirtualBoardService virtualBoardService;
     private VirtualRackService virtualRackService;
+    private VirtualBagService virtualBagService;
+    private GameArchiveService gameArchiveService;
+    private RedisRepository redisRepository;
 
     public ContentServiceImpl(final VirtualBoardService virtualBoardService,
-                              final VirtualRackService virtualRackService) {
+                              final VirtualRackService virtualRackService,
+                              final VirtualBagService virtualBagService,
+                              final GameArchiveService gameArchiveService,
+                              final RedisRepository redisRepository) {
         this.virtualBoardService = virtualBoardService;
         this.virtualRackService = virtualRackService;
+        this.virtualBagService = virtualBagService;
+        this.gameArchiveService = gameArchiveService;
+        this.redisRepository = redisRepository;
     }
 
     @Override
@@ -37,9 +61,40 @@ class ContentServiceImpl implements ContentService {
     @Override
     public void update(Game game, VirtualRack updatedRack, VirtualBoard updatedBoard, Integer playerNumber,
                        Integer roundNumber) {
-        virtualRackService.updateRack(game.getId(), playerNumber, roundNumber, updatedRack);
-        virtualRackService.fillRack(game.getId(), game.getLanguage(), playerNumber, roundNumber + 1, updatedRack);
-        virtualBoardService.updateBoard(game.getId(), updatedBoard);
+        final List<Tile> tiles = virtualBagService.getTiles(game.getId(), game.getLanguage());
+        final VirtualRack filledRack = virtualRackService.refillRack(game.getId(), game.getLanguage(), playerNumber,
+                roundNumber + 1, updatedRack, tiles);
+
+        // the rack, the bag and the board are stored together
+        redisRepository.commitMove(game.getId(), playerNumber, roundNumber, updatedRack, filledRack, tiles,
+                updatedBoard);
+    }
+
+    @Override
+    public void archive(Game game) {
+        // the archive is saved before the content is released, a failed archive doesn't lose the history
+        if (gameArchiveService.getByGameId(game.getId()) == null) {
+            final GameArchive gameArchive = redisRepository.createArchive(game.getId(),
+                    game.getExpectedPlayerCount());
+            if (gameArchive != null) {
+                gameArchiveService.save(gameArchive);
+                archivedGameCount.incrementAndGet();
+                archivedSize.addAndGet(gameArchive.getBoard().length + gameArchive.getHistory().length);
+            }
+        }
+
+        final long releasedKeys = redisRepository.releaseContent(game.getId(), game.getExpectedPlayerCount());
+        releasedKeyCount.addAndGet(releasedKeys);
+        log.info("Content of game {} has been archived, {} keys have been released", game.getId(), releasedKeys);
+    }
+
+    @Override
+    public ArchiveMetrics getArchiveMetrics() {
+        return ArchiveMetrics.builder()
+                .archivedGameCount(archivedGameCount.get())
+                .archivedSize(archivedSize.get())
+                .releasedKeyCount(releasedKeyCount.get())
+                .build();
     }
 
 }
@@ -1,11 +1,17 @@
 package com.gamecity.scrabble.service.impl;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,66 +19,54 @@ import org.springframework.stereotype.Service;
 
 import com.gamecity.scrabble.entity.Language;
 import com.gamecity.scrabble.model.Dictionary;
+import com.gamecity.scrabble.model.DictionaryBuilder;
+import com.gamecity.scrabble.model.DictionaryImage;
+import com.gamecity.scrabble.model.DictionaryMetrics;
+import com.gamecity.scrabble.model.DictionaryRegistry;
 import com.gamecity.scrabble.model.DictionaryWord;
+import com.gamecity.scrabble.model.WordValidation;
 import com.gamecity.scrabble.service.DictionaryService;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Service(value = "dictionaryService")
 @Slf4j
 class DictionaryServiceImpl implements DictionaryService {
 
-    private final List<Dictionary> dictionaries;
+    private static final int LOADER_THREAD_COUNT = 2;
 
-    public DictionaryServiceImpl(@Value("${dictionary.path}") final String dictionaryPath) {
-        this.dictionaries = new ArrayList<>(Language.values().length);
-        initializeDictionaries(dictionaryPath);
+    private final String dictionaryPath;
+    private final ExecutorService executor;
+    private final DictionaryRegistry registry;
+    private final Map<Language, DictionaryLoad> loads;
+
+    public DictionaryServiceImpl(@Value("${dictionary.path}") final String dictionaryPath,
+                                 @Value("${dictionary.hot.languages}") final String hotLanguages) {
+        this.dictionaryPath = dictionaryPath;
+        this.executor = Executors.newFixedThreadPool(LOADER_THREAD_COUNT,
+                new ThreadFactoryBuilder().setNameFormat("dictionary-loader-%d").setDaemon(true).build());
+        this.registry = new DictionaryRegistry();
+        this.loads = new ConcurrentHashMap<>(Language.values().length);
+
+        // the hot languages are loaded in the background, the others are loaded on first use
+        if (StringUtils.isNotBlank(hotLanguages)) {
+            Arrays.stream(StringUtils.split(hotLanguages, ','))
+                    .map(String::trim)
+                    .map(Language::valueOf)
+                    .forEach(this::getDictionaryLoad);
+        }
     }
 
-    private void initializeDictionaries(final String dictionaryPath) {
-        Arrays.stream(Language.values()).forEach(language -> {
-            final Dictionary dictionary = new Dictionary(language);
-            Scanner scanner = null;
-            try {
-                final File file = new File(String.format(dictionaryPath, language));
-                scanner = new Scanner(file);
-                while (scanner.hasNextLine()) {
-                    final String content = scanner.nextLine();
-                    if (content.toLowerCase().contains("\t")) {
-                        final String selectedWord = StringUtils.substringBefore(content, "\t");
-                        // TODO add a test
-                        if (selectedWord.chars().allMatch(Character::isLetter)) {
-                            final String definition = StringUtils.substringAfter(content, "\t");
-                            dictionary.add(selectedWord.toUpperCase(), definition);
-                        }
-                    } else if (content.toLowerCase().contains(" ")) {
-                        final String selectedWord = StringUtils.substringBefore(content, " ");
-                        if (selectedWord.chars().allMatch(Character::isLetter)) {
-                            final String definition = StringUtils.substringAfter(content, " ");
-                            dictionary.add(selectedWord.toUpperCase(), definition);
-                        }
-                        // TODO add a test
-                    } else if (content.chars().allMatch(Character::isLetter) && content.trim().length() > 1) {
-                        dictionary.add(content.toUpperCase(), null);
-                    }
-                }
-                dictionaries.add(dictionary);
-            } catch (FileNotFoundException e) {
-                log.error("An error occured while validation the word", e);
-            } finally {
-                if (scanner != null) {
-                    scanner.close();
-                }
-            }
-        });
+    @PreDestroy
+    void destroy() {
+        executor.shutdownNow();
     }
 
     @Override
     public DictionaryWord get(String word, Language language) {
-        final Dictionary dictionary = dictionaries.stream()
-                .filter(d -> d.getLanguage().equals(language))
-                .findFirst()
-                .orElse(null);
+        final Dictionary dictionary = getDictionary(language);
 
         if (dictionary == null) {
             return null;
@@ -83,10 +77,7 @@ class DictionaryServiceImpl implements DictionaryService {
 
     @Override
     public boolean find(String word, Language language) {
-        final Dictionary dictionary = dictionaries.stream()
-                .filter(d -> d.getLanguage().equals(language))
-                .findFirst()
-                .orElse(null);
+        final Dictionary dictionary = getDictionary(language);
 
         if (dictionary == null) {
             return false;
@@ -95,4 +86,166 @@ class DictionaryServiceImpl implements DictionaryService {
         return dictionary.search(word.toUpperCase());
     }
 
+    @Override
+    public WordValidation validateAll(List<? extends CharSequence> words, Language language) {
+        final Dictionary dictionary = getDictionary(language);
+
+        if (dictionary == null) {
+            return WordValidation.notFound(language, words);
+        }
+
+        return dictionary.validateAll(words);
+    }
+
+    @Override
+    public List<DictionaryMetrics> getMetrics() {
+        return Arrays.stream(Language.values()).map(language -> {
+            final DictionaryLoad load = loads.get(language);
+            if (load == null) {
+                return DictionaryMetrics.builder().language(language).build();
+            }
+
+            return getMetrics(language, load);
+        }).collect(Collectors.toList());
+    }
+
+    @Override
+    public DictionaryMetrics reload(Language language) {
+        final DictionaryLoad load = getDictionaryLoad(language);
+        synchronized (load) {
+            // the initial load is completed first so that it cannot replace the reloaded dictionary
+            load.future.join();
+
+            final Dictionary dictionary = CompletableFuture.supplyAsync(() -> load(language, load), executor).join();
+            if (dictionary == null) {
+                throw new IllegalStateException("The " + language + " dictionary cannot be reloaded");
+            }
+            load.reloadCount++;
+
+            return getMetrics(language, load);
+        }
+    }
+
+    /*
+     * Creates the metrics of the dictionary of the language
+     */
+    private DictionaryMetrics getMetrics(Language language, DictionaryLoad load) {
+        final Dictionary dictionary = registry.get(language);
+        return DictionaryMetrics.builder()
+                .language(language)
+                .loaded(dictionary != null)
+                .mapped(dictionary != null && dictionary.isMapped())
+                .wordCount(dictionary != null ? dictionary.size() : null)
+                .memorySize(dictionary != null ? dictionary.getMemorySize() : null)
+                .memoryDelta(dictionary != null ? load.memoryDelta : null)
+                .loadDuration(load.future.isDone() ? TimeUnit.NANOSECONDS.toMillis(load.loadDuration) : null)
+                .reloadCount(load.reloadCount)
+                .waitCount(load.waitCount.sum())
+                .waitDuration(TimeUnit.NANOSECONDS.toMillis(load.waitDuration.sum()))
+                .build();
+    }
+
+    /*
+     * Returns the dictionary of the language, the caller waits only if the dictionary is still being loaded
+     */
+    private Dictionary getDictionary(Language language) {
+        final Dictionary dictionary = registry.get(language);
+        if (dictionary != null) {
+            return dictionary;
+        }
+
+        final DictionaryLoad load = getDictionaryLoad(language);
+        final Dictionary loadedDictionary = load.future.isDone() ? load.future.join() : waitFor(load);
+        if (loadedDictionary == null) {
+            // the failed load is removed so that the next call loads the dictionary again
+            loads.remove(language, load);
+        }
+
+        return loadedDictionary;
+    }
+
+    /*
+     * Waits for the dictionary being loaded and records the waiting time
+     */
+    private Dictionary waitFor(DictionaryLoad load) {
+        final long startTime = System.nanoTime();
+        try {
+            return load.future.join();
+        } finally {
+            load.waitCount.increment();
+            load.waitDuration.add(System.nanoTime() - startTime);
+        }
+    }
+
+    /*
+     * Starts loading the dictionary of the language in the background unless it is already started
+     */
+    private DictionaryLoad getDictionaryLoad(Language language) {
+        return loads.computeIfAbsent(language, key -> {
+            final DictionaryLoad load = new DictionaryLoad();
+            load.future = CompletableFuture.supplyAsync(() -> load(key, load), executor).exceptionally(e -> {
+                log.error("An error occured while loading the {} dictionary", key, e);
+                return null;
+            });
+            return load;
+        });
+    }
+
+    /*
+     * Loads the dictionary of the language and replaces the active dictionary with it. The callers that
+     * already got the previous dictionary keep using it until they are completed
+     */
+    private Dictionary load(Language language, DictionaryLoad load) {
+        final long startTime = System.nanoTime();
+        final Dictionary dictionary = loadDictionary(language);
+        final long loadDuration = System.nanoTime() - startTime;
+        if (dictionary == null) {
+            return null;
+        }
+
+        final Dictionary previousDictionary = registry.register(dictionary);
+        load.loadDuration = loadDuration;
+        load.memoryDelta = dictionary.getMemorySize()
+                - (previousDictionary != null ? previousDictionary.getMemorySize() : 0);
+
+        log.info("The {} dictionary is loaded in {} ms, memory delta is {} bytes", language,
+                TimeUnit.NANOSECONDS.toMillis(loadDuration), load.memoryDelta);
+        return dictionary;
+    }
+
+    private Dictionary loadDictionary(Language language) {
+        final File file = new File(String.format(dictionaryPath, language));
+        final File imageFile = DictionaryImage.getImageFile(file);
+        try {
+            if (imageFile.exists() && imageFile.lastModified() >= file.lastModified()) {
+                final Dictionary dictionary = DictionaryImage.map(language, imageFile.toPath());
+                log.info("The {} dictionary is mapped from {}", language, imageFile);
+                return dictionary;
+            }
+        } catch (IOException e) {
+            log.error("An error occured while mapping the dictionary image {}", imageFile, e);
+        }
+
+        try {
+            return new DictionaryBuilder(language).read(file).build();
+        } catch (IOException e) {
+            log.error("An error occured while loading the dictionary of language {}", language, e);
+            return null;
+        }
+    }
+
+    /*
+     * Loading state of a dictionary
+     */
+    private static final class DictionaryLoad {
+
+        private CompletableFuture<Dictionary> future;
+        private volatile long loadDuration;
+        private volatile long memoryDelta;
+        private volatile long reloadCount;
+        private final LongAdder waitCount = new LongAdder();
+        private final LongAdder waitDuration = new LongAdder();
+
+    }
+
 }
@@ -0,0 +1,17 @@
+package com.gamecity.scrabble.service.impl;
+
+import org.springframework.stereotype.Service;
+
+import com.gamecity.scrabble.dao.GameArchiveDao;
+import com.gamecity.scrabble.entity.GameArchive;
+import com.gamecity.scrabble.service.GameArchiveService;
+
+@Service(value = "gameArchiveService")
+class GameArchiveServiceImpl extends AbstractServiceImpl<GameArchive, GameArchiveDao> implements GameArchiveService {
+
+    @Override
+    public GameArchive getByGameId(Long gameId) {
+        return baseDao.getByGameId(gameId);
+    }
+
+}
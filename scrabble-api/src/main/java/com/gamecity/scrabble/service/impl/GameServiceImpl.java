@@ -28,6 +28,7 @@ import com.gamecity.scrabble.model.VirtualBoard;
 import com.gamecity.scrabble.model.VirtualCell;
 import com.gamecity.scrabble.model.VirtualRack;
 import com.gamecity.scrabble.model.VirtualTile;
+import com.gamecity.scrabble.model.WordValidation;
 import com.gamecity.scrabble.service.ActionService;
 import com.gamecity.scrabble.service.ScoreService;
 import com.gamecity.scrabble.service.PlayerService;
@@ -43,6 +44,7 @@ import com.gamecity.scrabble.service.WordService;
 import com.gamecity.scrabble.service.exception.GameException;
 import com.gamecity.scrabble.service.exception.error.GameError;
 import com.gamecity.scrabble.service.helper.GameValidationHelper;
+import com.gamecity.scrabble.service.helper.GameVersionHelper;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -269,8 +271,7 @@ class GameServiceImpl extends AbstractServiceImpl<Game, GameDao> implements Game
 
         virtualRackService.validateRack(game.getId(), player.getPlayerNumber(), game.getRoundNumber(), virtualRack);
 
-        // TODO create a service/utility to calculate board version
-        final Integer boardVersion = game.getVersion() - game.getExpectedPlayerCount();
+        final Integer boardVersion = GameVersionHelper.getBoardVersion(game);
         final VirtualBoard virtualBoard = virtualBoardService.getBoard(game.getId(), boardVersion);
 
         if (ActionType.SKIP == actionType || ActionType.TIMEOUT == actionType) {
@@ -296,11 +297,8 @@ class GameServiceImpl extends AbstractServiceImpl<Game, GameDao> implements Game
         if (GameStatus.READY_TO_END == game.getStatus()) {
             // the last round has been played, schedule the end game job
             schedulerService.scheduleEndGameJob(game.getId());
-        } else {
-            // skip turn timeout duration
-            Integer duration = game.getDuration();
-            schedulerService.scheduleSkipTurnJob(game, duration);
         }
+        // otherwise the turn is skipped by the scheduler once the turn deadline of the game expires
     }
 
     /*
@@ -488,6 +486,11 @@ class GameServiceImpl extends AbstractServiceImpl<Game, GameDao> implements Game
         return baseDao.search(userId, includeUser);
     }
 
+    @Override
+    public Integer getVersion(Long id) {
+        return baseDao.getVersion(id);
+    }
+
     /*
      * Get the game and lock it on database level
      */
@@ -542,15 +545,19 @@ class GameServiceImpl extends AbstractServiceImpl<Game, GameDao> implements Game
         locateTilesOnBoard(game.getId(),updatedRack, virtualBoard);
         GameValidationHelper.hasNonEmptyCenter(virtualBoard);
 
+        final List<VirtualTile> placedTiles = updatedRack.getTiles()
+                .stream()
+                .filter(VirtualTile::isSealed)
+                .collect(Collectors.toList());
+
         final Set<BoardScanFlag> boardScanFlags = Set.of(LOG_NEW_LETTERS, LOG_NEW_WORDS);
         final List<ConstructedWord> constructedWords = virtualBoardService.scanWords(game.getId(), virtualBoard,
-                boardScanFlags);
+                placedTiles, boardScanFlags);
 
-        // set the dictionary definitions of the words
-        constructedWords.stream().forEach(constructedWord -> {
-            constructedWord.setDictionaryWord(
-                    dictionaryService.get(constructedWord.getBuilder().toString(), game.getLanguage()));
-        });
+        // validate the words at once without creating a dictionary word for each of them
+        final WordValidation wordValidation = dictionaryService.validateAll(
+                constructedWords.stream().map(ConstructedWord::getBuilder).collect(Collectors.toList()),
+                game.getLanguage());
 
         constructedWords.stream().forEach(constructedWord -> {
             constructedWord.getCells().stream().filter(VirtualCell::isLastPlayed).forEach(virtualCell -> {
@@ -559,7 +566,12 @@ class GameServiceImpl extends AbstractServiceImpl<Game, GameDao> implements Game
             });
         });
 
-        GameValidationHelper.hasWordsInDictionary(constructedWords, game.getLanguage());
+        GameValidationHelper.hasWordsInDictionary(wordValidation);
+
+        // set the dictionary definitions of the words
+        for (int index = 0; index < constructedWords.size(); index++) {
+            constructedWords.get(index).setDictionaryWord(wordValidation.getDictionaryWord(index));
+        }
 
         return constructedWords;
     }
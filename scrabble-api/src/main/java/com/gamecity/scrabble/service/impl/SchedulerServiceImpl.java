@@ -1,197 +1,271 @@
 package com.gamecity.scrabble.service.impl;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Calendar;
-import java.util.Date;
-
-import org.quartz.JobBuilder;
-import org.quartz.JobDetail;
-import org.quartz.JobKey;
-import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleTrigger;
-import org.quartz.TriggerBuilder;
-import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import com.gamecity.scrabble.Constants;
+import com.gamecity.scrabble.dao.GameDao;
+import com.gamecity.scrabble.dao.RedisRepository;
 import com.gamecity.scrabble.entity.Game;
 import com.gamecity.scrabble.job.EndGameJob;
 import com.gamecity.scrabble.job.SkipTurnJob;
 import com.gamecity.scrabble.job.StartGameJob;
 import com.gamecity.scrabble.job.TerminateGameJob;
 import com.gamecity.scrabble.service.SchedulerService;
+import com.gamecity.scrabble.util.HashedWheelTimer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Service("schedulerService")
 @Slf4j
 class SchedulerServiceImpl implements SchedulerService {
 
-    public static final String PARAM_GAME_ID = "gameId";
-    public static final String PARAM_PLAYER_NUMBER = "playerNumber";
-    public static final String PARAM_VERSION = "version";
-
-    private static final String SKIP_TURN_JOB_IDENTITY = "skipTurnJob_%s_%s";
-    private static final String SKIP_TURN_JOB_GROUP = "skipTurn";
-    private static final String SKIP_TURN_TRIGGER_IDENTITY = "skipTurnTrigger_%s_%s";
-
-    private static final String START_GAME_JOB_IDENTITY = "startGameJob_%s";
-    private static final String START_GAME_JOB_GROUP = "startGame";
-    private static final String START_GAME_TRIGGER_IDENTITY = "startGameTrigger_%s";
+    // a timer runs at most one tick after its due time, a turn of the wheel is 51.2 seconds
+    private static final long TIMER_TICK_MILLISECONDS = 100;
+    private static final int TIMER_WHEEL_SIZE = 512;
+    private static final int TIMER_THREAD_COUNT = 4;
+
+    // the overdue timers of a stopped node are run by the other nodes after this delay
+    private static final long TIMER_POLL_INTERVAL_MILLISECONDS = 1000;
+    private static final long TIMER_RECOVERY_DELAY_MILLISECONDS = 2000;
+    private static final int TIMER_POLL_BATCH_SIZE = 100;
+
+    // the turns expiring before the next sweep are skipped on the timing wheel
+    private static final long TURN_SWEEP_INTERVAL_MILLISECONDS = 500;
+    private static final int TURN_SWEEP_BATCH_SIZE = 100;
+
+    private static final String SKIP_TURN_TIMER = "SKIP_TURN";
+    private static final String START_GAME_TIMER = "START_GAME";
+    private static final String END_GAME_TIMER = "END_GAME";
+    private static final String TERMINATE_GAME_TIMER = "TERMINATE_GAME";
+
+    private final ExecutorService timerExecutor;
+    private final ScheduledExecutorService timerPoller;
+    private final HashedWheelTimer timer;
+    private final Map<String, HashedWheelTimer.Timeout> timeouts = new ConcurrentHashMap<>();
+
+    private GameDao gameDao;
+    private RedisRepository redisRepository;
+    private ObjectProvider<SkipTurnJob> skipTurnJob;
+    private ObjectProvider<StartGameJob> startGameJob;
+    private ObjectProvider<EndGameJob> endGameJob;
+    private ObjectProvider<TerminateGameJob> terminateGameJob;
+
+    public SchedulerServiceImpl(final GameDao gameDao,
+                                final RedisRepository redisRepository,
+                                final ObjectProvider<SkipTurnJob> skipTurnJob,
+                                final ObjectProvider<StartGameJob> startGameJob,
+                                final ObjectProvider<EndGameJob> endGameJob,
+                                final ObjectProvider<TerminateGameJob> terminateGameJob) {
+        this.gameDao = gameDao;
+        this.redisRepository = redisRepository;
+        this.skipTurnJob = skipTurnJob;
+        this.startGameJob = startGameJob;
+        this.endGameJob = endGameJob;
+        this.terminateGameJob = terminateGameJob;
+        this.timerExecutor = Executors.newFixedThreadPool(TIMER_THREAD_COUNT,
+                new ThreadFactoryBuilder().setNameFormat("game-timer-%d").setDaemon(true).build());
+        this.timerPoller = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("game-timer-poller").setDaemon(true).build());
+        this.timer = new HashedWheelTimer("game-timer-wheel", TIMER_TICK_MILLISECONDS, TimeUnit.MILLISECONDS,
+                TIMER_WHEEL_SIZE, timerExecutor);
+    }
 
-    private static final String END_GAME_JOB_IDENTITY = "endGameJob_%s";
-    private static final String END_GAME_JOB_GROUP = "endGame";
-    private static final String END_GAME_TRIGGER_IDENTITY = "endGameTrigger_%s";
+    @PostConstruct
+    void init() {
+        timerPoller.scheduleWithFixedDelay(this::pollTimers, TIMER_POLL_INTERVAL_MILLISECONDS,
+                TIMER_POLL_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+        timerPoller.scheduleWithFixedDelay(this::sweepExpiredTurns, TURN_SWEEP_INTERVAL_MILLISECONDS,
+                TURN_SWEEP_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
 
-    private static final String TERMINATE_GAME_JOB_IDENTITY = "terminateGameJob_%s";
-    private static final String TERMINATE_GAME_JOB_GROUP = "terminateGame";
-    private static final String TERMINATE_GAME_TRIGGER_IDENTITY = "terminateGameTrigger_%s";
+    @PreDestroy
+    void destroy() {
+        timerPoller.shutdownNow();
+        timer.stop();
+        timerExecutor.shutdownNow();
+    }
 
-    private SchedulerFactoryBean schedulerFactory;
+    @Override
+    public void scheduleStartGameJob(Long gameId) {
+        schedule(getTimerKey(START_GAME_TIMER, gameId), System.currentTimeMillis());
 
-    public SchedulerServiceImpl(final SchedulerFactoryBean schedulerFactory) {
-        this.schedulerFactory = schedulerFactory;
+        log.info("StartGameJob has been created on game {}", gameId);
     }
 
     @Override
-    public void scheduleSkipTurnJob(Game game, Integer duration) {
-        try {
-            final JobDetail jobDetail = JobBuilder.newJob(SkipTurnJob.class)
-                    .withIdentity(String.format(SKIP_TURN_JOB_IDENTITY, game.getId(), game.getVersion()),
-                            SKIP_TURN_JOB_GROUP)
-                    .usingJobData(PARAM_GAME_ID, game.getId())
-                    .usingJobData(PARAM_PLAYER_NUMBER, game.getCurrentPlayerNumber())
-                    .usingJobData(PARAM_VERSION, game.getVersion())
-                    .build();
-
-            final Calendar calendar = Calendar.getInstance();
-            calendar.setTime(Date.from(game.getLastUpdatedDate().atZone(ZoneId.systemDefault()).toInstant()));
-            calendar.add(Calendar.SECOND, duration);
-
-            final SimpleTrigger trigger = (SimpleTrigger) TriggerBuilder.newTrigger()
-                    .withIdentity(String.format(SKIP_TURN_TRIGGER_IDENTITY, game.getId(), game.getVersion()),
-                            SKIP_TURN_JOB_GROUP)
-                    .startAt(calendar.getTime())
-                    .forJob(String.format(SKIP_TURN_JOB_IDENTITY, game.getId(), game.getVersion()), SKIP_TURN_JOB_GROUP)
-                    .build();
-
-            final Scheduler scheduler = schedulerFactory.getScheduler();
-            scheduler.scheduleJob(jobDetail, trigger);
-            scheduler.start();
-
-            log.info("SkipTurnJob has been created on game {} for version {}", game.getId(), game.getVersion());
-        } catch (SchedulerException e) {
-            log.error("An error occured while scheduling the skip turn job", e);
-        }
+    public void scheduleEndGameJob(Long gameId) {
+        schedule(getTimerKey(END_GAME_TIMER, gameId), System.currentTimeMillis());
+
+        log.info("EndGameJob has been created on game {}", gameId);
     }
 
     @Override
-    public void terminateSkipTurnJob(Long gameId, Integer version) {
-        try {
-            final JobKey jobKey = new JobKey(String.format(SKIP_TURN_JOB_IDENTITY, gameId, version),
-                    SKIP_TURN_JOB_GROUP);
+    public void scheduleTerminateGameJob(Long gameId, LocalDateTime createdDate) {
+        // terminate the game if it doesn't start in 10 minutes
+        final LocalDateTime terminateDate = createdDate.plusMinutes(Constants.Game.TERMINATE_GAME_DURATION_MINUTES);
+        schedule(getTimerKey(TERMINATE_GAME_TIMER, gameId), toEpochMilli(terminateDate));
 
-            schedulerFactory.getScheduler().interrupt(jobKey);
-            schedulerFactory.getScheduler().deleteJob(jobKey);
+        log.info("TerminateGameJob has been created on game {}", gameId);
+    }
 
-            log.info("SkipTurnJob has been terminated on game {} for version {}", gameId, version);
-        } catch (SchedulerException e) {
-            log.error("An error occured while terminating the skip turn job", e);
+    @Override
+    public void terminateTerminateGameJob(Long gameId) {
+        if (cancel(getTimerKey(TERMINATE_GAME_TIMER, gameId))) {
+            log.info("TerminateGameJob has been terminated on game {}", gameId);
         }
     }
 
-    @Override
-    public void scheduleStartGameJob(Long gameId) {
+    /**
+     * Runs the timers that are overdue for longer than the recovery delay, these are the timers of the nodes
+     * that are stopped before the due time
+     */
+    void pollTimers() {
         try {
-            final JobDetail jobDetail = JobBuilder.newJob(StartGameJob.class)
-                    .withIdentity(String.format(START_GAME_JOB_IDENTITY, gameId), START_GAME_JOB_GROUP)
-                    .usingJobData(PARAM_GAME_ID, gameId)
-                    .build();
-
-            final SimpleTrigger trigger = (SimpleTrigger) TriggerBuilder.newTrigger()
-                    .withIdentity(String.format(START_GAME_TRIGGER_IDENTITY, gameId), START_GAME_JOB_GROUP)
-                    .startNow()
-                    .forJob(String.format(START_GAME_JOB_IDENTITY, gameId), START_GAME_JOB_GROUP)
-                    .build();
-
-            final Scheduler scheduler = schedulerFactory.getScheduler();
-            scheduler.scheduleJob(jobDetail, trigger);
-            scheduler.start();
-
-            log.info("StartGameJob has been created on game {}", gameId);
-        } catch (SchedulerException e) {
-            log.error("An error occured while scheduling the start game job", e);
+            List<String> timerKeys;
+            do {
+                timerKeys = redisRepository.getDueTimers(
+                        System.currentTimeMillis() - TIMER_RECOVERY_DELAY_MILLISECONDS, TIMER_POLL_BATCH_SIZE);
+                for (String timerKey : timerKeys) {
+                    final HashedWheelTimer.Timeout timeout = timeouts.remove(timerKey);
+                    if (timeout != null) {
+                        timeout.cancel();
+                    }
+                    if (redisRepository.removeTimer(timerKey)) {
+                        timerExecutor.execute(() -> run(timerKey));
+                    }
+                }
+            } while (timerKeys.size() == TIMER_POLL_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("An error occured while polling the timers", e);
         }
     }
 
-    @Override
-    public void scheduleEndGameJob(Long gameId) {
+    /**
+     * Skips the turns of the games that expire before the next sweep. The turn of a game version is claimed
+     * in Redis, so it is skipped by one of the nodes, and it is skipped at the turn deadline on the timing
+     * wheel. The expired turns are skipped in parallel by the timer threads. The games are read in batches,
+     * so the games after the claimed games of the first batch are not delayed.
+     */
+    void sweepExpiredTurns() {
         try {
-            final JobDetail jobDetail = JobBuilder.newJob(EndGameJob.class)
-                    .withIdentity(String.format(END_GAME_JOB_IDENTITY, gameId), END_GAME_JOB_GROUP)
-                    .usingJobData(PARAM_GAME_ID, gameId)
-                    .build();
-
-            final SimpleTrigger trigger = (SimpleTrigger) TriggerBuilder.newTrigger()
-                    .withIdentity(String.format(END_GAME_TRIGGER_IDENTITY, gameId), END_GAME_JOB_GROUP)
-                    .startNow()
-                    .forJob(String.format(END_GAME_JOB_IDENTITY, gameId), END_GAME_JOB_GROUP)
-                    .build();
-
-            final Scheduler scheduler = schedulerFactory.getScheduler();
-            scheduler.scheduleJob(jobDetail, trigger);
-            scheduler.start();
-
-            log.info("EndGameJob has been created on game {}", gameId);
-        } catch (SchedulerException e) {
-            log.error("An error occured while scheduling the end game job", e);
+            final LocalDateTime now = LocalDateTime.now();
+            final LocalDateTime sweepTime = now.plus(TURN_SWEEP_INTERVAL_MILLISECONDS, ChronoUnit.MILLIS);
+            List<Game> games;
+            Game lastGame = null;
+            do {
+                games = gameDao.getExpiredGames(sweepTime, lastGame, TURN_SWEEP_BATCH_SIZE);
+                for (Game game : games) {
+                    final String timerKey = getTimerKey(SKIP_TURN_TIMER, game.getId(), game.getVersion());
+                    if (redisRepository.claimTimer(timerKey)) {
+                        timer.schedule(() -> run(timerKey), Duration.between(now, game.getTurnDeadline()).toMillis(),
+                                TimeUnit.MILLISECONDS);
+                    }
+                    lastGame = game;
+                }
+            } while (games.size() == TURN_SWEEP_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("An error occured while sweeping the expired turns", e);
         }
     }
 
-    @Override
-    public void scheduleTerminateGameJob(Long gameId, LocalDateTime createdDate) {
-        try {
-            final JobDetail jobDetail = JobBuilder.newJob(TerminateGameJob.class)
-                    .withIdentity(String.format(TERMINATE_GAME_JOB_IDENTITY, gameId), TERMINATE_GAME_JOB_GROUP)
-                    .usingJobData(PARAM_GAME_ID, gameId)
-                    .build();
-
-            // terminate the game if it doesn't start in 10 minutes
-            final Calendar calendar = Calendar.getInstance();
-            calendar.setTime(Date.from(createdDate.atZone(ZoneId.systemDefault()).toInstant()));
-            calendar.add(Calendar.MINUTE, Constants.Game.TERMINATE_GAME_DURATION_MINUTES);
-
-            final SimpleTrigger trigger = (SimpleTrigger) TriggerBuilder.newTrigger()
-                    .withIdentity(String.format(TERMINATE_GAME_TRIGGER_IDENTITY, gameId), TERMINATE_GAME_JOB_GROUP)
-                    .startAt(calendar.getTime())
-                    .forJob(String.format(TERMINATE_GAME_JOB_IDENTITY, gameId), TERMINATE_GAME_JOB_GROUP)
-                    .build();
-
-            final Scheduler scheduler = schedulerFactory.getScheduler();
-            scheduler.scheduleJob(jobDetail, trigger);
-            scheduler.start();
-
-            log.info("TerminateGameJob has been created on game {}", gameId);
-        } catch (SchedulerException e) {
-            log.error("An error occured while scheduling the terminate game job", e);
+    /**
+     * Gets the number of the timers scheduled on this node
+     *
+     * @return the number of the pending timeouts
+     */
+    long getPendingTimerCount() {
+        return timer.getPendingCount();
+    }
+
+    /*
+     * Stores the timer in Redis and schedules it on the timing wheel of this node
+     */
+    private void schedule(String timerKey, long dueTime) {
+        redisRepository.scheduleTimer(timerKey, dueTime);
+
+        final HashedWheelTimer.Timeout timeout = timer.schedule(() -> {
+            timeouts.remove(timerKey);
+            try {
+                // the timer is cancelled or it is run by another node if it is not in Redis anymore
+                if (redisRepository.removeTimer(timerKey)) {
+                    run(timerKey);
+                }
+            } catch (Exception e) {
+                log.error("An error occured while removing the timer {}", timerKey, e);
+            }
+        }, dueTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+
+        final HashedWheelTimer.Timeout previousTimeout = timeouts.put(timerKey, timeout);
+        if (previousTimeout != null) {
+            previousTimeout.cancel();
         }
     }
 
-    @Override
-    public void terminateTerminateGameJob(Long gameId) {
+    /*
+     * Removes the timer from Redis, the timer may be scheduled on another node
+     */
+    private boolean cancel(String timerKey) {
+        final HashedWheelTimer.Timeout timeout = timeouts.remove(timerKey);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        return redisRepository.removeTimer(timerKey);
+    }
+
+    /*
+     * Runs the job of a timer that is removed from Redis by this node
+     */
+    private void run(String timerKey) {
         try {
-            final JobKey jobKey = new JobKey(String.format(TERMINATE_GAME_JOB_IDENTITY, gameId),
-                    TERMINATE_GAME_JOB_GROUP);
+            final String[] parts = timerKey.split(":");
+            final Long gameId = Long.valueOf(parts[1]);
+            switch (parts[0]) {
+                case SKIP_TURN_TIMER:
+                    skipTurnJob.getObject().skipTurn(gameId, Integer.valueOf(parts[2]));
+                    break;
+                case START_GAME_TIMER:
+                    startGameJob.getObject().start(gameId);
+                    break;
+                case END_GAME_TIMER:
+                    endGameJob.getObject().end(gameId);
+                    break;
+                case TERMINATE_GAME_TIMER:
+                    terminateGameJob.getObject().terminate(gameId);
+                    break;
+                default:
+                    log.error("Timer {} is not supported", timerKey);
+            }
+        } catch (Exception e) {
+            log.error("An error occured while running the timer {}", timerKey, e);
+        }
+    }
 
-            schedulerFactory.getScheduler().interrupt(jobKey);
-            schedulerFactory.getScheduler().deleteJob(jobKey);
+    private static String getTimerKey(String timerType, Long gameId) {
+        return timerType + ":" + gameId;
+    }
 
-            log.info("TerminateGameJob has been terminated on game {}", gameId);
-        } catch (SchedulerException e) {
-            log.error("An error occured while terminating the terminate game job", e);
-        }
+    private static String getTimerKey(String timerType, Long gameId, Integer version) {
+        return timerType + ":" + gameId + ":" + version;
+    }
+
+    private static long toEpochMilli(LocalDateTime date) {
+        return date.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 
 }
@@ -2,9 +2,11 @@ package com.gamecity.scrabble.service.impl;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -12,14 +14,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
 import com.gamecity.scrabble.dao.CellDao;
+import com.gamecity.scrabble.dao.GameArchiveDao;
 import com.gamecity.scrabble.dao.RedisRepository;
-import com.gamecity.scrabble.entity.Cell;
+import com.gamecity.scrabble.entity.GameArchive;
+import com.gamecity.scrabble.model.BitBoard;
+import com.gamecity.scrabble.model.BoardLayout;
 import com.gamecity.scrabble.model.BoardScanFlag;
 import com.gamecity.scrabble.model.ConstructedWord;
 import com.gamecity.scrabble.model.Direction;
 import com.gamecity.scrabble.model.ExtensionPoint;
 import com.gamecity.scrabble.model.VirtualBoard;
 import com.gamecity.scrabble.model.VirtualCell;
+import com.gamecity.scrabble.model.VirtualTile;
 import com.gamecity.scrabble.service.VirtualBoardService;
 import com.gamecity.scrabble.service.exception.GameException;
 import com.gamecity.scrabble.service.exception.error.GameError;
@@ -41,47 +47,19 @@ import static com.gamecity.scrabble.model.Direction.VERTICAL;
 class VirtualBoardServiceImpl implements VirtualBoardService {
 
     private CellDao cellDao;
+    private GameArchiveDao gameArchiveDao;
     private RedisRepository redisRepository;
 
-    public VirtualBoardServiceImpl(final CellDao cellDao, final RedisRepository redisRepository) {
+    public VirtualBoardServiceImpl(final CellDao cellDao, final GameArchiveDao gameArchiveDao,
+                                   final RedisRepository redisRepository) {
         this.cellDao = cellDao;
+        this.gameArchiveDao = gameArchiveDao;
         this.redisRepository = redisRepository;
     }
 
     @Override
     public void createBoard(Long gameId) {
-        final VirtualCell[] virtualCells = new VirtualCell[BOARD_SIZE * BOARD_SIZE];
-
-        final Map<Integer, Cell> cells = cellDao.list()
-                .stream()
-                .collect(Collectors.toMap(Cell::getCellNumber, cell -> cell));
-
-        IntStream.range(1, BOARD_SIZE + 1).forEach(rowNumber -> {
-            IntStream.range(1, BOARD_SIZE + 1).forEach(columnNumber -> {
-                final Cell cell = cells.get((rowNumber - 1) * BOARD_SIZE + columnNumber);
-                if (cell == null) {
-                    throw new IllegalStateException("Cell [{" + rowNumber + "},{" + columnNumber + "}] is not found!");
-                }
-                final VirtualCell virtualCell = VirtualCell.builder()
-                        .cellNumber(cell.getCellNumber())
-                        .center(cell.isCenter())
-                        .color(cell.getColor())
-                        .columnNumber(cell.getColumnNumber())
-                        .hasBottom(cell.isHasBottom())
-                        .hasLeft(cell.isHasLeft())
-                        .hasRight(cell.isHasRight())
-                        .hasTop(cell.isHasTop())
-                        .letterValueMultiplier(cell.getLetterValueMultiplier())
-                        .rowNumber(cell.getRowNumber())
-                        .sealed(false)
-                        .value(0)
-                        .wordScoreMultiplier(cell.getWordScoreMultiplier())
-                        .build();
-                virtualCells[virtualCell.getCellNumber() - 1] = virtualCell;
-            });
-        });
-
-        final VirtualBoard virtualBoard = new VirtualBoard(Arrays.asList(virtualCells));
+        final VirtualBoard virtualBoard = new VirtualBoard(new BoardLayout(cellDao.list()).createCells());
         redisRepository.updateBoard(gameId, virtualBoard);
         log.info("Board has been created for game {}", gameId);
     }
@@ -95,7 +73,13 @@ class VirtualBoardServiceImpl implements VirtualBoardService {
     @Override
     public VirtualBoard getBoard(Long gameId, Integer version) {
         final VirtualBoard virtualBoard = redisRepository.getBoard(gameId, version);
-        return new VirtualBoard(virtualBoard.getCells());
+        if (virtualBoard != null || version < 1) {
+            return virtualBoard;
+        }
+
+        // the board history of an ended game is moved to the archive
+        final GameArchive gameArchive = gameArchiveDao.getByGameId(gameId);
+        return gameArchive == null ? null : redisRepository.getArchivedBoard(gameArchive, version);
     }
 
     /*
@@ -107,32 +91,166 @@ class VirtualBoardServiceImpl implements VirtualBoardService {
 
         // find horizontal and vertical words
         Arrays.stream(Direction.values()).forEach(direction -> {
-
             IntStream.range(1, BOARD_SIZE + 1).forEach(index -> {
-                final ConstructedWord constructedWord = ConstructedWord.builder().direction(direction).build();
-
-                IntStream.range(1, BOARD_SIZE + 1).forEach(oppositeIndex -> {
-                    final VirtualCell cell = Direction.HORIZONTAL == direction
-                            ? virtualBoard.getCell(index, oppositeIndex)
-                            : virtualBoard.getCell(oppositeIndex, index);
-
-                    final ConstructedWord detectedWord = scanWordsByDirection(gameId, cell, boardScanFlags,
-                            constructedWord);
-                    if (detectedWord != null) {
-                        words.add(detectedWord);
-                    }
-                });
+                scanWordsByLine(gameId, virtualBoard, direction, index, boardScanFlags, words);
             });
         });
 
         if (!boardScanFlags.contains(SCAN_SINGLE_LETTERS)) {
             hasNoSingleLetterWords(virtualBoard);
         }
-        scanBoardLinks(words, virtualBoard);
+        scanBoardLinks(words, word -> linkWord(word, virtualBoard));
 
         return words;
     }
 
+    /*
+     * Finds the new words on the board by scanning only the rows and the columns of the placed tiles
+     */
+    @Override
+    public List<ConstructedWord> scanWords(Long gameId, VirtualBoard virtualBoard, List<VirtualTile> placedTiles,
+                                           Set<BoardScanFlag> boardScanFlags) {
+        // existing words can be anywhere on the board
+        if (boardScanFlags.contains(SCAN_EXISTING_WORDS)) {
+            return scanWords(gameId, virtualBoard, boardScanFlags);
+        }
+
+        // the cells are ordered as they are on the board
+        final Collection<VirtualCell> placedCells = placedTiles.stream()
+                .map(tile -> virtualBoard.getCell(tile.getRowNumber(), tile.getColumnNumber()))
+                .collect(Collectors.toMap(VirtualCell::getCellNumber, cell -> cell, (cell, duplicateCell) -> cell,
+                        TreeMap::new))
+                .values();
+
+        final BitBoard bitBoard = new BitBoard(virtualBoard);
+
+        int placedRows = 0;
+        int placedColumns = 0;
+        for (VirtualCell placedCell : placedCells) {
+            // letter is placed this round
+            placedCell.setLastPlayed(true);
+            placedRows |= BitBoard.bit(placedCell.getRowNumber());
+            placedColumns |= BitBoard.bit(placedCell.getColumnNumber());
+        }
+
+        final List<ConstructedWord> words = new ArrayList<>();
+
+        // a line without a placed tile has only existing words, the lines are scanned in the board order
+        for (int rowNumber = 1; rowNumber <= BOARD_SIZE; rowNumber++) {
+            if ((placedRows & BitBoard.bit(rowNumber)) != 0) {
+                scanWordsByLine(gameId, virtualBoard, bitBoard, HORIZONTAL, rowNumber, boardScanFlags, words);
+            }
+        }
+        for (int columnNumber = 1; columnNumber <= BOARD_SIZE; columnNumber++) {
+            if ((placedColumns & BitBoard.bit(columnNumber)) != 0) {
+                scanWordsByLine(gameId, virtualBoard, bitBoard, VERTICAL, columnNumber, boardScanFlags, words);
+            }
+        }
+
+        if (!boardScanFlags.contains(SCAN_SINGLE_LETTERS)) {
+            hasNoSingleLetterWords(bitBoard, placedCells);
+        }
+        scanBoardLinks(words, word -> linkWord(word, bitBoard));
+
+        return words;
+    }
+
+    /*
+     * Finds words on the row or the column with the given index by the used cells of the bit board, the
+     * cells are read from the board only for the found words
+     */
+    private void scanWordsByLine(Long gameId, VirtualBoard virtualBoard, BitBoard bitBoard, Direction direction,
+                                 int index, Set<BoardScanFlag> boardScanFlags, List<ConstructedWord> words) {
+        int usedCells = bitBoard.getLine(direction, index);
+        while (usedCells != 0) {
+            // the next sequence of the used cells in the line
+            final int start = Integer.numberOfTrailingZeros(usedCells);
+            final int length = Integer.numberOfTrailingZeros(~(usedCells >>> start));
+            final int wordCells = ((1 << length) - 1) << start;
+            usedCells &= ~wordCells;
+
+            if (log.isDebugEnabled()) {
+                logLetters(gameId, bitBoard, direction, index, wordCells, boardScanFlags);
+            }
+
+            // can include a single letter word only if the feature is enabled
+            if (length == 1 && !boardScanFlags.contains(SCAN_SINGLE_LETTERS)) {
+                continue;
+            }
+
+            // existing words are not scanned by the placed tiles
+            if ((bitBoard.getSealedLine(direction, index) & wordCells) == wordCells) {
+                continue;
+            }
+
+            final ConstructedWord detectedWord = ConstructedWord.builder()
+                    .cells(new ArrayList<>(length))
+                    .builder(new StringBuilder(length))
+                    .direction(direction)
+                    .linked((bitBoard.getCenterLine(direction, index) & wordCells) != 0)
+                    .build();
+
+            for (int oppositeIndex = start + 1; oppositeIndex <= start + length; oppositeIndex++) {
+                final VirtualCell cell = HORIZONTAL == direction ? virtualBoard.getCell(index, oppositeIndex)
+                        : virtualBoard.getCell(oppositeIndex, index);
+                detectedWord.getCells().add(cell);
+                detectedWord.getBuilder().append(bitBoard.getLetter(cell.getRowNumber(), cell.getColumnNumber()));
+            }
+
+            // seal the cells if the word is a linked word
+            if (detectedWord.isLinked()) {
+                detectedWord.getCells().forEach(bitBoard::seal);
+            }
+
+            // log the word
+            if (boardScanFlags.contains(LOG_NEW_WORDS)) {
+                log.debug("{} word '{}' has been detected on game {}", direction.name(), detectedWord.getBuilder(),
+                        gameId);
+            }
+
+            words.add(detectedWord);
+        }
+    }
+
+    /*
+     * Logs the letters of the given cells in a line
+     */
+    private void logLetters(Long gameId, BitBoard bitBoard, Direction direction, int index, int cells,
+                            Set<BoardScanFlag> boardScanFlags) {
+        for (int oppositeIndex = 1; oppositeIndex <= BOARD_SIZE; oppositeIndex++) {
+            if ((cells & BitBoard.bit(oppositeIndex)) == 0) {
+                continue;
+            }
+
+            final int rowNumber = HORIZONTAL == direction ? index : oppositeIndex;
+            final int columnNumber = HORIZONTAL == direction ? oppositeIndex : index;
+            final boolean isNewLetter = !bitBoard.isSealed(rowNumber, columnNumber);
+            if ((boardScanFlags.contains(LOG_NEW_LETTERS) && isNewLetter)
+                    || (boardScanFlags.contains(LOG_EXISTING_LETTERS) && !isNewLetter)) {
+                log.debug("{} letter '{}' is spotted on [{},{}] on game {}", direction,
+                        bitBoard.getLetter(rowNumber, columnNumber), rowNumber, columnNumber, gameId);
+            }
+        }
+    }
+
+    /*
+     * Finds words on the row or the column with the given index
+     */
+    private void scanWordsByLine(Long gameId, VirtualBoard virtualBoard, Direction direction, int index,
+                                 Set<BoardScanFlag> boardScanFlags, List<ConstructedWord> words) {
+        final ConstructedWord constructedWord = ConstructedWord.builder().direction(direction).build();
+
+        IntStream.range(1, BOARD_SIZE + 1).forEach(oppositeIndex -> {
+            final VirtualCell cell = Direction.HORIZONTAL == direction ? virtualBoard.getCell(index, oppositeIndex)
+                    : virtualBoard.getCell(oppositeIndex, index);
+
+            final ConstructedWord detectedWord = scanWordsByDirection(gameId, cell, boardScanFlags, constructedWord);
+            if (detectedWord != null) {
+                words.add(detectedWord);
+            }
+        });
+    }
+
     /*
      * Finds words on the board by direction
      */
@@ -225,6 +343,23 @@ class VirtualBoardServiceImpl implements VirtualBoardService {
                 .map(VirtualCell::getLetter)
                 .collect(Collectors.toList());
 
+        hasNoSingleLetterWords(singleLetterWords);
+    }
+
+    /**
+     * Validate that the placed cells have no single letter words if SCAN_SINGLE_LETTERS is disabled
+     */
+    private static void hasNoSingleLetterWords(final BitBoard bitBoard, final Collection<VirtualCell> placedCells) {
+        final List<String> singleLetterWords = placedCells.stream()
+                .filter(virtualCell -> !bitBoard.isSealed(virtualCell.getRowNumber(), virtualCell.getColumnNumber())
+                        && !bitBoard.hasUsedNeighbour(virtualCell.getRowNumber(), virtualCell.getColumnNumber()))
+                .map(VirtualCell::getLetter)
+                .collect(Collectors.toList());
+
+        hasNoSingleLetterWords(singleLetterWords);
+    }
+
+    private static void hasNoSingleLetterWords(final List<String> singleLetterWords) {
         if (!CollectionUtils.isEmpty(singleLetterWords)) {
             final String commaSeperatedSingleLetterWords = String.join(",", singleLetterWords);
             log.debug("Single letter word(s) {} are detected", commaSeperatedSingleLetterWords);
@@ -244,7 +379,8 @@ class VirtualBoardServiceImpl implements VirtualBoardService {
     /*
      * Scans links between new words and existing words
      */
-    private static void scanBoardLinks(final List<ConstructedWord> constructedWords, final VirtualBoard virtualBoard) {
+    private static void scanBoardLinks(final List<ConstructedWord> constructedWords,
+                                       final UnaryOperator<ConstructedWord> linker) {
         final List<ConstructedWord> unlinkedWords = constructedWords.stream()
                 .filter(word -> !word.isLinked())
                 .collect(Collectors.toList());
@@ -256,9 +392,10 @@ class VirtualBoardServiceImpl implements VirtualBoardService {
 
         int unlinkedWordCount = unlinkedWords.size();
         while (unlinkedWordCount > 0) {
-            final List<ConstructedWord> updatedUnlinkedWords = unlinkedWords.stream().map(word -> {
-                return linkWord(word, virtualBoard);
-            }).filter(word -> !word.isLinked()).collect(Collectors.toList());
+            final List<ConstructedWord> updatedUnlinkedWords = unlinkedWords.stream()
+                    .map(linker)
+                    .filter(word -> !word.isLinked())
+                    .collect(Collectors.toList());
 
             if (updatedUnlinkedWords.isEmpty()) {
                 // all words are linked
@@ -300,4 +437,21 @@ class VirtualBoardServiceImpl implements VirtualBoardService {
         return word;
     }
 
+    /*
+     * Link new words to existing words by the sealed cells of the bit board
+     */
+    private static ConstructedWord linkWord(final ConstructedWord word, final BitBoard bitBoard) {
+        for (VirtualCell cell : word.getCells()) {
+            if (bitBoard.isSealed(cell.getRowNumber(), cell.getColumnNumber())
+                    || bitBoard.hasSealedNeighbour(cell.getRowNumber(), cell.getColumnNumber())) {
+                word.setLinked(true);
+
+                // seal the cells if the word is a linked word
+                word.getCells().forEach(bitBoard::seal);
+                break;
+            }
+        }
+        return word;
+    }
+
 }
@@ -12,8 +12,10 @@ import java.util.stream.IntStream;
 import org.springframework.stereotype.Service;
 
 import com.gamecity.scrabble.Constants;
+import com.gamecity.scrabble.dao.GameArchiveDao;
 import com.gamecity.scrabble.dao.RedisRepository;
 import com.gamecity.scrabble.entity.Game;
+import com.gamecity.scrabble.entity.GameArchive;
 import com.gamecity.scrabble.entity.Language;
 import com.gamecity.scrabble.entity.Tile;
 import com.gamecity.scrabble.model.VirtualRack;
@@ -32,10 +34,13 @@ import static com.gamecity.scrabble.Constants.Game.RACK_SIZE;
 class VirtualRackServiceImpl implements VirtualRackService {
 
     private VirtualBagService virtualBagService;
+    private GameArchiveDao gameArchiveDao;
     private RedisRepository redisRepository;
 
-    public VirtualRackServiceImpl(final VirtualBagService virtualBagService, final RedisRepository redisRepository) {
+    public VirtualRackServiceImpl(final VirtualBagService virtualBagService, final GameArchiveDao gameArchiveDao,
+                                  final RedisRepository redisRepository) {
         this.virtualBagService = virtualBagService;
+        this.gameArchiveDao = gameArchiveDao;
         this.redisRepository = redisRepository;
     }
 
@@ -111,6 +116,18 @@ class VirtualRackServiceImpl implements VirtualRackService {
     public void fillRack(Long gameId, Language language, Integer playerNumber, Integer roundNumber,
                          VirtualRack virtualRack) {
         final List<Tile> tiles = virtualBagService.getTiles(gameId, language);
+        final VirtualRack filledRack = refillRack(gameId, language, playerNumber, roundNumber, virtualRack, tiles);
+
+        // update the cached tiles
+        virtualBagService.updateTiles(gameId, tiles);
+
+        redisRepository.fillRack(gameId, playerNumber, filledRack);
+        log.info("Rack has been refilled for player {} on game {}", playerNumber, gameId);
+    }
+
+    @Override
+    public VirtualRack refillRack(Long gameId, Language language, Integer playerNumber, Integer roundNumber,
+                                  VirtualRack virtualRack, List<Tile> tiles) {
         final List<VirtualTile> updatedVirtualTiles = virtualRack.getTiles().stream().map(tile -> {
             if (Boolean.TRUE.equals(tile.isSealed()) || Boolean.TRUE.equals(tile.isExchanged())) {
                 return createTile(gameId, language, playerNumber, tile.getNumber(), roundNumber, tiles);
@@ -118,12 +135,7 @@ class VirtualRackServiceImpl implements VirtualRackService {
             return tile;
         }).filter(Objects::nonNull).collect(Collectors.toList());
 
-        // update the cached tiles
-        virtualBagService.updateTiles(gameId, tiles);
-
-        final VirtualRack filledRack = new VirtualRack(updatedVirtualTiles);
-        redisRepository.fillRack(gameId, playerNumber, filledRack);
-        log.info("Rack has been refilled for player {} on game {}", playerNumber, gameId);
+        return new VirtualRack(updatedVirtualTiles);
     }
 
     @Override
@@ -134,7 +146,15 @@ class VirtualRackServiceImpl implements VirtualRackService {
 
     @Override
     public VirtualRack getRack(Long gameId, Integer playerNumber, Integer roundNumber) {
-        return redisRepository.getRack(gameId, playerNumber, roundNumber);
+        final VirtualRack virtualRack = redisRepository.getRack(gameId, playerNumber, roundNumber);
+        if (virtualRack != null || roundNumber < 1) {
+            return virtualRack;
+        }
+
+        // the racks of an ended game are moved to the archive
+        final GameArchive gameArchive = gameArchiveDao.getByGameId(gameId);
+        return gameArchive == null ? null
+                : redisRepository.getArchivedRack(gameArchive, playerNumber, roundNumber);
     }
 
     @Override
@@ -0,0 +1,80 @@
+package com.gamecity.scrabble.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.gamecity.scrabble.entity.Language;
+import com.gamecity.scrabble.model.Dictionary;
+import com.gamecity.scrabble.model.DictionaryBuilder;
+import com.gamecity.scrabble.model.DictionaryImage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compiles the dictionary text files to {@link DictionaryImage dictionary images} ahead of time. The
+ * images are written next to the text files, where the dictionary service finds them.
+ *
+ * <pre>
+ * java -cp scrabble-api/WEB-INF/classes:scrabble-api/WEB-INF/lib/* com.gamecity.scrabble.util.DictionaryCompiler
+ *      /dictionaries/%s_dictionary.txt [language...]
+ * </pre>
+ *
+ * @author ekarakus
+ */
+@Slf4j
+public class DictionaryCompiler {
+
+    private DictionaryCompiler() {
+        // do not create a new instance
+    }
+
+    /**
+     * Compiles the dictionaries of the given languages, all the languages are compiled if no language is
+     * given
+     *
+     * @param args dictionary path with the language placeholder followed by the languages
+     * @throws IOException if an image cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: DictionaryCompiler <dictionary path> [language...]");
+        }
+
+        final List<Language> languages = args.length == 1 ? Arrays.asList(Language.values())
+                : Arrays.stream(args, 1, args.length).map(Language::valueOf).collect(Collectors.toList());
+
+        for (Language language : languages) {
+            final File file = new File(String.format(args[0], language));
+            if (!file.exists()) {
+                log.warn("The {} dictionary is skipped, {} doesn't exist", language, file);
+                continue;
+            }
+            compile(language, file);
+        }
+    }
+
+    /**
+     * Compiles the given dictionary text file to an image
+     *
+     * @param language language of the dictionary
+     * @param file     the dictionary text file
+     * @return the image file
+     * @throws IOException if the text file cannot be read or the image cannot be written
+     */
+    public static File compile(Language language, File file) throws IOException {
+        final long startTime = System.currentTimeMillis();
+        final Dictionary dictionary = new DictionaryBuilder(language).read(file).build();
+        final File imageFile = DictionaryImage.getImageFile(file);
+
+        DictionaryImage.write(dictionary, imageFile.toPath());
+
+        log.info("The {} dictionary with {} words is compiled to {} ({} bytes) in {} ms", language,
+                dictionary.size(), imageFile, imageFile.length(), System.currentTimeMillis() - startTime);
+
+        return imageFile;
+    }
+
+}
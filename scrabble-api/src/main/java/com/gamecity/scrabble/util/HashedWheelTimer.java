@@ -0,0 +1,307 @@
+package com.gamecity.scrabble.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A hashed timing wheel for a large number of short lived timeouts such as the turn timeouts of the games.
+ * A timeout is scheduled and cancelled in constant time without a lock, the wheel is advanced by a single
+ * worker thread on every tick and the expired tasks are run on the given executor.
+ *
+ * The timeouts are not precise, a task runs in the first tick after its deadline. A timeout with a delay
+ * longer than a whole turn of the wheel stays in its bucket for the remaining turns.
+ *
+ * @author ekarakus
+ */
+@Slf4j
+public final class HashedWheelTimer {
+
+    // maximum number of the timeouts moved to the wheel in a tick, so the expiration is not delayed
+    private static final int MAXIMUM_TRANSFER_COUNT = 100_000;
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Executor executor;
+    private final Thread worker;
+    private final long startTime;
+
+    private final Queue<Timeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private volatile boolean stopped;
+
+    /**
+     * Creates and starts a timer
+     *
+     * @param name         name of the worker thread
+     * @param tickDuration duration of a tick
+     * @param unit         time unit of the tick duration
+     * @param wheelSize    number of the buckets in the wheel, rounded up to a power of two
+     * @param executor     executor of the expired tasks
+     */
+    public HashedWheelTimer(final String name, final long tickDuration, final TimeUnit unit, final int wheelSize,
+                            final Executor executor) {
+        if (tickDuration <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("The tick duration and the wheel size should be positive");
+        }
+
+        this.tickDuration = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1];
+        for (int index = 0; index < wheel.length; index++) {
+            wheel[index] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.executor = executor;
+        this.startTime = System.nanoTime();
+
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules the task to run after the delay
+     *
+     * @param task  the task to run
+     * @param delay delay of the task
+     * @param unit  time unit of the delay
+     * @return the timeout of the task
+     * @throws IllegalStateException if the timer is stopped
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (stopped) {
+            throw new IllegalStateException("The timer is stopped");
+        }
+
+        final long deadline = System.nanoTime() - startTime + Math.max(unit.toNanos(delay), 0);
+        final Timeout timeout = new Timeout(this, task, deadline);
+        pendingCount.incrementAndGet();
+        scheduledTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Gets the number of the timeouts that are neither expired nor cancelled
+     *
+     * @return the number of the pending timeouts
+     */
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Stops the timer, the pending timeouts are not run
+     */
+    public void stop() {
+        stopped = true;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (!stopped) {
+            final long deadline = waitForNextTick(tick);
+            if (deadline < 0) {
+                break;
+            }
+
+            removeCancelledTimeouts();
+            transferScheduledTimeouts(tick);
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    /*
+     * Sleeps until the end of the tick, returns the elapsed time or -1 if the timer is stopped
+     */
+    private long waitForNextTick(long tick) {
+        final long deadline = tickDuration * (tick + 1);
+        while (true) {
+            final long currentTime = System.nanoTime() - startTime;
+            final long sleepTime = TimeUnit.NANOSECONDS.toMillis(deadline - currentTime + 999_999);
+            if (sleepTime <= 0) {
+                return currentTime;
+            }
+
+            try {
+                Thread.sleep(sleepTime);
+            } catch (InterruptedException e) {
+                if (stopped) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /*
+     * Moves the scheduled timeouts to their buckets, a timeout with a passed deadline is run in this tick
+     */
+    private void transferScheduledTimeouts(long tick) {
+        for (int count = 0; count < MAXIMUM_TRANSFER_COUNT; count++) {
+            final Timeout timeout = scheduledTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            final long expirationTick = timeout.deadline / tickDuration;
+            timeout.remainingRounds = (expirationTick - tick) / wheel.length;
+            wheel[(int) (Math.max(expirationTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Timeout timeout) {
+        if (!timeout.state.compareAndSet(Timeout.INITIAL, Timeout.EXPIRED)) {
+            return;
+        }
+
+        pendingCount.decrementAndGet();
+        try {
+            executor.execute(timeout.task);
+        } catch (RejectedExecutionException e) {
+            log.error("The expired task cannot be run", e);
+        }
+    }
+
+    /**
+     * Handle of a scheduled task
+     */
+    public static final class Timeout {
+
+        private static final int INITIAL = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(INITIAL);
+
+        // only accessed by the worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(final HashedWheelTimer timer, final Runnable task, final long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout, the timeout is removed from the wheel in the next tick
+         *
+         * @return whether the timeout is cancelled, false if it is already expired or cancelled
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(INITIAL, CANCELLED)) {
+                return false;
+            }
+
+            timer.pendingCount.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        /**
+         * Whether the timeout is cancelled
+         *
+         * @return true if the timeout is cancelled
+         */
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        /**
+         * Whether the task of the timeout is run
+         *
+         * @return true if the timeout is expired
+         */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+    }
+
+    /*
+     * Doubly linked list of the timeouts in a slot of the wheel, so a cancelled timeout is removed in
+     * constant time
+     */
+    private final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /*
+         * Runs the timeouts that are due in this turn of the wheel, the others wait for another turn
+         */
+        private void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                final Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    HashedWheelTimer.this.expire(timeout);
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+    }
+
+}
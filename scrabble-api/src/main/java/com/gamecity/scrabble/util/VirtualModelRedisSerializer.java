@@ -0,0 +1,250 @@
+package com.gamecity.scrabble.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.gamecity.scrabble.entity.Cell;
+import com.gamecity.scrabble.model.BoardLayout;
+import com.gamecity.scrabble.model.VirtualBoardDelta;
+import com.gamecity.scrabble.model.VirtualCell;
+import com.gamecity.scrabble.model.VirtualRack;
+import com.gamecity.scrabble.model.VirtualTile;
+import com.google.common.base.Suppliers;
+
+/**
+ * Redis serializer that writes the {@link VirtualBoardDelta board history entries} and the
+ * {@link VirtualRack racks} in a compact binary format, the other values are written by the given JSON
+ * serializer.
+ *
+ * Only the dynamic state of a {@link VirtualCell cell} is written, the static layout of the cell is
+ * restored from the {@link BoardLayout board layout} of the {@link Cell cells}. The empty cells of a
+ * checkpoint are not written at all. A binary value starts with a marker byte that never starts a JSON
+ * value followed by the schema version, so the values written as JSON before are still read.
+ *
+ * @author ekarakus
+ */
+public class VirtualModelRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte MARKER = (byte) 0xFE;
+    private static final byte SCHEMA_VERSION = 1;
+
+    private static final byte BOARD_DELTA = 1;
+    private static final byte RACK = 2;
+
+    private static final int SEALED = 1;
+    private static final int LAST_PLAYED = 1 << 1;
+    private static final int LETTER = 1 << 2;
+    private static final int CHECKPOINT = 1 << 3;
+    private static final int VOWEL = 1 << 4;
+    private static final int EXCHANGED = 1 << 5;
+    private static final int MISSING = 1 << 6;
+
+    private final RedisSerializer<Object> jsonSerializer;
+    private final Supplier<BoardLayout> boardLayout;
+
+    /**
+     * Creates a serializer with the given JSON serializer and the cells of the board layout
+     *
+     * @param jsonSerializer serializer of the other values
+     * @param cells          supplier of the cells, called once when the first board is read
+     */
+    public VirtualModelRedisSerializer(final RedisSerializer<Object> jsonSerializer,
+                                       final Supplier<List<Cell>> cells) {
+        this.jsonSerializer = jsonSerializer;
+        this.boardLayout = Suppliers.memoize(() -> new BoardLayout(cells.get()));
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!(value instanceof VirtualBoardDelta) && !(value instanceof VirtualRack)) {
+            return jsonSerializer.serialize(value);
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(MARKER);
+            output.writeByte(SCHEMA_VERSION);
+            if (value instanceof VirtualBoardDelta) {
+                output.writeByte(BOARD_DELTA);
+                writeBoardDelta(output, (VirtualBoardDelta) value);
+            } else {
+                output.writeByte(RACK);
+                writeRack(output, (VirtualRack) value);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("The value cannot be serialized", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0 || bytes[0] != MARKER) {
+            return jsonSerializer.deserialize(bytes);
+        }
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            final byte schemaVersion = input.readByte();
+            if (schemaVersion != SCHEMA_VERSION) {
+                throw new SerializationException("The schema version " + schemaVersion + " is not supported");
+            }
+
+            final byte type = input.readByte();
+            if (type == BOARD_DELTA) {
+                return readBoardDelta(input);
+            } else if (type == RACK) {
+                return readRack(input);
+            }
+            throw new SerializationException("The value type " + type + " is not supported");
+        } catch (IOException e) {
+            throw new SerializationException("The value cannot be deserialized", e);
+        }
+    }
+
+    /*
+     * Writes the changed cells of a delta, only the used cells are written for a checkpoint
+     */
+    private void writeBoardDelta(DataOutputStream output, VirtualBoardDelta delta) throws IOException {
+        final List<VirtualCell> cells = delta.isCheckpoint()
+                ? delta.getCells().stream().filter(cell -> !isEmpty(cell)).collect(Collectors.toList())
+                : delta.getCells();
+
+        output.writeByte(delta.isCheckpoint() ? CHECKPOINT : 0);
+        writeNumber(output, delta.getVersion());
+        writeNumber(output, cells.size());
+        for (VirtualCell cell : cells) {
+            writeNumber(output, cell.getCellNumber());
+            output.writeByte((cell.isSealed() ? SEALED : 0) | (cell.isLastPlayed() ? LAST_PLAYED : 0)
+                    | (cell.getLetter() != null ? LETTER : 0));
+            if (cell.getLetter() != null) {
+                output.writeUTF(cell.getLetter());
+            }
+            writeNumber(output, cell.getValue());
+            writeNumber(output, cell.getRoundNumber());
+        }
+    }
+
+    /*
+     * Reads a delta, the cells of a checkpoint that are not written are the empty cells of the layout
+     */
+    private VirtualBoardDelta readBoardDelta(DataInputStream input) throws IOException {
+        final BoardLayout layout = boardLayout.get();
+        final boolean checkpoint = (input.readByte() & CHECKPOINT) != 0;
+        final Integer version = readNumber(input);
+        final int cellCount = readNumber(input);
+
+        final List<VirtualCell> cells = checkpoint ? layout.createCells() : new ArrayList<>(cellCount);
+        for (int index = 0; index < cellCount; index++) {
+            final VirtualCell cell = layout.createCell(readNumber(input));
+            final int flags = input.readByte();
+            cell.setSealed((flags & SEALED) != 0);
+            cell.setLastPlayed((flags & LAST_PLAYED) != 0);
+            cell.setLetter((flags & LETTER) != 0 ? input.readUTF() : null);
+            cell.setValue(readNumber(input));
+            cell.setRoundNumber(readNumber(input));
+
+            if (checkpoint) {
+                cells.set(cell.getCellNumber() - 1, cell);
+            } else {
+                cells.add(cell);
+            }
+        }
+        return new VirtualBoardDelta(checkpoint, cells, version);
+    }
+
+    private void writeRack(DataOutputStream output, VirtualRack rack) throws IOException {
+        writeNumber(output, rack.getTiles().size());
+        for (VirtualTile tile : rack.getTiles()) {
+            // a tile is missing if there are no tiles left in the bag when the rack is created
+            if (tile == null) {
+                output.writeByte(MISSING);
+                continue;
+            }
+
+            output.writeByte((tile.isSealed() ? SEALED : 0) | (tile.getLetter() != null ? LETTER : 0)
+                    | (tile.isVowel() ? VOWEL : 0) | (tile.isExchanged() ? EXCHANGED : 0));
+            if (tile.getLetter() != null) {
+                output.writeUTF(tile.getLetter());
+            }
+            writeNumber(output, tile.getNumber());
+            writeNumber(output, tile.getRowNumber());
+            writeNumber(output, tile.getColumnNumber());
+            writeNumber(output, tile.getValue());
+            writeNumber(output, tile.getPlayerNumber());
+            writeNumber(output, tile.getRoundNumber());
+        }
+    }
+
+    private VirtualRack readRack(DataInputStream input) throws IOException {
+        final int tileCount = readNumber(input);
+        final List<VirtualTile> tiles = new ArrayList<>(tileCount);
+        for (int index = 0; index < tileCount; index++) {
+            final int flags = input.readByte();
+            if ((flags & MISSING) != 0) {
+                tiles.add(null);
+                continue;
+            }
+
+            tiles.add(VirtualTile.builder()
+                    .sealed((flags & SEALED) != 0)
+                    .vowel((flags & VOWEL) != 0)
+                    .exchanged((flags & EXCHANGED) != 0)
+                    .letter((flags & LETTER) != 0 ? input.readUTF() : null)
+                    .number(readNumber(input))
+                    .rowNumber(readNumber(input))
+                    .columnNumber(readNumber(input))
+                    .value(readNumber(input))
+                    .playerNumber(readNumber(input))
+                    .roundNumber(readNumber(input))
+                    .build());
+        }
+        return new VirtualRack(tiles);
+    }
+
+    /*
+     * Whether the cell has the state of an empty cell in the layout
+     */
+    private static boolean isEmpty(VirtualCell cell) {
+        return cell.getLetter() == null && !cell.isSealed() && !cell.isLastPlayed() && cell.getRoundNumber() == null
+                && Integer.valueOf(0).equals(cell.getValue());
+    }
+
+    /*
+     * Writes a non-negative number as a variable length integer, 0 is written for null
+     */
+    private static void writeNumber(DataOutputStream output, Integer number) throws IOException {
+        if (number != null && number < 0) {
+            throw new SerializationException("The number " + number + " cannot be serialized");
+        }
+
+        long value = number == null ? 0 : number + 1L;
+        while (value >= 0x80) {
+            output.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    private static Integer readNumber(DataInputStream input) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int next;
+        do {
+            next = input.readUnsignedByte();
+            value |= (long) (next & 0x7F) << shift;
+            shift += 7;
+        } while ((next & 0x80) != 0);
+        return value == 0 ? null : (int) (value - 1);
+    }
+
+}
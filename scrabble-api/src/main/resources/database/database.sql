@@ -28,6 +28,7 @@ CREATE TABLE public.actions (
     id bigint NOT NULL,
     created_date timestamp without time zone NOT NULL,
     last_updated_date timestamp without time zone NOT NULL,
+    board_version integer,
     current_player_number integer,
     game_id bigint,
     game_status character varying(255),
@@ -175,6 +176,7 @@ CREATE TABLE public.games (
     round_number integer,
     start_date timestamp without time zone,
     status character varying(255) NOT NULL,
+    turn_deadline timestamp without time zone,
     type character varying(255) NOT NULL,
     version integer NOT NULL
 );
@@ -196,6 +198,37 @@ ALTER TABLE public.games ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY (
 );
 
 
+--
+-- Name: game_archives; Type: TABLE; Schema: public; Owner: scrabble_api
+--
+
+CREATE TABLE public.game_archives (
+    id bigint NOT NULL,
+    created_date timestamp without time zone NOT NULL,
+    last_updated_date timestamp without time zone NOT NULL,
+    game_id bigint NOT NULL,
+    board_version integer NOT NULL,
+    board bytea NOT NULL,
+    history bytea NOT NULL
+);
+
+
+ALTER TABLE public.game_archives OWNER TO scrabble_api;
+
+--
+-- Name: game_archives_id_seq; Type: SEQUENCE; Schema: public; Owner: scrabble_api
+--
+
+ALTER TABLE public.game_archives ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY (
+    SEQUENCE NAME public.game_archives_id_seq
+    START WITH 1
+    INCREMENT BY 1
+    NO MINVALUE
+    NO MAXVALUE
+    CACHE 1
+);
+
+
 --
 -- Name: players; Type: TABLE; Schema: public; Owner: scrabble_api
 --
@@ -396,6 +429,13 @@ SELECT pg_catalog.setval('public.chats_id_seq', 1, false);
 SELECT pg_catalog.setval('public.games_id_seq', 1, false);
 
 
+--
+-- Name: game_archives_id_seq; Type: SEQUENCE SET; Schema: public; Owner: scrabble_api
+--
+
+SELECT pg_catalog.setval('public.game_archives_id_seq', 1, false);
+
+
 --
 -- Name: players_id_seq; Type: SEQUENCE SET; Schema: public; Owner: scrabble_api
 --
@@ -471,6 +511,14 @@ ALTER TABLE ONLY public.games
     ADD CONSTRAINT games_pkey PRIMARY KEY (id);
 
 
+--
+-- Name: game_archives game_archives_pkey; Type: CONSTRAINT; Schema: public; Owner: scrabble_api
+--
+
+ALTER TABLE ONLY public.game_archives
+    ADD CONSTRAINT game_archives_pkey PRIMARY KEY (id);
+
+
 --
 -- Name: players players_pkey; Type: CONSTRAINT; Schema: public; Owner: scrabble_api
 --
@@ -487,6 +535,14 @@ ALTER TABLE ONLY public.tiles
     ADD CONSTRAINT tiles_pkey PRIMARY KEY (id);
 
 
+--
+-- Name: game_archives uk_game_archive_game; Type: CONSTRAINT; Schema: public; Owner: scrabble_api
+--
+
+ALTER TABLE ONLY public.game_archives
+    ADD CONSTRAINT uk_game_archive_game UNIQUE (game_id);
+
+
 --
 -- Name: users uk_user_email; Type: CONSTRAINT; Schema: public; Owner: scrabble_api
 --
@@ -535,6 +591,37 @@ ALTER TABLE ONLY public.words
     ADD CONSTRAINT words_pkey PRIMARY KEY (id);
 
 
+--
+-- Name: idx_game_turn_deadline; Type: INDEX; Schema: public; Owner: scrabble_api
+--
+
+CREATE INDEX idx_game_turn_deadline ON public.games USING btree (status, turn_deadline);
+
+
+--
+-- Name: games turn_deadline; Type: UPGRADE; Schema: public; Owner: scrabble_api
+--
+
+ALTER TABLE public.games ADD COLUMN IF NOT EXISTS turn_deadline timestamp without time zone;
+
+CREATE INDEX IF NOT EXISTS idx_game_turn_deadline ON public.games USING btree (status, turn_deadline);
+
+UPDATE public.games
+    SET turn_deadline = last_updated_date + duration * interval '1 second'
+    WHERE status = 'IN_PROGRESS' AND turn_deadline IS NULL;
+
+
+--
+-- Name: actions board_version; Type: UPGRADE; Schema: public; Owner: scrabble_api
+--
+
+ALTER TABLE public.actions ADD COLUMN IF NOT EXISTS board_version integer;
+
+UPDATE public.actions a
+    SET board_version = a.version - (SELECT g.expected_player_count FROM public.games g WHERE g.id = a.game_id)
+    WHERE a.board_version IS NULL;
+
+
 --
 -- PostgreSQL database dump complete
 --
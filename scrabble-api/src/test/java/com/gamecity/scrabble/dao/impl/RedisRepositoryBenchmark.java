@@ -0,0 +1,152 @@
+package com.gamecity.scrabble.dao.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.gamecity.scrabble.dao.RedisRepository;
+import com.gamecity.scrabble.model.VirtualBoard;
+import com.gamecity.scrabble.model.VirtualCell;
+import com.gamecity.scrabble.model.VirtualRack;
+import com.gamecity.scrabble.model.VirtualTile;
+import com.gamecity.scrabble.service.impl.AbstractBoardTest;
+
+import redis.embedded.RedisServer;
+
+/**
+ * Measures the board and rack reads through the {@link RedisRepository redis repository} in games with
+ * a growing number of moves. The read latency of a board or a rack should not depend on the number of
+ * the moves played after it. The benchmark starts an embedded Redis server, it is not a part of the test
+ * suite and it is run from the scrabble-api directory after the test classes are compiled
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *      com.gamecity.scrabble.dao.impl.RedisRepositoryBenchmark
+ * </pre>
+ *
+ * @author ekarakus
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisRepositoryBenchmark extends AbstractBoardTest {
+
+    private static final int REDIS_PORT = 6381;
+    private static final Long GAME_ID = 1L;
+    private static final Integer PLAYER_NUMBER = 1;
+
+    @Param({ "10", "100", "500" })
+    private int moveCount;
+
+    private RedisServer redisServer;
+    private JedisConnectionFactory connectionFactory;
+    private RedisRepository redisRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        final RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        redisRepository = new RedisRepositoryImpl(redisTemplate);
+
+        createBoardMatrix();
+        redisRepository.updateBoard(GAME_ID,
+                new VirtualBoard(Arrays.stream(boardMatrix).flatMap(Arrays::stream).collect(Collectors.toList())));
+
+        // every move places a letter on the board and adds a rack
+        for (int version = 1; version < moveCount; version++) {
+            final VirtualBoard board = redisRepository.getBoard(GAME_ID, version);
+            board.clearLastPlayed();
+
+            final VirtualCell cell = board.getCells().get((version - 1) % board.getCells().size());
+            cell.setLetter(String.valueOf((char) ('A' + version % 26)));
+            cell.setValue(1);
+            cell.setRoundNumber(version);
+            cell.setSealed(true);
+            cell.setLastPlayed(true);
+            redisRepository.updateBoard(GAME_ID, board);
+
+            final List<VirtualTile> tiles = new ArrayList<>();
+            for (int tileNumber = 1; tileNumber <= 7; tileNumber++) {
+                tiles.add(VirtualTile.builder().letter("A").number(tileNumber).playerNumber(PLAYER_NUMBER)
+                        .roundNumber(version).sealed(false).value(1).build());
+            }
+            redisRepository.fillRack(GAME_ID, PLAYER_NUMBER, new VirtualRack(tiles));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Benchmark
+    public void get_latest_board(Blackhole blackhole) {
+        blackhole.consume(redisRepository.getBoard(GAME_ID, moveCount));
+    }
+
+    @Benchmark
+    public void get_previous_board(Blackhole blackhole) {
+        blackhole.consume(redisRepository.getBoard(GAME_ID, moveCount - 1));
+    }
+
+    @Benchmark
+    public void get_first_board(Blackhole blackhole) {
+        blackhole.consume(redisRepository.getBoard(GAME_ID, 1));
+    }
+
+    @Benchmark
+    public void get_latest_rack(Blackhole blackhole) {
+        blackhole.consume(redisRepository.getRack(GAME_ID, PLAYER_NUMBER, moveCount - 1));
+    }
+
+    @Benchmark
+    public void get_first_rack(Blackhole blackhole) {
+        blackhole.consume(redisRepository.getRack(GAME_ID, PLAYER_NUMBER, 1));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RedisRepositoryBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.gamecity.scrabble.dao.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.gamecity.scrabble.model.VirtualBoard;
+import com.gamecity.scrabble.model.VirtualRack;
+import com.gamecity.scrabble.model.VirtualTile;
+import com.gamecity.scrabble.service.impl.AbstractBoardTest;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class TestGameCache extends AbstractBoardTest {
+
+    private static final Long DEFAULT_GAME_ID = 1L;
+    private static final Long ALTERNATIVE_GAME_ID = 10L;
+    private static final Integer DEFAULT_PLAYER_NUMBER = 1;
+    private static final Integer DEFAULT_ROUND_NUMBER = 1;
+
+    private GameCache gameCache;
+
+    @BeforeEach
+    void beforeEach() {
+        gameCache = new GameCache();
+        createBoardMatrix();
+    }
+
+    @Test
+    void test_get_cached_board() {
+        createExistingHorizontalWord(8, 7, "WEAK");
+        final VirtualBoard board = createVirtualBoard();
+
+        gameCache.putBoard(DEFAULT_GAME_ID, 2, board);
+        // the cached board is not changed by the caller
+        board.getCell(9, 7).setLetter("E");
+
+        final VirtualBoard cachedBoard = gameCache.getBoard(DEFAULT_GAME_ID, 2);
+
+        assertThat(cachedBoard.getVersion(), equalTo(2));
+        assertThat(cachedBoard.getCell(8, 7).getLetter(), equalTo("W"));
+        assertThat(cachedBoard.getCell(9, 7).getLetter(), nullValue());
+        assertThat(cachedBoard.getChangedCells(), empty());
+        assertThat(gameCache.getBoard(DEFAULT_GAME_ID, 1), nullValue());
+    }
+
+    @Test
+    void test_get_cached_board_returns_a_copy() {
+        gameCache.putBoard(DEFAULT_GAME_ID, 1, createVirtualBoard());
+
+        gameCache.getBoard(DEFAULT_GAME_ID, 1).getCell(8, 8).setLetter("A");
+
+        assertThat(gameCache.getBoard(DEFAULT_GAME_ID, 1).getCell(8, 8).getLetter(), nullValue());
+    }
+
+    @Test
+    void test_invalidate_racks() {
+        gameCache.putRack(DEFAULT_GAME_ID, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER, createRack("A"),
+                gameCache.getGeneration());
+        gameCache.putRack(ALTERNATIVE_GAME_ID, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER, createRack("B"),
+                gameCache.getGeneration());
+        gameCache.putBoard(DEFAULT_GAME_ID, 1, createVirtualBoard());
+
+        gameCache.invalidateRacks(DEFAULT_GAME_ID);
+
+        assertThat(gameCache.getRack(DEFAULT_GAME_ID, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER), nullValue());
+        assertThat(gameCache.getRack(ALTERNATIVE_GAME_ID, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER).getTiles()
+                .get(0).getLetter(), equalTo("B"));
+        assertThat(gameCache.getBoard(DEFAULT_GAME_ID, 1), notNullValue());
+    }
+
+    @Test
+    void test_rack_read_during_invalidation_is_not_cached() {
+        final long generation = gameCache.getGeneration();
+
+        gameCache.invalidateRacks(DEFAULT_GAME_ID);
+        gameCache.putRack(DEFAULT_GAME_ID, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER, createRack("A"), generation);
+
+        assertThat(gameCache.getRack(DEFAULT_GAME_ID, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER), nullValue());
+    }
+
+    private VirtualBoard createVirtualBoard() {
+        return new VirtualBoard(Arrays.stream(boardMatrix).flatMap(Arrays::stream).collect(Collectors.toList()));
+    }
+
+    private VirtualRack createRack(String letter) {
+        final List<VirtualTile> tiles = new ArrayList<>();
+        tiles.add(VirtualTile.builder().letter(letter).number(1).build());
+        return new VirtualRack(tiles);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.gamecity.scrabble.dao.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestGameHistory {
+
+    @Test
+    void test_compress_history() {
+        final List<byte[]> boards = new ArrayList<>();
+        for (int version = 1; version <= 30; version++) {
+            boards.add(("board " + version).getBytes(StandardCharsets.UTF_8));
+        }
+
+        final List<List<byte[]>> racks = new ArrayList<>();
+        racks.add(List.of("rack 1.1".getBytes(StandardCharsets.UTF_8), "rack 1.2".getBytes(StandardCharsets.UTF_8)));
+        racks.add(List.of());
+
+        final GameHistory history = GameHistory.decompress(new GameHistory(boards, racks).compress());
+
+        assertThat(history.getEntryCount(), equalTo(32));
+        assertThat(history.getBoards().size(), equalTo(30));
+        assertThat(new String(history.getBoards().get(29), StandardCharsets.UTF_8), equalTo("board 30"));
+        assertThat(new String(history.getRacks(1).get(1), StandardCharsets.UTF_8), equalTo("rack 1.2"));
+        assertThat(history.getRacks(2), empty());
+        assertThat(history.getRacks(3), empty());
+    }
+
+    @Test
+    void test_decompress_invalid_history() {
+        try {
+            GameHistory.decompress(new byte[] { 1, 2, 3 });
+
+            fail("An invalid history is decompressed");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), equalTo("The game history cannot be decompressed"));
+        }
+    }
+
+}
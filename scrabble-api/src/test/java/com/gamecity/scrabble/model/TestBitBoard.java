@@ -0,0 +1,77 @@
+package com.gamecity.scrabble.model;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.gamecity.scrabble.service.impl.AbstractBoardTest;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class TestBitBoard extends AbstractBoardTest {
+
+    @BeforeEach
+    void beforeEach() {
+        createBoardMatrix();
+    }
+
+    @Test
+    void test_used_and_sealed_lines() {
+        createExistingHorizontalWord(8, 7, "WEAK");
+        boardMatrix[9 - 1][7 - 1].setLetter("E");
+
+        final BitBoard bitBoard = createBitBoard();
+
+        assertThat(bitBoard.getLine(Direction.HORIZONTAL, 8), equalTo(0b1111 << 6));
+        assertThat(bitBoard.getSealedLine(Direction.HORIZONTAL, 8), equalTo(0b1111 << 6));
+        assertThat(bitBoard.getLine(Direction.VERTICAL, 7), equalTo(0b11 << 7));
+        assertThat(bitBoard.getSealedLine(Direction.VERTICAL, 7), equalTo(0b1 << 7));
+        assertThat(bitBoard.getLetter(9, 7), equalTo('E'));
+        assertThat(bitBoard.getLetter(10, 7), equalTo((char) 0));
+    }
+
+    @Test
+    void test_center_line() {
+        final BitBoard bitBoard = createBitBoard();
+
+        assertThat(bitBoard.getCenterLine(Direction.HORIZONTAL, 8), equalTo(BitBoard.bit(8)));
+        assertThat(bitBoard.getCenterLine(Direction.VERTICAL, 8), equalTo(BitBoard.bit(8)));
+        assertThat(bitBoard.getCenterLine(Direction.HORIZONTAL, 7), equalTo(0));
+    }
+
+    @Test
+    void test_neighbours() {
+        createExistingHorizontalWord(1, 1, "WEAK");
+        boardMatrix[2 - 1][1 - 1].setLetter("E");
+
+        final BitBoard bitBoard = createBitBoard();
+
+        assertThat(bitBoard.hasUsedNeighbour(3, 1), equalTo(true));
+        assertThat(bitBoard.hasSealedNeighbour(3, 1), equalTo(false));
+        assertThat(bitBoard.hasSealedNeighbour(2, 1), equalTo(true));
+        assertThat(bitBoard.hasUsedNeighbour(1, 6), equalTo(false));
+        assertThat(bitBoard.hasUsedNeighbour(15, 15), equalTo(false));
+    }
+
+    @Test
+    void test_seal_cell() {
+        final VirtualCell virtualCell = boardMatrix[2 - 1][1 - 1];
+        virtualCell.setLetter("E");
+
+        final BitBoard bitBoard = createBitBoard();
+        bitBoard.seal(virtualCell);
+
+        assertThat(virtualCell.isSealed(), equalTo(true));
+        assertThat(bitBoard.isSealed(2, 1), equalTo(true));
+        assertThat(bitBoard.hasSealedNeighbour(3, 1), equalTo(true));
+    }
+
+    private BitBoard createBitBoard() {
+        return new BitBoard(
+                new VirtualBoard(Arrays.stream(boardMatrix).flatMap(Arrays::stream).collect(Collectors.toList())));
+    }
+
+}
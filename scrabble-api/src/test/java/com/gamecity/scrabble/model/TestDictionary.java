@@ -0,0 +1,192 @@
+package com.gamecity.scrabble.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.gamecity.scrabble.entity.Language;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestDictionary {
+
+    @Test
+    void test_validate_all_words() {
+        final Dictionary dictionary = new DictionaryBuilder(Language.en).add("WEAK", "feeble")
+                .add("ROLE", null)
+                .build();
+
+        final WordValidation wordValidation = dictionary.validateAll(
+                List.of(new StringBuilder("weak"), "ROLE", new StringBuilder("ROL")));
+
+        assertThat(wordValidation.size(), equalTo(3));
+        assertThat(wordValidation.isValid(), equalTo(false));
+        assertThat(wordValidation.isFound(0), equalTo(true));
+        assertThat(wordValidation.isFound(2), equalTo(false));
+        assertThat(wordValidation.getInvalidWords().get(0).toString(), equalTo("ROL"));
+        assertThat(wordValidation.getDictionaryWord(0).getWord(), equalTo("WEAK"));
+        assertThat(wordValidation.getDictionaryWord(0).getDefinition(), equalTo("feeble"));
+        assertThat(wordValidation.getDictionaryWord(1).getDefinition(), nullValue());
+        assertThat(wordValidation.getDictionaryWord(2), nullValue());
+    }
+
+    @Test
+    void test_get_word() {
+        final Dictionary dictionary = new DictionaryBuilder(Language.en).add("WEAK", "feeble")
+                .add("WEAKER", null)
+                .add("ROLE", null)
+                .build();
+
+        final DictionaryWord dictionaryWord = dictionary.get("WEAK");
+
+        assertThat(dictionaryWord, notNullValue());
+        assertThat(dictionaryWord.getWord(), equalTo("WEAK"));
+        assertThat(dictionaryWord.getDefinition(), equalTo("feeble"));
+        assertThat(dictionary.get("WEAKER").getDefinition(), nullValue());
+    }
+
+    @Test
+    void test_prefix_is_not_a_word() {
+        final Dictionary dictionary = new DictionaryBuilder(Language.en).add("WEAKER", null).build();
+
+        assertThat(dictionary.search("WEAK"), equalTo(false));
+        assertThat(dictionary.search("WEAKEST"), equalTo(false));
+        assertThat(dictionary.search(""), equalTo(false));
+    }
+
+    @Test
+    void test_letter_not_in_alphabet() {
+        final Dictionary dictionary = new DictionaryBuilder(Language.en).add("ROLE", null).build();
+
+        assertThat(dictionary.search("R'OLE"), equalTo(false));
+        assertThat(dictionary.search("ROL\u00C9"), equalTo(false));
+    }
+
+    @Test
+    void test_last_definition_is_used() {
+        final Dictionary dictionary = new DictionaryBuilder(Language.en).add("WEAK", "feeble")
+                .add("WEAK", "not strong")
+                .build();
+
+        assertThat(dictionary.size(), equalTo(1));
+        assertThat(dictionary.get("WEAK").getDefinition(), equalTo("not strong"));
+    }
+
+    @Test
+    void test_empty_dictionary() {
+        final Dictionary dictionary = new DictionaryBuilder(Language.en).build();
+
+        assertThat(dictionary.size(), equalTo(0));
+        assertThat(dictionary.search("ROLE"), equalTo(false));
+    }
+
+    @Test
+    void test_common_suffixes_are_shared() {
+        final Dictionary dictionary = new DictionaryBuilder(Language.en).add("PLAYING", null)
+                .add("SAYING", null)
+                .add("STAYING", null)
+                .add("PAYING", null)
+                .build();
+
+        // a trie would need 25 nodes for the same words
+        assertThat(dictionary.getNodeCount(), equalTo(9));
+        assertThat(dictionary.search("SAYING"), equalTo(true));
+        assertThat(dictionary.search("SLAYING"), equalTo(false));
+    }
+
+    @Test
+    void test_words_are_numbered_in_order() {
+        final Random random = new Random(7);
+        final TreeMap<String, String> words = new TreeMap<>();
+        final DictionaryBuilder builder = new DictionaryBuilder(Language.en);
+
+        for (int index = 0; index < 5000; index++) {
+            final StringBuilder word = new StringBuilder();
+            final int length = 2 + random.nextInt(7);
+            for (int position = 0; position < length; position++) {
+                word.append((char) ('A' + random.nextInt(6)));
+            }
+            words.put(word.toString(), "definition " + index);
+            builder.add(word.toString(), "definition " + index);
+        }
+
+        final Dictionary dictionary = builder.build();
+
+        assertThat(dictionary.size(), equalTo(words.size()));
+
+        int wordNumber = 0;
+        for (String word : words.keySet()) {
+            assertThat(dictionary.indexOf(word), equalTo(wordNumber++));
+            assertThat(dictionary.get(word).getDefinition(), equalTo(words.get(word)));
+            assertThat(dictionary.search(word + "A"), equalTo(words.containsKey(word + "A")));
+        }
+    }
+
+    @Test
+    void test_definitions_are_shared() {
+        final Dictionary dictionary = new DictionaryBuilder(Language.en).add("WEAK", "feeble")
+                .add("FRAIL", "feeble")
+                .add("ROLE", null)
+                .build();
+
+        assertThat(dictionary.get("FRAIL").getDefinition(), equalTo("feeble"));
+        assertThat(dictionary.getDefinitions().limit(), equalTo(Integer.BYTES + "feeble".length()));
+    }
+
+    @Test
+    void test_definition_is_decoded_when_requested() {
+        final Dictionary dictionary = new DictionaryBuilder(Language.en).add("WEAK", "feeble").build();
+
+        final DictionaryWord dictionaryWord = dictionary.get("weak");
+
+        assertThat(dictionaryWord, equalTo(DictionaryWord.builder().word("WEAK").definition("feeble").build()));
+        assertThat(dictionaryWord.toString(), containsString("definition=feeble"));
+
+        dictionaryWord.setDefinition("frail");
+
+        assertThat(dictionaryWord.getDefinition(), equalTo("frail"));
+    }
+
+    @Test
+    void test_map_dictionary_image(@TempDir Path directory) throws IOException {
+        final Dictionary dictionary = new DictionaryBuilder(Language.en).add("WEAK", "feeble")
+                .add("WEAKER", null)
+                .add("ROLE", "a part played by an actor \u00E9")
+                .build();
+        final Path path = directory.resolve("en_dictionary" + DictionaryImage.EXTENSION);
+
+        DictionaryImage.write(dictionary, path);
+        final Dictionary mappedDictionary = DictionaryImage.map(Language.en, path);
+
+        assertThat(mappedDictionary.getLanguage(), equalTo(Language.en));
+        assertThat(mappedDictionary.size(), equalTo(3));
+        assertThat(mappedDictionary.getNodeCount(), equalTo(dictionary.getNodeCount()));
+        assertThat(mappedDictionary.get("WEAK").getDefinition(), equalTo("feeble"));
+        assertThat(mappedDictionary.get("WEAKER").getDefinition(), nullValue());
+        assertThat(mappedDictionary.get("ROLE").getDefinition(), equalTo("a part played by an actor \u00E9"));
+        assertThat(mappedDictionary.search("WEAKE"), equalTo(false));
+    }
+
+    @Test
+    void test_map_invalid_dictionary_image(@TempDir Path directory) throws IOException {
+        final Path path = Files.writeString(directory.resolve("en_dictionary" + DictionaryImage.EXTENSION),
+                "WEAK feeble");
+
+        try {
+            DictionaryImage.map(Language.en, path);
+
+            fail("Mapped an invalid dictionary image");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), containsString("is not a dictionary image"));
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.gamecity.scrabble.model;
+
+import org.junit.jupiter.api.Test;
+
+import com.gamecity.scrabble.entity.Language;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class TestDictionaryRegistry {
+
+    @Test
+    void test_get_registered_dictionary() {
+        final DictionaryRegistry registry = new DictionaryRegistry();
+        final Dictionary dictionary = new DictionaryBuilder(Language.fr).add("ROLE", null).build();
+
+        assertThat(registry.register(dictionary), nullValue());
+        assertThat(registry.get(Language.fr), sameInstance(dictionary));
+        assertThat(registry.get(Language.en), nullValue());
+    }
+
+    @Test
+    void test_swap_dictionary() {
+        final DictionaryRegistry registry = new DictionaryRegistry();
+        final Dictionary dictionary = new DictionaryBuilder(Language.fr).add("ROLE", null).build();
+        final Dictionary newDictionary = new DictionaryBuilder(Language.fr).add("WEAK", null).build();
+
+        registry.register(dictionary);
+        // the callers holding the previous dictionary keep using it
+        final Dictionary activeDictionary = registry.get(Language.fr);
+
+        assertThat(registry.register(newDictionary), sameInstance(dictionary));
+        assertThat(registry.get(Language.fr).search("WEAK"), equalTo(true));
+        assertThat(activeDictionary.search("ROLE"), equalTo(true));
+    }
+
+}
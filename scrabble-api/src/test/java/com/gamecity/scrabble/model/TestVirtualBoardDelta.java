@@ -0,0 +1,112 @@
+package com.gamecity.scrabble.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.gamecity.scrabble.service.impl.AbstractBoardTest;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestVirtualBoardDelta extends AbstractBoardTest {
+
+    @BeforeEach
+    void beforeEach() {
+        createBoardMatrix();
+    }
+
+    @Test
+    void test_changed_cells() {
+        createExistingHorizontalWord(8, 7, "WEAK");
+        boardMatrix[8 - 1][7 - 1].setLastPlayed(true);
+
+        final VirtualBoard virtualBoard = createVirtualBoard();
+        virtualBoard.markVersion(2);
+
+        virtualBoard.clearLastPlayed();
+        virtualBoard.getCell(9, 7).setLetter("E");
+
+        final List<Integer> changedCells = virtualBoard.getChangedCells()
+                .stream()
+                .map(VirtualCell::getCellNumber)
+                .collect(Collectors.toList());
+
+        assertThat(virtualBoard.getVersion(), equalTo(2));
+        assertThat(changedCells, contains(boardMatrix[8 - 1][7 - 1].getCellNumber(),
+                boardMatrix[9 - 1][7 - 1].getCellNumber()));
+    }
+
+    @Test
+    void test_changed_cells_of_a_new_board() {
+        final VirtualBoard virtualBoard = createVirtualBoard();
+
+        assertThat(virtualBoard.getChangedCells().size(), equalTo(virtualBoard.getCells().size()));
+    }
+
+    @Test
+    void test_restore_board() {
+        final VirtualBoard virtualBoard = createVirtualBoard();
+        // the entries are copied as they are stored in the history
+        final VirtualBoardDelta checkpoint = SerializationUtils.clone(VirtualBoardDelta.checkpoint(virtualBoard));
+
+        virtualBoard.markVersion(1);
+        createExistingHorizontalWord(8, 7, "WEAK");
+        final VirtualBoardDelta firstDelta = SerializationUtils.clone(VirtualBoardDelta.of(virtualBoard));
+
+        virtualBoard.markVersion(2);
+        final VirtualBoardDelta secondDelta = SerializationUtils.clone(VirtualBoardDelta.of(virtualBoard));
+
+        virtualBoard.markVersion(3);
+        createExistingVerticalWord(9, 7, "EAK");
+        final VirtualBoardDelta thirdDelta = SerializationUtils.clone(VirtualBoardDelta.of(virtualBoard));
+
+        assertThat(firstDelta.getCells().size(), equalTo(4));
+        assertThat(secondDelta.getCells(), empty());
+        assertThat(thirdDelta.getCells().size(), equalTo(3));
+
+        final VirtualBoard restoredBoard = VirtualBoardDelta.restore(
+                List.of(checkpoint, firstDelta, secondDelta, thirdDelta));
+
+        assertThat(restoredBoard.getCells(), equalTo(virtualBoard.getCells()));
+        assertThat(restoredBoard.getCell(10, 7).getLetter(), equalTo("A"));
+    }
+
+    @Test
+    void test_restore_board_from_a_board_entry() {
+        createExistingHorizontalWord(8, 7, "WEAK");
+        final VirtualBoard virtualBoard = createVirtualBoard();
+
+        virtualBoard.markVersion(1);
+        createExistingVerticalWord(9, 7, "EAK");
+
+        final VirtualBoard restoredBoard = VirtualBoardDelta.restore(
+                List.of(new VirtualBoard(virtualBoard.getOriginalCells()), VirtualBoardDelta.of(virtualBoard)));
+
+        assertThat(restoredBoard.getCells(), equalTo(virtualBoard.getCells()));
+    }
+
+    @Test
+    void test_restore_board_without_checkpoint() {
+        final VirtualBoard virtualBoard = createVirtualBoard();
+        virtualBoard.markVersion(1);
+
+        try {
+            VirtualBoardDelta.restore(List.of(VirtualBoardDelta.of(virtualBoard)));
+
+            fail("Restored a board without a checkpoint");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), containsString("checkpoint"));
+        }
+    }
+
+    private VirtualBoard createVirtualBoard() {
+        return new VirtualBoard(Arrays.stream(boardMatrix).flatMap(Arrays::stream).collect(Collectors.toList()));
+    }
+
+}
@@ -10,13 +10,19 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.gamecity.scrabble.Constants;
 
 import com.gamecity.scrabble.config.AspectConfig;
 import com.gamecity.scrabble.config.PersistenceConfig;
 import com.gamecity.scrabble.config.PropertyConfig;
-import com.gamecity.scrabble.config.QuartzConfig;
 import com.gamecity.scrabble.config.RedisConfig;
+import com.gamecity.scrabble.model.rest.ActionDto;
+import com.gamecity.scrabble.util.JsonUtils;
 
 import redis.embedded.RedisServer;
 
@@ -55,12 +61,27 @@ abstract class AbstractIntegrationTest extends JerseyTest {
         applicationContext.scan("com.gamecity.scrabble.dao", "com.gamecity.scrabble.service",
                 "com.gamecity.scrabble.resource", "com.gamecity.scrabble.job", "com.gamecity.scrabble.aspect");
         applicationContext.register(PersistenceConfig.class, RedisConfig.class, AspectConfig.class,
-                PropertyConfig.class, QuartzConfig.class);
+                PropertyConfig.class);
         applicationContext.refresh();
 
         redisTemplate = (RedisTemplate<String, Object>) applicationContext.getBean("redisTemplate");
     }
 
+    /**
+     * Invalidates the racks of the game cached by the api. The racks changed directly in Redis are not
+     * followed by an action, so the invalidation is delivered to the repository synchronously.
+     * 
+     * @param gameId <code>id</code> of the game
+     */
+    protected static void invalidateCachedRacks(Long gameId) {
+        final ActionDto actionDto = ActionDto.builder().gameId(gameId).build();
+        final byte[] payload = ((RedisSerializer<Object>) redisTemplate.getValueSerializer())
+                .serialize(JsonUtils.toJson(actionDto));
+
+        applicationContext.getBean("redisRepository", MessageListener.class)
+                .onMessage(new DefaultMessage((Constants.CacheKey.ACTION + ":" + gameId).getBytes(), payload), null);
+    }
+
     @BeforeEach
     @Override
     public void setUp() throws Exception {
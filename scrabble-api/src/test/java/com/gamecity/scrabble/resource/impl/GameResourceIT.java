@@ -262,6 +262,73 @@ class GameResourceIT extends AbstractIntegrationTest {
         assertThat(rack.getTiles().stream().noneMatch(VirtualTileDto::isSealed), equalTo(true));
     }
 
+    @Test
+    void test_get_board_is_not_modified() throws IOException, InterruptedException {
+        final GameDto game = createNewGame(2);
+
+        joinGame(game.getId());
+
+        waitOneSecond();
+
+        final Integer boardVersion = getGame(game.getId()).getVersion() - game.getExpectedPlayerCount();
+
+        final Response boardResponse = target("/games/" + game.getId() + "/boards")
+                .queryParam("version", boardVersion)
+                .request()
+                .get();
+
+        assertThat(boardResponse.getStatus(), equalTo(Status.OK.getStatusCode()));
+        assertThat(boardResponse.getEntityTag(), notNullValue());
+
+        boardResponse.close();
+
+        final Response notModifiedResponse = target("/games/" + game.getId() + "/boards")
+                .queryParam("version", boardVersion)
+                .request()
+                .header(HttpHeaders.IF_NONE_MATCH, boardResponse.getEntityTag())
+                .get();
+
+        assertThat(notModifiedResponse.getStatus(), equalTo(Status.NOT_MODIFIED.getStatusCode()));
+        assertThat(notModifiedResponse.getEntityTag(), equalTo(boardResponse.getEntityTag()));
+
+        notModifiedResponse.close();
+    }
+
+    @Test
+    void test_get_game_is_not_modified() throws IOException {
+        final GameDto game = createNewGame(2);
+
+        final Response gameResponse = target("/games/" + game.getId()).request().get();
+
+        assertThat(gameResponse.getStatus(), equalTo(Status.OK.getStatusCode()));
+        assertThat(gameResponse.getEntityTag(), notNullValue());
+
+        gameResponse.close();
+
+        final Response notModifiedResponse = target("/games/" + game.getId())
+                .request()
+                .header(HttpHeaders.IF_NONE_MATCH, gameResponse.getEntityTag())
+                .get();
+
+        assertThat(notModifiedResponse.getStatus(), equalTo(Status.NOT_MODIFIED.getStatusCode()));
+        assertThat(notModifiedResponse.getEntityTag(), equalTo(gameResponse.getEntityTag()));
+
+        notModifiedResponse.close();
+
+        joinGame(game.getId());
+
+        // the game is read again after it is updated
+        final Response modifiedResponse = target("/games/" + game.getId())
+                .request()
+                .header(HttpHeaders.IF_NONE_MATCH, gameResponse.getEntityTag())
+                .get();
+
+        assertThat(modifiedResponse.getStatus(), equalTo(Status.OK.getStatusCode()));
+        assertThat(modifiedResponse.getEntityTag(), not(equalTo(gameResponse.getEntityTag())));
+
+        modifiedResponse.close();
+    }
+
     @Test
     void test_play_two_rounds() throws IOException, InterruptedException {
         final GameDto game = createNewGame(2);
@@ -594,6 +661,7 @@ class GameResourceIT extends AbstractIntegrationTest {
                 .boundListOps(
                         Constants.CacheKey.RACK + ":" + game.getId() + ":" + rack.getTiles().get(0).getPlayerNumber())
                 .set(0, Mapper.toEntity(rack));
+        invalidateCachedRacks(game.getId());
 
         rack.getTiles().forEach(tile -> tile.setExchanged(true));
 
@@ -988,6 +1056,7 @@ class GameResourceIT extends AbstractIntegrationTest {
                 .boundListOps(
                         Constants.CacheKey.RACK + ":" + gameId + ":" + virtualRack.getTiles().get(0).getPlayerNumber())
                 .set(0, Mapper.toEntity(virtualRack));
+        invalidateCachedRacks(gameId);
 
         return virtualRack;
     }
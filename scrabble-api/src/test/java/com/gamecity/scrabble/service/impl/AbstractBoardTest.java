@@ -4,8 +4,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import com.gamecity.scrabble.entity.Cell;
 import com.gamecity.scrabble.entity.Tile;
 import com.gamecity.scrabble.model.VirtualCell;
 
@@ -81,6 +83,24 @@ public abstract class AbstractBoardTest {
         });
     }
 
+    protected List<Cell> createCells() {
+        return Arrays.stream(boardMatrix)
+                .flatMap(Arrays::stream)
+                .map(cell -> Cell.builder()
+                        .cellNumber(cell.getCellNumber())
+                        .rowNumber(cell.getRowNumber())
+                        .columnNumber(cell.getColumnNumber())
+                        .letterValueMultiplier(cell.getLetterValueMultiplier())
+                        .wordScoreMultiplier(cell.getWordScoreMultiplier())
+                        .hasBottom(cell.isHasBottom())
+                        .hasLeft(cell.isHasLeft())
+                        .hasRight(cell.isHasRight())
+                        .hasTop(cell.isHasTop())
+                        .center(cell.isCenter())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     protected void createExistingVerticalWord(int startingRow, int startingColumn, String word) {
         int rowNumber = startingRow;
 
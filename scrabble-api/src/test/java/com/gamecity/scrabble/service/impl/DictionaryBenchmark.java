@@ -0,0 +1,104 @@
+package com.gamecity.scrabble.service.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.gamecity.scrabble.entity.Language;
+import com.gamecity.scrabble.service.DictionaryService;
+
+/**
+ * Measures the word lookups through the {@link DictionaryService dictionary service} with the Dutch
+ * dictionary. The benchmark is not a part of the test suite, it is run from the scrabble-api directory
+ * after the test classes are compiled
+ * 
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *      com.gamecity.scrabble.service.impl.DictionaryBenchmark
+ * </pre>
+ * 
+ * @author ekarakus
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DictionaryBenchmark {
+
+    private static final String DICTIONARY_PATH = "src/main/resources/dictionary/%s_dictionary.txt";
+    private static final int WORD_COUNT = 4096;
+
+    private DictionaryService dictionaryService;
+    private String[] words;
+    private String[] missingWords;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dictionaryService = new DictionaryServiceImpl(DICTIONARY_PATH, Language.nl.name());
+
+        final List<String> lines = Files.readAllLines(Paths.get(String.format(DICTIONARY_PATH, Language.nl)),
+                StandardCharsets.UTF_8)
+                .stream()
+                .filter(line -> line.length() > 1 && line.chars().allMatch(Character::isLetter))
+                .collect(Collectors.toList());
+        Collections.shuffle(lines, new Random(1));
+
+        words = lines.stream().limit(WORD_COUNT).map(String::toUpperCase).toArray(String[]::new);
+        // the words are not in the dictionary but they share the prefixes of the existing words
+        missingWords = lines.stream().limit(WORD_COUNT).map(word -> word.toUpperCase() + "Q").toArray(String[]::new);
+
+        // waits until the dictionary is loaded
+        dictionaryService.find(words[0], Language.nl);
+    }
+
+    @Benchmark
+    public void get_existing_word(Blackhole blackhole) {
+        blackhole.consume(dictionaryService.get(words[nextIndex()], Language.nl));
+    }
+
+    @Benchmark
+    public void find_existing_word(Blackhole blackhole) {
+        blackhole.consume(dictionaryService.find(words[nextIndex()], Language.nl));
+    }
+
+    @Benchmark
+    public void find_missing_word(Blackhole blackhole) {
+        blackhole.consume(dictionaryService.find(missingWords[nextIndex()], Language.nl));
+    }
+
+    private int nextIndex() {
+        index = (index + 1) & (WORD_COUNT - 1);
+        return index;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DictionaryBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
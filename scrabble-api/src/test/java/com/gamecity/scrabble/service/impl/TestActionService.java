@@ -36,6 +36,8 @@ class TestActionService extends AbstractServiceTest {
     void test_add_action() {
         final Game mockGame = mock(Game.class);
 
+        when(mockGame.getVersion()).thenReturn(DEFAULT_VERSION);
+        when(mockGame.getExpectedPlayerCount()).thenReturn(2);
         when(actionDao.save(any())).thenAnswer(invocation -> {
             return invocation.getArgument(0);
         });
@@ -46,6 +48,7 @@ class TestActionService extends AbstractServiceTest {
         assertThat(action.getGameId(), equalTo(mockGame.getId()));
         assertThat(action.getUserId(), equalTo(DEFAULT_USER_ID));
         assertThat(action.getVersion(), equalTo(mockGame.getVersion()));
+        assertThat(action.getBoardVersion(), equalTo(DEFAULT_VERSION - 2));
         assertThat(action.getGameStatus(), equalTo(mockGame.getStatus()));
         assertThat(action.getType(), equalTo(ActionType.CREATE));
         assertThat(action.getCurrentPlayerNumber(), equalTo(mockGame.getCurrentPlayerNumber()));
@@ -1,17 +1,29 @@
 package com.gamecity.scrabble.service.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import com.gamecity.scrabble.dao.RedisRepository;
 import com.gamecity.scrabble.entity.Game;
+import com.gamecity.scrabble.entity.GameArchive;
 import com.gamecity.scrabble.entity.Language;
+import com.gamecity.scrabble.entity.Tile;
 import com.gamecity.scrabble.model.VirtualBoard;
 import com.gamecity.scrabble.model.VirtualRack;
+import com.gamecity.scrabble.model.ArchiveMetrics;
 import com.gamecity.scrabble.service.ContentService;
+import com.gamecity.scrabble.service.GameArchiveService;
+import com.gamecity.scrabble.service.VirtualBagService;
 import com.gamecity.scrabble.service.VirtualBoardService;
 import com.gamecity.scrabble.service.VirtualRackService;
 
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.*;
 
 class TestContentService extends AbstractServiceTest {
@@ -22,8 +34,18 @@ class TestContentService extends AbstractServiceTest {
     @Mock
     private VirtualRackService virtualRackService;
 
+    @Mock
+    private VirtualBagService virtualBagService;
+
+    @Mock
+    private GameArchiveService gameArchiveService;
+
+    @Mock
+    private RedisRepository redisRepository;
+
     @InjectMocks
-    private ContentService contentService = new ContentServiceImpl(virtualBoardService, virtualRackService);
+    private ContentService contentService = new ContentServiceImpl(virtualBoardService, virtualRackService,
+            virtualBagService, gameArchiveService, redisRepository);
 
     @Test
     void test_create_content() {
@@ -49,18 +71,80 @@ class TestContentService extends AbstractServiceTest {
 
         final Game mockGame = mock(Game.class);
 
+        when(mockGame.getId()).thenReturn(DEFAULT_GAME_ID);
         when(mockGame.getLanguage()).thenReturn(language);
 
         final VirtualRack mockRack = mock(VirtualRack.class);
+        final VirtualRack mockFilledRack = mock(VirtualRack.class);
         final VirtualBoard mockBoard = mock(VirtualBoard.class);
+        final List<Tile> tiles = new ArrayList<>();
+
+        when(virtualBagService.getTiles(DEFAULT_GAME_ID, language)).thenReturn(tiles);
+        when(virtualRackService.refillRack(DEFAULT_GAME_ID, language, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER + 1,
+                mockRack, tiles)).thenReturn(mockFilledRack);
 
         contentService.update(mockGame, mockRack, mockBoard, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER);
 
-        verify(virtualRackService, times(1)).updateRack(mockGame.getId(), DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER,
-                mockRack);
-        verify(virtualRackService, times(1)).fillRack(mockGame.getId(), language, DEFAULT_PLAYER_NUMBER,
-                DEFAULT_ROUND_NUMBER + 1, mockRack);
-        verify(virtualBoardService, times(1)).updateBoard(mockGame.getId(), mockBoard);
+        verify(redisRepository, times(1)).commitMove(DEFAULT_GAME_ID, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER,
+                mockRack, mockFilledRack, tiles, mockBoard);
+        verify(virtualRackService, never()).updateRack(any(), any(), any(), any());
+        verify(virtualBoardService, never()).updateBoard(any(), any());
+    }
+
+    @Test
+    void test_archive_content() {
+        final Game game = Game.builder().id(DEFAULT_GAME_ID).expectedPlayerCount(2).build();
+        final GameArchive gameArchive = GameArchive.builder()
+                .gameId(DEFAULT_GAME_ID)
+                .boardVersion(10)
+                .board(new byte[100])
+                .history(new byte[400])
+                .build();
+
+        when(gameArchiveService.getByGameId(DEFAULT_GAME_ID)).thenReturn(null);
+        when(redisRepository.createArchive(DEFAULT_GAME_ID, 2)).thenReturn(gameArchive);
+        when(redisRepository.releaseContent(DEFAULT_GAME_ID, 2)).thenReturn(4L);
+
+        contentService.archive(game);
+
+        // the content is released after the archive is saved
+        final InOrder inOrder = inOrder(gameArchiveService, redisRepository);
+        inOrder.verify(gameArchiveService, times(1)).save(gameArchive);
+        inOrder.verify(redisRepository, times(1)).releaseContent(DEFAULT_GAME_ID, 2);
+
+        final ArchiveMetrics archiveMetrics = contentService.getArchiveMetrics();
+        assertThat(archiveMetrics.getArchivedGameCount(), equalTo(1L));
+        assertThat(archiveMetrics.getArchivedSize(), equalTo(500L));
+        assertThat(archiveMetrics.getReleasedKeyCount(), equalTo(4L));
+    }
+
+    @Test
+    void test_archive_content_of_an_archived_game() {
+        final Game game = Game.builder().id(DEFAULT_GAME_ID).expectedPlayerCount(2).build();
+
+        when(gameArchiveService.getByGameId(DEFAULT_GAME_ID)).thenReturn(GameArchive.builder().build());
+        when(redisRepository.releaseContent(DEFAULT_GAME_ID, 2)).thenReturn(3L);
+
+        contentService.archive(game);
+
+        verify(redisRepository, never()).createArchive(any(), any());
+        verify(gameArchiveService, never()).save(any());
+        verify(redisRepository, times(1)).releaseContent(DEFAULT_GAME_ID, 2);
+
+        assertThat(contentService.getArchiveMetrics().getArchivedGameCount(), equalTo(0L));
+        assertThat(contentService.getArchiveMetrics().getReleasedKeyCount(), equalTo(3L));
+    }
+
+    @Test
+    void test_archive_content_of_a_game_without_board() {
+        final Game game = Game.builder().id(DEFAULT_GAME_ID).expectedPlayerCount(2).build();
+
+        when(redisRepository.createArchive(DEFAULT_GAME_ID, 2)).thenReturn(null);
+
+        contentService.archive(game);
+
+        verify(gameArchiveService, never()).save(any());
+        verify(redisRepository, times(1)).releaseContent(DEFAULT_GAME_ID, 2);
     }
 
 }
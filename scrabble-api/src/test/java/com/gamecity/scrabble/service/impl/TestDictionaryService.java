@@ -1,20 +1,32 @@
 package com.gamecity.scrabble.service.impl;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 
 import com.gamecity.scrabble.entity.Language;
+import com.gamecity.scrabble.model.DictionaryMetrics;
 import com.gamecity.scrabble.model.DictionaryWord;
+import com.gamecity.scrabble.model.WordValidation;
 import com.gamecity.scrabble.service.DictionaryService;
+import com.gamecity.scrabble.util.DictionaryCompiler;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 class TestDictionaryService extends AbstractServiceTest {
 
     @InjectMocks
     private DictionaryService dictionaryService = new DictionaryServiceImpl(
-            "src/test/resources/dictionary/%s_dictionary.txt");
+            "src/test/resources/dictionary/%s_dictionary.txt", null);
 
     @Test
     void test_get_word_with_definition_split_by_space() {
@@ -65,7 +77,7 @@ class TestDictionaryService extends AbstractServiceTest {
 
     @Test
     void test_get_word_dictionary_not_found() {
-        final DictionaryService dictionaryService = new DictionaryServiceImpl("test_dictionary.txt");
+        final DictionaryService dictionaryService = new DictionaryServiceImpl("test_dictionary.txt", null);
 
         assertThat(dictionaryService.get("ROLE", Language.fr), nullValue());
     }
@@ -82,9 +94,146 @@ class TestDictionaryService extends AbstractServiceTest {
 
     @Test
     void test_find_word_dictionary_not_found() {
-        final DictionaryService dictionaryService = new DictionaryServiceImpl("test_dictionary.txt");
+        final DictionaryService dictionaryService = new DictionaryServiceImpl("test_dictionary.txt", null);
 
         assertThat(dictionaryService.find("ROL", Language.fr), equalTo(false));
     }
 
+    @Test
+    void test_get_word_from_dictionary_image(@TempDir Path directory) throws IOException {
+        final File file = directory.resolve("fr_dictionary.txt").toFile();
+        Files.copy(new File("src/test/resources/dictionary/fr_dictionary.txt").toPath(), file.toPath());
+
+        DictionaryCompiler.compile(Language.fr, file);
+        // the image is used even if the text file doesn't exist anymore
+        Files.delete(file.toPath());
+
+        final DictionaryService dictionaryService = new DictionaryServiceImpl(
+                directory.resolve("%s_dictionary.txt").toString(), null);
+        final DictionaryWord dictionaryWord = dictionaryService.get("FARADAY", Language.fr);
+
+        assertThat(dictionaryWord, notNullValue());
+        assertThat(dictionaryWord.getDefinition(), equalTo("a unit used in chemistry"));
+        assertThat(dictionaryService.find("ROLE", Language.fr), equalTo(true));
+        assertThat(dictionaryService.find("ROL", Language.fr), equalTo(false));
+    }
+
+    @Test
+    void test_validate_all_words() {
+        final WordValidation wordValidation = dictionaryService.validateAll(
+                List.of(new StringBuilder("Weak"), new StringBuilder("ROLE"), new StringBuilder("W'EAK")),
+                Language.fr);
+
+        assertThat(wordValidation.isValid(), equalTo(false));
+        assertThat(wordValidation.getInvalidWords().get(0).toString(), equalTo("W'EAK"));
+        assertThat(wordValidation.getDictionaryWord(0).getDefinition(), equalTo("feeble"));
+    }
+
+    @Test
+    void test_validate_all_words_dictionary_not_found() {
+        final DictionaryService dictionaryService = new DictionaryServiceImpl("test_dictionary.txt", null);
+        final WordValidation wordValidation = dictionaryService.validateAll(List.of("ROLE"), Language.fr);
+
+        assertThat(wordValidation.isValid(), equalTo(false));
+        assertThat(wordValidation.getDictionaryWord(0), nullValue());
+    }
+
+    @Test
+    void test_dictionary_is_loaded_on_first_use() {
+        final DictionaryService dictionaryService = new DictionaryServiceImpl(
+                "src/test/resources/dictionary/%s_dictionary.txt", null);
+
+        assertThat(getMetrics(dictionaryService, Language.fr).isLoaded(), equalTo(false));
+        assertThat(dictionaryService.find("ROLE", Language.fr), equalTo(true));
+
+        final DictionaryMetrics metrics = getMetrics(dictionaryService, Language.fr);
+        assertThat(metrics.isLoaded(), equalTo(true));
+        assertThat(metrics.getWordCount(), equalTo(10));
+        assertThat(metrics.getLoadDuration(), notNullValue());
+        assertThat(getMetrics(dictionaryService, Language.en).isLoaded(), equalTo(false));
+    }
+
+    @Test
+    void test_hot_dictionary_is_loaded_in_background() {
+        final DictionaryService dictionaryService = new DictionaryServiceImpl(
+                "src/test/resources/dictionary/%s_dictionary.txt", "fr, en");
+
+        assertThat(dictionaryService.find("ROLE", Language.fr), equalTo(true));
+        assertThat(dictionaryService.find("ROLE", Language.en), equalTo(false));
+
+        assertThat(getMetrics(dictionaryService, Language.fr).isLoaded(), equalTo(true));
+        // the dictionary file doesn't exist, the failed load is removed
+        assertThat(getMetrics(dictionaryService, Language.en).isLoaded(), equalTo(false));
+        assertThat(getMetrics(dictionaryService, Language.en).getLoadDuration(), nullValue());
+    }
+
+    @Test
+    void test_failed_dictionary_is_loaded_again(@TempDir Path directory) throws IOException {
+        final DictionaryService dictionaryService = new DictionaryServiceImpl(
+                directory.resolve("%s_dictionary.txt").toString(), null);
+
+        assertThat(dictionaryService.find("ROLE", Language.fr), equalTo(false));
+
+        Files.copy(new File("src/test/resources/dictionary/fr_dictionary.txt").toPath(),
+                directory.resolve("fr_dictionary.txt"));
+
+        assertThat(dictionaryService.find("ROLE", Language.fr), equalTo(true));
+        assertThat(getMetrics(dictionaryService, Language.fr).isLoaded(), equalTo(true));
+    }
+
+    @Test
+    void test_reload_dictionary(@TempDir Path directory) throws IOException {
+        final Path file = directory.resolve("fr_dictionary.txt");
+        Files.copy(new File("src/test/resources/dictionary/fr_dictionary.txt").toPath(), file);
+
+        final DictionaryService dictionaryService = new DictionaryServiceImpl(
+                directory.resolve("%s_dictionary.txt").toString(), null);
+        final WordValidation wordValidation = dictionaryService.validateAll(List.of("WEAK"), Language.fr);
+        assertThat(dictionaryService.find("WEAKEST", Language.fr), equalTo(false));
+
+        Files.writeString(file, "\nWEAKEST\tthe most feeble", StandardOpenOption.APPEND);
+        final DictionaryMetrics metrics = dictionaryService.reload(Language.fr);
+
+        assertThat(metrics.isLoaded(), equalTo(true));
+        assertThat(metrics.getWordCount(), equalTo(11));
+        assertThat(metrics.getReloadCount(), equalTo(1L));
+        assertThat(metrics.getMemoryDelta(), greaterThan(0L));
+        assertThat(metrics.getLoadDuration(), notNullValue());
+        assertThat(dictionaryService.get("WEAKEST", Language.fr).getDefinition(), equalTo("the most feeble"));
+        // the validation keeps the dictionary it is started with
+        assertThat(wordValidation.getDictionaryWord(0).getDefinition(), equalTo("feeble"));
+    }
+
+    @Test
+    void test_reload_dictionary_not_found() {
+        final DictionaryService dictionaryService = new DictionaryServiceImpl("test_dictionary.txt", null);
+
+        try {
+            dictionaryService.reload(Language.fr);
+
+            fail("Reloaded a dictionary that doesn't exist");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), containsString("fr"));
+        }
+    }
+
+    @Test
+    void test_invalid_hot_language() {
+        try {
+            new DictionaryServiceImpl("src/test/resources/dictionary/%s_dictionary.txt", "fr,xx");
+
+            fail("Created the dictionary service with an invalid language");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("xx"));
+        }
+    }
+
+    private DictionaryMetrics getMetrics(DictionaryService dictionaryService, Language language) {
+        return dictionaryService.getMetrics()
+                .stream()
+                .filter(metrics -> metrics.getLanguage() == language)
+                .findFirst()
+                .orElseThrow();
+    }
+
 }
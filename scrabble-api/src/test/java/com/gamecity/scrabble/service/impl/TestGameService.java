@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -23,7 +24,8 @@ import com.gamecity.scrabble.entity.GameType;
 import com.gamecity.scrabble.entity.Word;
 import com.gamecity.scrabble.entity.User;
 import com.gamecity.scrabble.entity.UserType;
-import com.gamecity.scrabble.model.DictionaryWord;
+import com.gamecity.scrabble.model.Dictionary;
+import com.gamecity.scrabble.model.DictionaryBuilder;
 import com.gamecity.scrabble.model.VirtualBoard;
 import com.gamecity.scrabble.model.VirtualCell;
 import com.gamecity.scrabble.model.VirtualRack;
@@ -144,6 +146,15 @@ class TestGameService extends AbstractServiceTest {
         assertThat(gameService.get(DEFAULT_GAME_ID), notNullValue());
     }
 
+    @Test
+    void test_get_version() {
+        when(gameDao.getVersion(eq(DEFAULT_GAME_ID))).thenReturn(DEFAULT_VERSION);
+
+        assertThat(gameService.getVersion(DEFAULT_GAME_ID), equalTo(DEFAULT_VERSION));
+
+        verify(gameDao, never()).get(DEFAULT_GAME_ID);
+    }
+
     @Test
     void test_create_user_game() {
         final User mockUser = mock(User.class);
@@ -678,8 +689,8 @@ class TestGameService extends AbstractServiceTest {
         createVirtualBoard();
 
         // the word is not valid
-        when(dictionaryService.get(eq("WEAK"), any(Language.class))).thenReturn(null);
-        when(virtualBoardService.scanWords(any(), any(), any())).thenCallRealMethod();
+        mockDictionary();
+        when(virtualBoardService.scanWords(any(), any(), anyList(), any())).thenCallRealMethod();
 
         try {
             gameService.play(DEFAULT_GAME_ID, DEFAULT_USER_ID, new VirtualRack(tiles), ActionType.PLAY);
@@ -726,17 +737,16 @@ class TestGameService extends AbstractServiceTest {
         createScoreCalculator();
 
         // the word is valid
-        when(dictionaryService.get(any(String.class), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("WEAK").build());
+        mockDictionary("WEAK");
 
         when(gameDao.save(any())).thenReturn(Mockito.mock(Game.class));
         when(actionService.add(any(), any(), any(), any())).thenReturn(Action.builder().id(DEFAULT_ACTION_ID).build());
-        when(virtualBoardService.scanWords(any(), any(), any())).thenCallRealMethod();
+        when(virtualBoardService.scanWords(any(), any(), anyList(), any())).thenCallRealMethod();
 
         gameService.play(DEFAULT_GAME_ID, DEFAULT_USER_ID, new VirtualRack(tiles), ActionType.PLAY);
 
         // the word WEAK is found in the dictionary
-        verify(dictionaryService, times(1)).get("WEAK", Language.en);
+        verifyValidatedWords("WEAK");
 
         // the word score is added to the player score
         verify(playerService, times(1)).updateScore(DEFAULT_GAME_ID, 1, 22);
@@ -770,17 +780,14 @@ class TestGameService extends AbstractServiceTest {
         createScoreCalculator();
 
         // the words are valid
-        when(dictionaryService.get(eq("WEAK"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("WEAK").build());
-        when(dictionaryService.get(eq("WAR"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("WAR").build());
+        mockDictionary("WEAK", "WAR");
 
         when(gameDao.save(any())).thenAnswer(invocation -> {
             return invocation.getArgument(0);
         });
 
         when(actionService.add(any(), any(), any(), any())).thenReturn(Action.builder().id(DEFAULT_ACTION_ID).build());
-        when(virtualBoardService.scanWords(any(), any(), any())).thenCallRealMethod();
+        when(virtualBoardService.scanWords(any(), any(), anyList(), any())).thenCallRealMethod();
 
         final VirtualRack virtualRack = new VirtualRack(tiles);
 
@@ -792,8 +799,7 @@ class TestGameService extends AbstractServiceTest {
         assertThat(game.getRemainingTileCount(), equalTo(92)); // 6 tiles are used
 
         // the words are found in the dictionary
-        verify(dictionaryService, times(1)).get("WEAK", Language.en);
-        verify(dictionaryService, times(1)).get("WAR", Language.en);
+        verifyValidatedWords("WEAK", "WAR");
 
         // the word score is added to the player score
         verify(playerService, times(1)).updateScore(DEFAULT_GAME_ID, 1, 29);
@@ -839,8 +845,7 @@ class TestGameService extends AbstractServiceTest {
         createScoreCalculator();
 
         // the words are valid
-        when(dictionaryService.get(eq("WEAK"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("WEAK").build());
+        mockDictionary("WEAK");
 
         when(playerService.getByUserId(eq(DEFAULT_GAME_ID), eq(ALTERNATIVE_USER_ID)))
                 .thenReturn(Player.builder().playerNumber(ALTERNATIVE_PLAYER_NUMBER).build());
@@ -850,7 +855,7 @@ class TestGameService extends AbstractServiceTest {
         });
 
         when(actionService.add(any(), any(), any(), any())).thenReturn(Action.builder().id(DEFAULT_ACTION_ID).build());
-        when(virtualBoardService.scanWords(any(), any(), any())).thenCallRealMethod();
+        when(virtualBoardService.scanWords(any(), any(), anyList(), any())).thenCallRealMethod();
 
         final VirtualRack virtualRack = new VirtualRack(tiles);
 
@@ -875,20 +880,16 @@ class TestGameService extends AbstractServiceTest {
         createScoreCalculator();
 
         // the words are valid
-        when(dictionaryService.get(eq("WEAK"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("WEAK").build());
-        when(dictionaryService.get(eq("ERRAT"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("ERRAT").build());
+        mockDictionary("WEAK", "ERRAT");
 
         when(gameDao.save(any())).thenReturn(Mockito.mock(Game.class));
         when(actionService.add(any(), any(), any(), any())).thenReturn(Action.builder().id(DEFAULT_ACTION_ID).build());
-        when(virtualBoardService.scanWords(any(), any(), any())).thenCallRealMethod();
+        when(virtualBoardService.scanWords(any(), any(), anyList(), any())).thenCallRealMethod();
 
         gameService.play(DEFAULT_GAME_ID, DEFAULT_USER_ID, new VirtualRack(tiles), ActionType.PLAY);
 
         // the words are found in the dictionary
-        verify(dictionaryService, times(1)).get("WEAK", Language.en);
-        verify(dictionaryService, times(1)).get("ERRAT", Language.en);
+        verifyValidatedWords("WEAK", "ERRAT");
 
         // the word score is added to the player score
         verify(playerService, times(1)).updateScore(DEFAULT_GAME_ID, 1, 34);
@@ -934,20 +935,16 @@ class TestGameService extends AbstractServiceTest {
         createScoreCalculator();
 
         // the words are valid
-        when(dictionaryService.get(eq("WEAKER"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("WEAKER").build());
-        when(dictionaryService.get(eq("ERRAT"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("ERRAT").build());
+        mockDictionary("WEAKER", "ERRAT");
 
         when(gameDao.save(any())).thenReturn(Mockito.mock(Game.class));
         when(actionService.add(any(), any(), any(), any())).thenReturn(Action.builder().id(DEFAULT_ACTION_ID).build());
-        when(virtualBoardService.scanWords(any(), any(), any())).thenCallRealMethod();
+        when(virtualBoardService.scanWords(any(), any(), anyList(), any())).thenCallRealMethod();
 
         gameService.play(DEFAULT_GAME_ID, DEFAULT_USER_ID, new VirtualRack(tiles), ActionType.PLAY);
 
         // the words are found in the dictionary
-        verify(dictionaryService, times(1)).get("WEAKER", Language.en);
-        verify(dictionaryService, times(1)).get("ERRAT", Language.en);
+        verifyValidatedWords("WEAKER", "ERRAT");
 
         // the word score is added to the player score
         verify(playerService, times(1)).updateScore(DEFAULT_GAME_ID, 1, 20);
@@ -990,20 +987,16 @@ class TestGameService extends AbstractServiceTest {
         createScoreCalculator();
 
         // the words are valid
-        when(dictionaryService.get(eq("PREP"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("PREP").build());
-        when(dictionaryService.get(eq("REPO"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("REPO").build());
+        mockDictionary("PREP", "REPO");
 
         when(gameDao.save(any())).thenReturn(Mockito.mock(Game.class));
         when(actionService.add(any(), any(), any(), any())).thenReturn(Action.builder().id(DEFAULT_ACTION_ID).build());
-        when(virtualBoardService.scanWords(any(), any(), any())).thenCallRealMethod();
+        when(virtualBoardService.scanWords(any(), any(), anyList(), any())).thenCallRealMethod();
 
         gameService.play(DEFAULT_GAME_ID, DEFAULT_USER_ID, new VirtualRack(tiles), ActionType.PLAY);
 
         // the words are found in the dictionary
-        verify(dictionaryService, times(1)).get("PREP", Language.en);
-        verify(dictionaryService, times(1)).get("REPO", Language.en);
+        verifyValidatedWords("PREP", "REPO");
 
         // the word score is added to the player score
         verify(playerService, times(1)).updateScore(DEFAULT_GAME_ID, 1, 28);
@@ -1046,17 +1039,16 @@ class TestGameService extends AbstractServiceTest {
         createScoreCalculator();
 
         // the word is valid
-        when(dictionaryService.get(eq("PREPARE"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("PREPARE").build());
+        mockDictionary("PREPARE");
 
         when(gameDao.save(any())).thenReturn(Mockito.mock(Game.class));
         when(actionService.add(any(), any(), any(), any())).thenReturn(Action.builder().id(DEFAULT_ACTION_ID).build());
-        when(virtualBoardService.scanWords(any(), any(), any())).thenCallRealMethod();
+        when(virtualBoardService.scanWords(any(), any(), anyList(), any())).thenCallRealMethod();
 
         gameService.play(DEFAULT_GAME_ID, DEFAULT_USER_ID, new VirtualRack(tiles), ActionType.PLAY);
 
         // the word is found in the dictionary
-        verify(dictionaryService, times(1)).get("PREPARE", Language.en);
+        verifyValidatedWords("PREPARE");
 
         // the word score is added to the player score
         verify(playerService, times(1)).updateScore(DEFAULT_GAME_ID, 1, 74);
@@ -1092,12 +1084,11 @@ class TestGameService extends AbstractServiceTest {
         createScoreCalculator();
 
         // the word is valid
-        when(dictionaryService.get(eq("PREPARE"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("PREPARE").build());
+        mockDictionary("PREPARE");
 
         when(gameDao.save(any())).thenReturn(Mockito.mock(Game.class));
         when(actionService.add(any(), any(), any(), any())).thenReturn(Action.builder().id(DEFAULT_ACTION_ID).build());
-        when(virtualBoardService.scanWords(any(), any(), any())).thenCallRealMethod();
+        when(virtualBoardService.scanWords(any(), any(), anyList(), any())).thenCallRealMethod();
 
         final Game playedGame = gameService.play(DEFAULT_GAME_ID, DEFAULT_USER_ID, new VirtualRack(tiles),
                 ActionType.PLAY);
@@ -1123,12 +1114,11 @@ class TestGameService extends AbstractServiceTest {
         createScoreCalculator();
 
         // the word is valid
-        when(dictionaryService.get(eq("PREP"), any(Language.class)))
-                .thenReturn(DictionaryWord.builder().word("PREP").build());
+        mockDictionary("PREP");
 
         when(gameDao.save(any())).thenReturn(Mockito.mock(Game.class));
         when(actionService.add(any(), any(), any(), any())).thenReturn(Action.builder().id(DEFAULT_ACTION_ID).build());
-        when(virtualBoardService.scanWords(any(), any(), any())).thenCallRealMethod();
+        when(virtualBoardService.scanWords(any(), any(), anyList(), any())).thenCallRealMethod();
 
         final Game playedGame = gameService.play(DEFAULT_GAME_ID, DEFAULT_USER_ID, new VirtualRack(tiles),
                 ActionType.PLAY);
@@ -1237,4 +1227,25 @@ class TestGameService extends AbstractServiceTest {
         when(scoreService.calculateBonuses(any(), any())).thenCallRealMethod();
     }
 
+    private void mockDictionary(String... words) {
+        final DictionaryBuilder builder = new DictionaryBuilder(Language.en);
+        Arrays.stream(words).forEach(word -> builder.add(word, null));
+        final Dictionary dictionary = builder.build();
+
+        when(dictionaryService.validateAll(anyList(), any(Language.class)))
+                .thenAnswer(invocation -> dictionary.validateAll(invocation.getArgument(0)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyValidatedWords(String... words) {
+        final ArgumentCaptor<List<? extends CharSequence>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dictionaryService, times(1)).validateAll(captor.capture(), eq(Language.en));
+
+        final List<String> validatedWords = captor.getValue()
+                .stream()
+                .map(CharSequence::toString)
+                .collect(Collectors.toList());
+        assertThat(validatedWords, containsInAnyOrder(words));
+    }
+
 }
@@ -2,24 +2,25 @@ package com.gamecity.scrabble.service.impl;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Calendar;
-import java.util.Date;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.JobKey;
-import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleTrigger;
-import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+import org.springframework.beans.factory.ObjectProvider;
 
 import com.gamecity.scrabble.Constants;
+import com.gamecity.scrabble.dao.GameDao;
+import com.gamecity.scrabble.dao.RedisRepository;
 import com.gamecity.scrabble.entity.Game;
-import com.gamecity.scrabble.service.SchedulerService;
+import com.gamecity.scrabble.job.EndGameJob;
+import com.gamecity.scrabble.job.SkipTurnJob;
+import com.gamecity.scrabble.job.StartGameJob;
+import com.gamecity.scrabble.job.TerminateGameJob;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
@@ -28,144 +29,212 @@ import static org.mockito.Mockito.any;
 
 class TestSchedulerService extends AbstractServiceTest {
 
+    private static final String SKIP_TURN_TIMER = "SKIP_TURN:" + DEFAULT_GAME_ID + ":" + DEFAULT_VERSION;
+    private static final String START_GAME_TIMER = "START_GAME:" + DEFAULT_GAME_ID;
+    private static final String END_GAME_TIMER = "END_GAME:" + DEFAULT_GAME_ID;
+    private static final String TERMINATE_GAME_TIMER = "TERMINATE_GAME:" + DEFAULT_GAME_ID;
+
     @Mock
-    private SchedulerFactoryBean schedulerFactory;
+    private GameDao gameDao;
 
-    @InjectMocks
-    private SchedulerService schedulerService = new SchedulerServiceImpl(schedulerFactory);
+    @Mock
+    private RedisRepository redisRepository;
 
-    @Test
-    void test_schedule_skip_turn_job() throws SchedulerException {
-        final Game game = Game.builder()
-                .id(DEFAULT_GAME_ID)
-                .currentPlayerNumber(DEFAULT_PLAYER_NUMBER)
-                .version(DEFAULT_VERSION)
-                .duration(DEFAULT_DURATION)
-                .lastUpdatedDate(LocalDateTime.now())
-                .build();
+    @Mock
+    private ObjectProvider<SkipTurnJob> skipTurnJob;
 
-        when(schedulerFactory.getScheduler()).thenReturn(mock(Scheduler.class));
+    @Mock
+    private ObjectProvider<StartGameJob> startGameJob;
 
-        schedulerService.scheduleSkipTurnJob(game, game.getDuration());
+    @Mock
+    private ObjectProvider<EndGameJob> endGameJob;
 
-        final ArgumentCaptor<JobDetail> jobDetail = ArgumentCaptor.forClass(JobDetail.class);
-        final ArgumentCaptor<SimpleTrigger> trigger = ArgumentCaptor.forClass(SimpleTrigger.class);
+    @Mock
+    private ObjectProvider<TerminateGameJob> terminateGameJob;
 
-        verify(schedulerFactory.getScheduler()).scheduleJob(jobDetail.capture(), trigger.capture());
+    @InjectMocks
+    private SchedulerServiceImpl schedulerService = new SchedulerServiceImpl(gameDao, redisRepository,
+            skipTurnJob, startGameJob, endGameJob, terminateGameJob);
 
-        final JobDataMap dataMap = jobDetail.getValue().getJobDataMap();
+    @AfterEach
+    void afterEach() {
+        schedulerService.destroy();
+    }
 
-        assertThat(dataMap.get(SchedulerServiceImpl.PARAM_GAME_ID), equalTo(game.getId()));
-        assertThat(dataMap.get(SchedulerServiceImpl.PARAM_PLAYER_NUMBER), equalTo(game.getCurrentPlayerNumber()));
-        assertThat(dataMap.get(SchedulerServiceImpl.PARAM_VERSION), equalTo(game.getVersion()));
+    @Test
+    void test_schedule_start_game_job() {
+        final StartGameJob job = mock(StartGameJob.class);
 
-        final Calendar startAt = Calendar.getInstance();
-        startAt.setTime(Date.from(game.getLastUpdatedDate().atZone(ZoneId.systemDefault()).toInstant()));
-        startAt.add(Calendar.SECOND, game.getDuration());
+        when(redisRepository.removeTimer(START_GAME_TIMER)).thenReturn(true);
+        when(startGameJob.getObject()).thenReturn(job);
 
-        assertThat(trigger.getValue().getStartTime(), equalTo(startAt.getTime()));
+        schedulerService.scheduleStartGameJob(DEFAULT_GAME_ID);
 
-        verify(schedulerFactory.getScheduler(), times(1)).start();
+        verify(redisRepository, times(1)).scheduleTimer(eq(START_GAME_TIMER), anyLong());
+        verify(job, timeout(1000).times(1)).start(DEFAULT_GAME_ID);
     }
 
     @Test
-    void test_schedule_terminate_skip_turn_job() throws SchedulerException {
-        when(schedulerFactory.getScheduler()).thenReturn(mock(Scheduler.class));
+    void test_schedule_end_game_job() {
+        final EndGameJob job = mock(EndGameJob.class);
 
-        schedulerService.terminateSkipTurnJob(DEFAULT_GAME_ID, DEFAULT_VERSION);
+        when(redisRepository.removeTimer(END_GAME_TIMER)).thenReturn(true);
+        when(endGameJob.getObject()).thenReturn(job);
 
-        verify(schedulerFactory.getScheduler(), times(1)).interrupt(any(JobKey.class));
-        verify(schedulerFactory.getScheduler(), times(1)).deleteJob(any(JobKey.class));
+        schedulerService.scheduleEndGameJob(DEFAULT_GAME_ID);
+
+        verify(redisRepository, times(1)).scheduleTimer(eq(END_GAME_TIMER), anyLong());
+        verify(job, timeout(1000).times(1)).end(DEFAULT_GAME_ID);
     }
 
     @Test
-    void test_schedule_start_game_job() throws SchedulerException, InterruptedException {
-        when(schedulerFactory.getScheduler()).thenReturn(mock(Scheduler.class));
-
-        final Date dateBeforeExecution = new Date();
-
-        Thread.sleep(10);
-
-        schedulerService.scheduleStartGameJob(DEFAULT_GAME_ID);
+    void test_schedule_terminate_game_job() {
+        final LocalDateTime createdDate = LocalDateTime.now();
 
-        Thread.sleep(10);
+        schedulerService.scheduleTerminateGameJob(DEFAULT_GAME_ID, createdDate);
 
-        final Date dateAfterExecution = new Date();
+        verify(redisRepository, times(1)).scheduleTimer(TERMINATE_GAME_TIMER,
+                createdDate.plusMinutes(Constants.Game.TERMINATE_GAME_DURATION_MINUTES)
+                        .atZone(ZoneId.systemDefault())
+                        .toInstant()
+                        .toEpochMilli());
 
-        final ArgumentCaptor<JobDetail> jobDetail = ArgumentCaptor.forClass(JobDetail.class);
-        final ArgumentCaptor<SimpleTrigger> trigger = ArgumentCaptor.forClass(SimpleTrigger.class);
+        assertThat(schedulerService.getPendingTimerCount(), equalTo(1L));
+    }
 
-        verify(schedulerFactory.getScheduler()).scheduleJob(jobDetail.capture(), trigger.capture());
+    @Test
+    void test_schedule_terminate_terminate_game_job() {
+        schedulerService.scheduleTerminateGameJob(DEFAULT_GAME_ID, LocalDateTime.now());
+        schedulerService.terminateTerminateGameJob(DEFAULT_GAME_ID);
 
-        assertThat(jobDetail.getValue().getJobDataMap().get(SchedulerServiceImpl.PARAM_GAME_ID),
-                equalTo(DEFAULT_GAME_ID));
-        assertThat(trigger.getValue().getStartTime(), greaterThan(dateBeforeExecution));
-        assertThat(trigger.getValue().getStartTime(), lessThan(dateAfterExecution));
+        verify(redisRepository, times(1)).removeTimer(TERMINATE_GAME_TIMER);
+        verifyNoInteractions(terminateGameJob);
 
-        verify(schedulerFactory.getScheduler(), times(1)).start();
+        assertThat(schedulerService.getPendingTimerCount(), equalTo(0L));
     }
 
     @Test
-    void test_schedule_end_game_job() throws SchedulerException, InterruptedException {
-        when(schedulerFactory.getScheduler()).thenReturn(mock(Scheduler.class));
+    void test_poll_overdue_timers() {
+        final TerminateGameJob job = mock(TerminateGameJob.class);
 
-        final Date dateBeforeExecution = new Date();
+        when(redisRepository.getDueTimers(anyLong(), anyInt()))
+                .thenReturn(Arrays.asList(SKIP_TURN_TIMER, TERMINATE_GAME_TIMER));
+        when(redisRepository.removeTimer(SKIP_TURN_TIMER)).thenReturn(false);
+        when(redisRepository.removeTimer(TERMINATE_GAME_TIMER)).thenReturn(true);
+        when(terminateGameJob.getObject()).thenReturn(job);
 
-        Thread.sleep(10);
-
-        schedulerService.scheduleEndGameJob(DEFAULT_GAME_ID);
+        schedulerService.pollTimers();
 
-        Thread.sleep(10);
+        // the skip turn timer is run by another node
+        verify(job, timeout(1000).times(1)).terminate(DEFAULT_GAME_ID);
+        verify(redisRepository, times(1)).removeTimer(SKIP_TURN_TIMER);
+        verifyNoInteractions(skipTurnJob);
+    }
 
-        final Date dateAfterExecution = new Date();
+    @Test
+    void test_sweep_expired_turns() {
+        final Game game = Game.builder()
+                .id(DEFAULT_GAME_ID)
+                .version(DEFAULT_VERSION)
+                .turnDeadline(LocalDateTime.now().minusSeconds(DEFAULT_DURATION))
+                .build();
+        final Game claimedGame = Game.builder().id(2L).version(3).turnDeadline(LocalDateTime.now()).build();
 
-        final ArgumentCaptor<JobDetail> jobDetail = ArgumentCaptor.forClass(JobDetail.class);
-        final ArgumentCaptor<SimpleTrigger> trigger = ArgumentCaptor.forClass(SimpleTrigger.class);
+        final SkipTurnJob job = mock(SkipTurnJob.class);
 
-        verify(schedulerFactory.getScheduler()).scheduleJob(jobDetail.capture(), trigger.capture());
+        when(gameDao.getExpiredGames(any(LocalDateTime.class), isNull(), anyInt())).thenReturn(List.of(game, claimedGame));
+        when(redisRepository.claimTimer(SKIP_TURN_TIMER)).thenReturn(true);
+        when(redisRepository.claimTimer("SKIP_TURN:2:3")).thenReturn(false);
+        when(skipTurnJob.getObject()).thenReturn(job);
 
-        assertThat(jobDetail.getValue().getJobDataMap().get(SchedulerServiceImpl.PARAM_GAME_ID),
-                equalTo(DEFAULT_GAME_ID));
-        assertThat(trigger.getValue().getStartTime(), greaterThan(dateBeforeExecution));
-        assertThat(trigger.getValue().getStartTime(), lessThan(dateAfterExecution));
+        schedulerService.sweepExpiredTurns();
 
-        verify(schedulerFactory.getScheduler(), times(1)).start();
+        verify(job, timeout(1000).times(1)).skipTurn(DEFAULT_GAME_ID, DEFAULT_VERSION);
+        verify(job, never()).skipTurn(2L, 3);
     }
 
     @Test
-    void test_schedule_terminate_game_job() throws SchedulerException {
-        final LocalDateTime createdDate = LocalDateTime.now();
+    void test_sweep_turns_expiring_before_next_sweep() throws InterruptedException {
+        final Game game = Game.builder()
+                .id(DEFAULT_GAME_ID)
+                .version(DEFAULT_VERSION)
+                .turnDeadline(LocalDateTime.now().plusNanos(400_000_000))
+                .build();
 
-        when(schedulerFactory.getScheduler()).thenReturn(mock(Scheduler.class));
+        final SkipTurnJob job = mock(SkipTurnJob.class);
 
-        schedulerService.scheduleTerminateGameJob(DEFAULT_GAME_ID, createdDate);
+        when(gameDao.getExpiredGames(any(LocalDateTime.class), isNull(), anyInt())).thenReturn(List.of(game));
+        when(redisRepository.claimTimer(SKIP_TURN_TIMER)).thenReturn(true);
+        when(skipTurnJob.getObject()).thenReturn(job);
 
-        final ArgumentCaptor<JobDetail> jobDetail = ArgumentCaptor.forClass(JobDetail.class);
-        final ArgumentCaptor<SimpleTrigger> trigger = ArgumentCaptor.forClass(SimpleTrigger.class);
+        schedulerService.sweepExpiredTurns();
+
+        // the turn is skipped at the deadline
+        Thread.sleep(200);
+
+        verify(job, never()).skipTurn(DEFAULT_GAME_ID, DEFAULT_VERSION);
+        verify(job, timeout(1000).times(1)).skipTurn(DEFAULT_GAME_ID, DEFAULT_VERSION);
+    }
 
-        verify(schedulerFactory.getScheduler()).scheduleJob(jobDetail.capture(), trigger.capture());
+    @Test
+    void test_sweep_expired_turns_when_a_turn_fails() {
+        final Game game = Game.builder().id(DEFAULT_GAME_ID).version(DEFAULT_VERSION).turnDeadline(LocalDateTime.now())
+                .build();
+        final Game failedGame = Game.builder().id(2L).version(3).turnDeadline(LocalDateTime.now()).build();
 
-        final JobDataMap dataMap = jobDetail.getValue().getJobDataMap();
+        final SkipTurnJob job = mock(SkipTurnJob.class);
 
-        assertThat(dataMap.get(SchedulerServiceImpl.PARAM_GAME_ID), equalTo(DEFAULT_GAME_ID));
+        when(gameDao.getExpiredGames(any(LocalDateTime.class), isNull(), anyInt())).thenReturn(List.of(failedGame, game));
+        when(redisRepository.claimTimer(anyString())).thenReturn(true);
+        when(skipTurnJob.getObject()).thenReturn(job);
+        doThrow(new IllegalStateException("The game has been updated!")).when(job).skipTurn(2L, 3);
 
-        final Calendar startAt = Calendar.getInstance();
-        startAt.setTime(Date.from(createdDate.atZone(ZoneId.systemDefault()).toInstant()));
-        startAt.add(Calendar.MINUTE, Constants.Game.TERMINATE_GAME_DURATION_MINUTES);
+        schedulerService.sweepExpiredTurns();
 
-        assertThat(trigger.getValue().getStartTime(), equalTo(startAt.getTime()));
+        verify(job, timeout(1000).times(1)).skipTurn(2L, 3);
+        verify(job, timeout(1000).times(1)).skipTurn(DEFAULT_GAME_ID, DEFAULT_VERSION);
+    }
 
-        verify(schedulerFactory.getScheduler(), times(1)).start();
+    @Test
+    void test_sweep_expired_turns_in_batches() {
+        final List<Game> games = IntStream.rangeClosed(1, 100)
+                .mapToObj(id -> Game.builder()
+                        .id((long) id)
+                        .version(DEFAULT_VERSION)
+                        .turnDeadline(LocalDateTime.now().minusSeconds(DEFAULT_DURATION))
+                        .build())
+                .collect(Collectors.toList());
+        final Game lastGame = Game.builder().id(101L).version(3).turnDeadline(LocalDateTime.now()).build();
+
+        final SkipTurnJob job = mock(SkipTurnJob.class);
+
+        // the games of the first batch are claimed by another node
+        when(gameDao.getExpiredGames(any(LocalDateTime.class), isNull(), anyInt())).thenReturn(games);
+        when(gameDao.getExpiredGames(any(LocalDateTime.class), eq(games.get(99)), anyInt()))
+                .thenReturn(List.of(lastGame));
+        when(redisRepository.claimTimer(anyString())).thenReturn(false);
+        when(redisRepository.claimTimer("SKIP_TURN:101:3")).thenReturn(true);
+        when(skipTurnJob.getObject()).thenReturn(job);
+
+        schedulerService.sweepExpiredTurns();
+
+        verify(job, timeout(1000).times(1)).skipTurn(101L, 3);
+        verify(gameDao, times(2)).getExpiredGames(any(LocalDateTime.class), any(), anyInt());
     }
 
     @Test
-    void test_schedule_terminate_terminate_game_job() throws SchedulerException {
-        when(schedulerFactory.getScheduler()).thenReturn(mock(Scheduler.class));
+    void test_poll_overdue_timers_in_batches() {
+        final String[] timerKeys = new String[100];
+        Arrays.fill(timerKeys, TERMINATE_GAME_TIMER);
 
-        schedulerService.terminateTerminateGameJob(DEFAULT_GAME_ID);
+        when(redisRepository.getDueTimers(anyLong(), anyInt())).thenReturn(Arrays.asList(timerKeys))
+                .thenReturn(Arrays.asList(START_GAME_TIMER));
+
+        schedulerService.pollTimers();
 
-        verify(schedulerFactory.getScheduler(), times(1)).interrupt(any(JobKey.class));
-        verify(schedulerFactory.getScheduler(), times(1)).deleteJob(any(JobKey.class));
+        verify(redisRepository, times(2)).getDueTimers(anyLong(), anyInt());
+        verify(redisRepository, times(100)).removeTimer(TERMINATE_GAME_TIMER);
+        verify(redisRepository, times(1)).removeTimer(START_GAME_TIMER);
     }
 
 }
@@ -3,7 +3,9 @@ package com.gamecity.scrabble.service.impl;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -13,11 +15,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import com.gamecity.scrabble.dao.CellDao;
+import com.gamecity.scrabble.dao.GameArchiveDao;
 import com.gamecity.scrabble.dao.RedisRepository;
 import com.gamecity.scrabble.entity.Cell;
+import com.gamecity.scrabble.entity.GameArchive;
+import com.gamecity.scrabble.model.BoardScanFlag;
 import com.gamecity.scrabble.model.ConstructedWord;
 import com.gamecity.scrabble.model.VirtualBoard;
 import com.gamecity.scrabble.model.VirtualCell;
+import com.gamecity.scrabble.model.VirtualTile;
 import com.gamecity.scrabble.service.VirtualBoardService;
 import com.gamecity.scrabble.service.exception.GameException;
 import com.gamecity.scrabble.service.exception.error.GameError;
@@ -40,11 +46,15 @@ class TestVirtualBoardService extends AbstractServiceTest {
     @Mock
     private CellDao cellDao;
 
+    @Mock
+    private GameArchiveDao gameArchiveDao;
+
     @Mock
     private RedisRepository redisRepository;
 
     @InjectMocks
-    private VirtualBoardService virtualBoardService = new VirtualBoardServiceImpl(cellDao, redisRepository);
+    private VirtualBoardService virtualBoardService = new VirtualBoardServiceImpl(cellDao, gameArchiveDao,
+            redisRepository);
 
     @Test
     void test_create_board() {
@@ -85,6 +95,29 @@ class TestVirtualBoardService extends AbstractServiceTest {
         }
     }
 
+    @Test
+    void test_get_board_from_archive() {
+        final VirtualBoard virtualBoard = mock(VirtualBoard.class);
+        final GameArchive gameArchive = GameArchive.builder().gameId(DEFAULT_GAME_ID).boardVersion(2).build();
+
+        when(redisRepository.getBoard(DEFAULT_GAME_ID, 2)).thenReturn(null);
+        when(gameArchiveDao.getByGameId(DEFAULT_GAME_ID)).thenReturn(gameArchive);
+        when(redisRepository.getArchivedBoard(gameArchive, 2)).thenReturn(virtualBoard);
+
+        assertThat(virtualBoardService.getBoard(DEFAULT_GAME_ID, 2), equalTo(virtualBoard));
+    }
+
+    @Test
+    void test_get_board_is_not_read_from_archive_when_board_is_in_redis() {
+        final VirtualBoard virtualBoard = mock(VirtualBoard.class);
+
+        when(redisRepository.getBoard(DEFAULT_GAME_ID, 2)).thenReturn(virtualBoard);
+
+        assertThat(virtualBoardService.getBoard(DEFAULT_GAME_ID, 2), equalTo(virtualBoard));
+
+        verifyNoInteractions(gameArchiveDao);
+    }
+
     @Test
     void test_scan_word_detection_ends_in_right() {
         createBoardMatrix();
@@ -300,6 +333,123 @@ class TestVirtualBoardService extends AbstractServiceTest {
         assertThat(words.contains("WEAK"), equalTo(true));
     }
 
+    @Test
+    void test_scan_placed_tiles_finds_the_same_words_as_full_scan() {
+        for (long seed = 0; seed < 1000; seed++) {
+            final Set<BoardScanFlag> boardScanFlags = seed % 2 == 0 ? Set.of(LOG_NEW_LETTERS, LOG_NEW_WORDS)
+                    : Set.of(SCAN_SINGLE_LETTERS, LOG_NEW_LETTERS, LOG_NEW_WORDS);
+
+            createRandomBoard(seed);
+            final VirtualBoard fullScanBoard = createVirtualBoard();
+            final List<String> fullScanWords = scanWords(
+                    () -> virtualBoardService.scanWords(DEFAULT_GAME_ID, fullScanBoard, boardScanFlags));
+
+            final List<VirtualTile> placedTiles = createRandomBoard(seed);
+            final VirtualBoard virtualBoard = createVirtualBoard();
+            final List<String> words = scanWords(() -> virtualBoardService.scanWords(DEFAULT_GAME_ID, virtualBoard,
+                    placedTiles, boardScanFlags));
+
+            assertThat("seed " + seed, words, equalTo(fullScanWords));
+            assertThat("seed " + seed, virtualBoard.getCells(), equalTo(fullScanBoard.getCells()));
+        }
+    }
+
+    @Test
+    void test_scan_placed_tiles_with_existing_words() {
+        createBoardMatrix();
+
+        // the word WEAK is an existing word in the board
+        createExistingHorizontalWord(8, 7, "WEAK");
+
+        // the word (W)EAK will be linked to the W letter
+        locateNewVerticalWord(9, 7, "EAK");
+
+        final List<VirtualTile> placedTiles = List.of(
+                VirtualTile.builder().rowNumber(9).columnNumber(7).letter("E").sealed(true).build(),
+                VirtualTile.builder().rowNumber(10).columnNumber(7).letter("A").sealed(true).build(),
+                VirtualTile.builder().rowNumber(11).columnNumber(7).letter("K").sealed(true).build());
+
+        final List<ConstructedWord> newWords = virtualBoardService.scanWords(DEFAULT_GAME_ID, createVirtualBoard(),
+                placedTiles, Set.of(SCAN_EXISTING_WORDS, LOG_NEW_LETTERS, LOG_NEW_WORDS));
+
+        final List<String> words = newWords.stream()
+                .map(newWord -> newWord.getBuilder().toString())
+                .collect(Collectors.toList());
+
+        // the existing words are not in the lines of the placed tiles only
+        assertThat(words.stream().filter(word -> word.equals("WEAK")).count(), equalTo(2L));
+    }
+
+    private List<String> scanWords(Supplier<List<ConstructedWord>> scanner) {
+        try {
+            return scanner.get()
+                    .stream()
+                    .map(word -> word.getDirection() + " " + word.getBuilder() + " " + word.isLinked() + " "
+                            + word.getCells().stream().map(VirtualCell::getCellNumber).collect(Collectors.toList()))
+                    .collect(Collectors.toList());
+        } catch (GameException e) {
+            return List.of(e.getCode() + " " + e.getMessage());
+        }
+    }
+
+    /*
+     * Creates a board with random existing words and random placed tiles, the same seed creates the same board
+     */
+    private List<VirtualTile> createRandomBoard(long seed) {
+        final Random random = new Random(seed);
+        createBoardMatrix();
+
+        final int existingWordCount = random.nextInt(6);
+        for (int index = 0; index < existingWordCount; index++) {
+            final String word = createRandomWord(random, 2 + random.nextInt(5));
+            final int rowNumber = 1 + random.nextInt(BOARD_SIZE);
+            final int columnNumber = 1 + random.nextInt(BOARD_SIZE - word.length() + 1);
+            if (random.nextBoolean()) {
+                createExistingHorizontalWord(rowNumber, columnNumber, word);
+            } else {
+                createExistingVerticalWord(columnNumber, rowNumber, word);
+            }
+        }
+
+        final List<VirtualCell> placedCells = new ArrayList<>();
+        if (random.nextInt(5) == 0) {
+            // scattered tiles
+            final int tileCount = 1 + random.nextInt(4);
+            for (int index = 0; index < tileCount; index++) {
+                placedCells.add(boardMatrix[random.nextInt(BOARD_SIZE)][random.nextInt(BOARD_SIZE)]);
+            }
+        } else {
+            // tiles in a row or a column, the occupied cells are skipped
+            final boolean horizontal = random.nextBoolean();
+            // half of the lines go through the center to have linked words
+            final int index = random.nextBoolean() ? BOARD_SIZE / 2 : random.nextInt(BOARD_SIZE);
+            final int tileCount = 1 + random.nextInt(7);
+            for (int oppositeIndex = random.nextInt(BOARD_SIZE); oppositeIndex < BOARD_SIZE
+                    && placedCells.size() < tileCount; oppositeIndex++) {
+                placedCells.add(horizontal ? boardMatrix[index][oppositeIndex] : boardMatrix[oppositeIndex][index]);
+            }
+        }
+
+        return placedCells.stream().filter(cell -> cell.getLetter() == null).map(cell -> {
+            cell.setLetter(createRandomWord(random, 1));
+            cell.setSealed(false);
+            return VirtualTile.builder()
+                    .rowNumber(cell.getRowNumber())
+                    .columnNumber(cell.getColumnNumber())
+                    .letter(cell.getLetter())
+                    .sealed(true)
+                    .build();
+        }).collect(Collectors.toList());
+    }
+
+    private String createRandomWord(Random random, int length) {
+        final StringBuilder builder = new StringBuilder(length);
+        for (int index = 0; index < length; index++) {
+            builder.append((char) ('A' + random.nextInt(26)));
+        }
+        return builder.toString();
+    }
+
     private VirtualBoard createVirtualBoard() {
         return new VirtualBoard(Arrays.stream(boardMatrix).flatMap(Arrays::stream).collect(Collectors.toList()));
     }
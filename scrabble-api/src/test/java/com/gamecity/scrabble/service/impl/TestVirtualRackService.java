@@ -13,7 +13,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import com.gamecity.scrabble.Constants;
+import com.gamecity.scrabble.dao.GameArchiveDao;
 import com.gamecity.scrabble.dao.RedisRepository;
+import com.gamecity.scrabble.entity.GameArchive;
 import com.gamecity.scrabble.entity.Language;
 import com.gamecity.scrabble.entity.Tile;
 import com.gamecity.scrabble.model.VirtualRack;
@@ -33,11 +35,15 @@ class TestVirtualRackService extends AbstractServiceTest {
     @Mock
     private VirtualBagService virtualBagService;
 
+    @Mock
+    private GameArchiveDao gameArchiveDao;
+
     @Mock
     private RedisRepository redisRepository;
 
     @InjectMocks
-    private VirtualRackService virtualRackService = new VirtualRackServiceImpl(virtualBagService, redisRepository);
+    private VirtualRackService virtualRackService = new VirtualRackServiceImpl(virtualBagService, gameArchiveDao,
+            redisRepository);
 
     @Test
     @SuppressWarnings("unchecked")
@@ -214,6 +220,33 @@ class TestVirtualRackService extends AbstractServiceTest {
         assertThat(rack.getValue().getTiles().size(), equalTo(4));
     }
 
+    @Test
+    void test_refill_rack_without_storing() {
+        final List<Tile> tiles = new ArrayList<>();
+
+        // 4 tiles available
+        tiles.add(Tile.builder().count(1).letter("A").build());
+        tiles.add(Tile.builder().count(1).letter("B").build());
+        tiles.add(Tile.builder().count(1).letter("C").build());
+        tiles.add(Tile.builder().count(1).letter("D").build());
+
+        final VirtualRack virtualRack = createVirtualRack(DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER, "ABCDEFG");
+
+        virtualRack.getTiles().get(0).setSealed(true); // A
+        virtualRack.getTiles().get(2).setSealed(true); // C
+
+        final VirtualRack filledRack = virtualRackService.refillRack(DEFAULT_GAME_ID, Language.en,
+                DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER + 1, virtualRack, tiles);
+
+        // used 2 tiles, now 2 tiles available
+        assertThat(tiles.stream().mapToInt(Tile::getCount).sum(), equalTo(2));
+        assertThat(filledRack.getTiles().size(), equalTo(Constants.Game.RACK_SIZE));
+        assertThat(filledRack.getTiles().get(0).getRoundNumber(), equalTo(DEFAULT_ROUND_NUMBER + 1));
+        assertThat(filledRack.getTiles().get(0).isSealed(), equalTo(false));
+
+        verifyNoInteractions(virtualBagService, redisRepository);
+    }
+
     @Test
     void test_validate_played_rack() {
         final VirtualRack virtualRack = createVirtualRack(DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER, "ABCDEFG");
@@ -262,6 +295,31 @@ class TestVirtualRackService extends AbstractServiceTest {
         }
     }
 
+    @Test
+    void test_get_rack_from_archive() {
+        final VirtualRack virtualRack = createVirtualRack(DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER, "ABCDEFG");
+        final GameArchive gameArchive = GameArchive.builder().gameId(DEFAULT_GAME_ID).boardVersion(2).build();
+
+        when(redisRepository.getRack(DEFAULT_GAME_ID, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER)).thenReturn(null);
+        when(gameArchiveDao.getByGameId(DEFAULT_GAME_ID)).thenReturn(gameArchive);
+        when(redisRepository.getArchivedRack(gameArchive, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER))
+                .thenReturn(virtualRack);
+
+        assertThat(virtualRackService.getRack(DEFAULT_GAME_ID, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER),
+                equalTo(virtualRack));
+    }
+
+    @Test
+    void test_get_rack_of_a_game_without_archive() {
+        when(redisRepository.getRack(DEFAULT_GAME_ID, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER)).thenReturn(null);
+        when(gameArchiveDao.getByGameId(DEFAULT_GAME_ID)).thenReturn(null);
+
+        assertThat(virtualRackService.getRack(DEFAULT_GAME_ID, DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER),
+                nullValue());
+
+        verify(redisRepository, never()).getArchivedRack(any(), any(), any());
+    }
+
     @Test
     void test_update_rack() {
         final VirtualRack virtualRack = createVirtualRack(DEFAULT_PLAYER_NUMBER, DEFAULT_ROUND_NUMBER, "ABCDEFG");
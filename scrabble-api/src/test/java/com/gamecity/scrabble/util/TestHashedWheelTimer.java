@@ -0,0 +1,141 @@
+package com.gamecity.scrabble.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestHashedWheelTimer {
+
+    private static final int TIMER_COUNT = 50_000;
+    private static final int SCHEDULER_THREAD_COUNT = 8;
+
+    private ExecutorService executor;
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void beforeEach() {
+        executor = Executors.newFixedThreadPool(4);
+        timer = new HashedWheelTimer("test-timer", 10, TimeUnit.MILLISECONDS, 64, executor);
+    }
+
+    @AfterEach
+    void afterEach() {
+        timer.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void test_schedule_concurrent_timers() throws InterruptedException {
+        final AtomicInteger expiredCount = new AtomicInteger();
+        final AtomicInteger cancelledCount = new AtomicInteger();
+        final CountDownLatch expiredLatch = new CountDownLatch(TIMER_COUNT / 2);
+        final CountDownLatch scheduledLatch = new CountDownLatch(SCHEDULER_THREAD_COUNT);
+
+        // the delays are longer than a turn of the wheel, so some of the timers stay for more than a round
+        final List<Thread> threads = new ArrayList<>();
+        for (int threadNumber = 0; threadNumber < SCHEDULER_THREAD_COUNT; threadNumber++) {
+            final Random random = new Random(threadNumber);
+            threads.add(new Thread(() -> {
+                for (int index = 0; index < TIMER_COUNT / SCHEDULER_THREAD_COUNT; index++) {
+                    final HashedWheelTimer.Timeout timeout = timer.schedule(() -> {
+                        expiredCount.incrementAndGet();
+                        expiredLatch.countDown();
+                    }, random.nextInt(1000), TimeUnit.MILLISECONDS);
+
+                    if (index % 2 == 1 && timeout.cancel()) {
+                        cancelledCount.incrementAndGet();
+                    }
+                }
+                scheduledLatch.countDown();
+            }));
+        }
+        threads.forEach(Thread::start);
+
+        assertThat(scheduledLatch.await(10, TimeUnit.SECONDS), equalTo(true));
+
+        // a timer with a short delay may expire before it is cancelled
+        final int expectedExpiredCount = TIMER_COUNT - cancelledCount.get();
+
+        assertThat(cancelledCount.get(), greaterThan(TIMER_COUNT / 2 - 1000));
+        assertThat(expiredLatch.await(10, TimeUnit.SECONDS), equalTo(true));
+
+        final long endTime = System.currentTimeMillis() + 5000;
+        while (expiredCount.get() < expectedExpiredCount && System.currentTimeMillis() < endTime) {
+            Thread.sleep(10);
+        }
+
+        assertThat(expiredCount.get(), equalTo(expectedExpiredCount));
+        assertThat(timer.getPendingCount(), equalTo(0L));
+    }
+
+    @Test
+    void test_cancel_timer() throws InterruptedException {
+        final AtomicInteger expiredCount = new AtomicInteger();
+
+        final HashedWheelTimer.Timeout timeout = timer.schedule(expiredCount::incrementAndGet, 50,
+                TimeUnit.MILLISECONDS);
+
+        assertThat(timer.getPendingCount(), equalTo(1L));
+        assertThat(timeout.cancel(), equalTo(true));
+        assertThat(timeout.cancel(), equalTo(false));
+
+        Thread.sleep(200);
+
+        assertThat(timeout.isCancelled(), equalTo(true));
+        assertThat(timeout.isExpired(), equalTo(false));
+        assertThat(expiredCount.get(), equalTo(0));
+        assertThat(timer.getPendingCount(), equalTo(0L));
+    }
+
+    @Test
+    void test_timer_expires_after_delay() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final long startTime = System.nanoTime();
+
+        final HashedWheelTimer.Timeout timeout = timer.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS), equalTo(true));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), greaterThanOrEqualTo(100L));
+        assertThat(timeout.isExpired(), equalTo(true));
+        assertThat(timeout.cancel(), equalTo(false));
+    }
+
+    @Test
+    void test_create_timer_with_invalid_tick_duration() {
+        try {
+            new HashedWheelTimer("test-timer", 0, TimeUnit.MILLISECONDS, 64, executor);
+
+            fail("The timer is created with an invalid tick duration");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), equalTo("The tick duration and the wheel size should be positive"));
+        }
+    }
+
+    @Test
+    void test_schedule_stopped_timer() {
+        timer.stop();
+
+        try {
+            timer.schedule(() -> {
+            }, 10, TimeUnit.MILLISECONDS);
+
+            fail("The task is scheduled on a stopped timer");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), equalTo("The timer is stopped"));
+        }
+    }
+
+}
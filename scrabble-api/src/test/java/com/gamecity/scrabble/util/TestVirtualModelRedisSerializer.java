@@ -0,0 +1,124 @@
+package com.gamecity.scrabble.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.gamecity.scrabble.entity.Cell;
+import com.gamecity.scrabble.model.VirtualBoard;
+import com.gamecity.scrabble.model.VirtualBoardDelta;
+import com.gamecity.scrabble.model.VirtualRack;
+import com.gamecity.scrabble.model.VirtualTile;
+import com.gamecity.scrabble.model.rest.ChatDto;
+import com.gamecity.scrabble.service.impl.AbstractBoardTest;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestVirtualModelRedisSerializer extends AbstractBoardTest {
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private VirtualModelRedisSerializer serializer;
+
+    @BeforeEach
+    void beforeEach() {
+        createBoardMatrix();
+
+        final List<Cell> cells = createCells();
+
+        jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        serializer = new VirtualModelRedisSerializer(jsonSerializer, () -> cells);
+    }
+
+    @Test
+    void test_serialize_checkpoint() {
+        createExistingHorizontalWord(8, 7, "WEAK");
+        boardMatrix[8 - 1][7 - 1].setRoundNumber(1);
+        boardMatrix[8 - 1][7 - 1].setLastPlayed(true);
+
+        final VirtualBoard virtualBoard = createVirtualBoard();
+        final VirtualBoardDelta checkpoint = VirtualBoardDelta.checkpoint(virtualBoard, 2);
+
+        final byte[] bytes = serializer.serialize(checkpoint);
+        final VirtualBoardDelta deserializedCheckpoint = (VirtualBoardDelta) serializer.deserialize(bytes);
+
+        assertThat(deserializedCheckpoint, equalTo(checkpoint));
+        assertThat(bytes.length, lessThan(jsonSerializer.serialize(checkpoint).length / 100));
+    }
+
+    @Test
+    void test_serialize_delta() {
+        final VirtualBoard virtualBoard = createVirtualBoard();
+        virtualBoard.markVersion(1);
+        virtualBoard.getCell(8, 8).setLetter("\u00C7");
+        virtualBoard.getCell(8, 8).setValue(4);
+        virtualBoard.getCell(8, 8).setSealed(true);
+
+        final VirtualBoardDelta delta = VirtualBoardDelta.of(virtualBoard);
+        final VirtualBoardDelta deserializedDelta = (VirtualBoardDelta) serializer.deserialize(
+                serializer.serialize(delta));
+
+        assertThat(deserializedDelta.isCheckpoint(), equalTo(false));
+        assertThat(deserializedDelta.getVersion(), nullValue());
+        assertThat(deserializedDelta.getCells(), equalTo(delta.getCells()));
+    }
+
+    @Test
+    void test_serialize_rack() {
+        final List<VirtualTile> tiles = new ArrayList<>();
+        tiles.add(VirtualTile.builder().number(1).letter("A").value(1).vowel(true).playerNumber(2).roundNumber(3)
+                .build());
+        tiles.add(VirtualTile.builder().number(2).letter("K").value(5).playerNumber(2).roundNumber(3).rowNumber(8)
+                .columnNumber(15).sealed(true).build());
+        tiles.add(VirtualTile.builder().number(3).letter("E").value(1).exchanged(true).build());
+        tiles.add(null);
+        final VirtualRack rack = new VirtualRack(tiles);
+
+        assertThat(serializer.deserialize(serializer.serialize(rack)), equalTo(rack));
+    }
+
+    @Test
+    void test_serialize_other_values_as_json() {
+        final ChatDto chatDto = ChatDto.builder().gameId(1L).message("message").build();
+
+        final byte[] bytes = serializer.serialize(chatDto);
+
+        assertThat(bytes, equalTo(jsonSerializer.serialize(chatDto)));
+        assertThat(serializer.deserialize(bytes), equalTo(chatDto));
+    }
+
+    @Test
+    void test_deserialize_json_board() {
+        final VirtualBoard virtualBoard = createVirtualBoard();
+        final VirtualBoardDelta checkpoint = VirtualBoardDelta.checkpoint(virtualBoard);
+
+        assertThat(serializer.deserialize(jsonSerializer.serialize(virtualBoard)), instanceOf(VirtualBoard.class));
+        assertThat(serializer.deserialize(jsonSerializer.serialize(checkpoint)), equalTo(checkpoint));
+    }
+
+    @Test
+    void test_deserialize_unsupported_schema_version() {
+        final byte[] bytes = serializer.serialize(new VirtualRack(new ArrayList<>()));
+        bytes[1] = 2;
+
+        try {
+            serializer.deserialize(bytes);
+
+            fail("The value is deserialized with an unsupported schema version");
+        } catch (SerializationException e) {
+            assertThat(e.getMessage(), equalTo("The schema version 2 is not supported"));
+        }
+    }
+
+    private VirtualBoard createVirtualBoard() {
+        return new VirtualBoard(Arrays.stream(boardMatrix).flatMap(Arrays::stream).collect(Collectors.toList()));
+    }
+
+}
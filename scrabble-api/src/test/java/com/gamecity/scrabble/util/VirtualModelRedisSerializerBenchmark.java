@@ -0,0 +1,146 @@
+package com.gamecity.scrabble.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.gamecity.scrabble.entity.Cell;
+import com.gamecity.scrabble.model.VirtualBoard;
+import com.gamecity.scrabble.model.VirtualBoardDelta;
+import com.gamecity.scrabble.model.VirtualCell;
+import com.gamecity.scrabble.model.VirtualRack;
+import com.gamecity.scrabble.model.VirtualTile;
+import com.gamecity.scrabble.service.impl.AbstractBoardTest;
+
+/**
+ * Compares the JSON and the binary format of the board history entries and the racks in Redis. The
+ * checkpoint is a board with 80 letters, the delta has the 7 letters of a move and the 7 cells of the
+ * previous move. The benchmark is not a part of the test suite, it is run from the scrabble-api directory
+ * after the test classes are compiled
+ *
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *      com.gamecity.scrabble.util.VirtualModelRedisSerializerBenchmark
+ * </pre>
+ *
+ * @author ekarakus
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualModelRedisSerializerBenchmark extends AbstractBoardTest {
+
+    private static final int LETTER_COUNT = 80;
+
+    @Param({ "json", "binary" })
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+    private VirtualBoardDelta checkpoint;
+    private VirtualBoardDelta delta;
+    private VirtualRack rack;
+    private byte[] serializedCheckpoint;
+    private byte[] serializedDelta;
+    private byte[] serializedRack;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        createBoardMatrix();
+
+        final List<Cell> cells = createCells();
+
+        final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        serializer = "json".equals(format) ? jsonSerializer
+                : new VirtualModelRedisSerializer(jsonSerializer, () -> cells);
+
+        final VirtualBoard board = new VirtualBoard(
+                Arrays.stream(boardMatrix).flatMap(Arrays::stream).collect(Collectors.toList()));
+        final Random random = new Random(1);
+        for (int index = 0; index < LETTER_COUNT; index++) {
+            final VirtualCell cell = board.getCells().get(random.nextInt(board.getCells().size()));
+            cell.setLetter(String.valueOf((char) ('A' + random.nextInt(26))));
+            cell.setValue(TILE_MAP.get(cell.getLetter()).getValue());
+            cell.setRoundNumber(index / 7 + 1);
+            cell.setSealed(true);
+        }
+        checkpoint = VirtualBoardDelta.checkpoint(board, LETTER_COUNT / 7);
+
+        final List<VirtualCell> changedCells = board.getCells().stream().filter(cell -> cell.getLetter() != null)
+                .limit(14).collect(Collectors.toList());
+        changedCells.stream().limit(7).forEach(cell -> cell.setLastPlayed(true));
+        delta = new VirtualBoardDelta(false, changedCells, null);
+
+        final List<VirtualTile> tiles = new ArrayList<>();
+        for (int tileNumber = 1; tileNumber <= 7; tileNumber++) {
+            tiles.add(VirtualTile.builder().number(tileNumber).letter("E").value(1).vowel(true).playerNumber(1)
+                    .roundNumber(LETTER_COUNT / 7).build());
+        }
+        rack = new VirtualRack(tiles);
+
+        serializedCheckpoint = serializer.serialize(checkpoint);
+        serializedDelta = serializer.serialize(delta);
+        serializedRack = serializer.serialize(rack);
+    }
+
+    @Benchmark
+    public void serialize_checkpoint(Blackhole blackhole) {
+        blackhole.consume(serializer.serialize(checkpoint));
+    }
+
+    @Benchmark
+    public void deserialize_checkpoint(Blackhole blackhole) {
+        blackhole.consume(serializer.deserialize(serializedCheckpoint));
+    }
+
+    @Benchmark
+    public void serialize_delta(Blackhole blackhole) {
+        blackhole.consume(serializer.serialize(delta));
+    }
+
+    @Benchmark
+    public void deserialize_delta(Blackhole blackhole) {
+        blackhole.consume(serializer.deserialize(serializedDelta));
+    }
+
+    @Benchmark
+    public void serialize_rack(Blackhole blackhole) {
+        blackhole.consume(serializer.serialize(rack));
+    }
+
+    @Benchmark
+    public void deserialize_rack(Blackhole blackhole) {
+        blackhole.consume(serializer.deserialize(serializedRack));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VirtualModelRedisSerializerBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+
+}
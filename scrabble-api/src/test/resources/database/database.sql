@@ -4,6 +4,7 @@ DROP TABLE IF EXISTS cells CASCADE;
 DROP TABLE IF EXISTS chats CASCADE;
 DROP TABLE IF EXISTS players CASCADE;
 DROP TABLE IF EXISTS words CASCADE;
+DROP TABLE IF EXISTS game_archives CASCADE;
 DROP TABLE IF EXISTS games CASCADE;
 DROP TABLE IF EXISTS tiles CASCADE;
 DROP TABLE IF EXISTS user_roles CASCADE;
@@ -21,6 +22,7 @@ CREATE TABLE actions (
   type varchar(255) not null,
   user_id bigint not null,
   version integer not null,
+  board_version integer,
   primary key (id)
 );
 CREATE TABLE bags (
@@ -59,6 +61,16 @@ CREATE TABLE chats (
   user_id bigint not null,
   primary key (id)
 );
+CREATE TABLE game_archives (
+  id bigint generated by default as identity,
+  created_date datetime default now() not null,
+  last_updated_date datetime default now() not null,
+  game_id bigint not null,
+  board_version integer not null,
+  board varbinary not null,
+  history varbinary not null,
+  primary key (id)
+);
 CREATE TABLE games (
   id bigint generated by default as identity,
   created_date datetime default now() not null,
@@ -75,6 +87,7 @@ CREATE TABLE games (
   round_number integer,
   start_date timestamp,
   status varchar(255) not null,
+  turn_deadline timestamp,
   type varchar(255) not null,
   version integer not null,
   primary key (id)
@@ -139,6 +152,8 @@ CREATE TABLE words (
   definition varchar(1023),
   primary key (id)
 );
+ALTER TABLE game_archives add constraint UK_GAME_ARCHIVE_GAME unique (game_id);
 ALTER TABLE user_roles add constraint UK_USER_ROLE unique (user_id, role, enabled);
 ALTER TABLE users add constraint UK_USER_NAME unique (username);
-ALTER TABLE users add constraint UK_USER_EMAIL unique (email);
\ No newline at end of file
+ALTER TABLE users add constraint UK_USER_EMAIL unique (email);
+CREATE INDEX IDX_GAME_TURN_DEADLINE ON games (status, turn_deadline);
\ No newline at end of file
@@ -23,7 +23,6 @@ import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSeriali
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import com.gamecity.scrabble.controller.ActionController;
 import com.gamecity.scrabble.controller.ChatController;
 
 /**
@@ -37,7 +36,6 @@ public class RedisConfig implements CachingConfigurer {
 
     private static final Integer MAX_SUBSCRIPTION_REGISTRATION_MILLISECONDS = 300000;
     private static final Integer TTL_SECONDS = 3600;
-    private static final String ACTION = "ACTION";
     private static final String CHATS = "CHATS";
 
     @Value("${redis.host}")
@@ -55,9 +53,6 @@ public class RedisConfig implements CachingConfigurer {
     @Value("${redis.use.ssl}")
     private boolean useSsl;
 
-    @Autowired
-    private ActionController actionController;
-
     @Autowired
     private ChatController chatController;
 
@@ -109,7 +104,7 @@ public class RedisConfig implements CachingConfigurer {
         final RedisMessageListenerContainer messageListenerContainer = new RedisMessageListenerContainer();
         messageListenerContainer.setConnectionFactory(connectionFactory);
         messageListenerContainer.setMaxSubscriptionRegistrationWaitingTime(MAX_SUBSCRIPTION_REGISTRATION_MILLISECONDS);
-        messageListenerContainer.addMessageListener(actionController, new PatternTopic(ACTION));
+        // the channels of the games are subscribed by the action controller while the actions are awaited
         messageListenerContainer.addMessageListener(chatController, new PatternTopic(CHATS));
         return messageListenerContainer;
     }
@@ -3,6 +3,7 @@ package com.gamecity.scrabble.controller;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -57,6 +58,21 @@ abstract class AbstractController {
         return restService.list(resource, clazz, params);
     }
 
+    /**
+     * Calls a get resource with the If-None-Match header
+     * 
+     * @param <T>         type of the dto
+     * @param resource    rest resource to call
+     * @param clazz       dto class to return
+     * @param ifNoneMatch if none match header
+     * @param params      rest resource parameters
+     * @return the dto with its tag, or not modified without a body
+     */
+    protected <T extends AbstractDto> ResponseEntity<T> getConditionally(String resource, Class<T> clazz,
+                                                                         String ifNoneMatch, Object... params) {
+        return restService.getConditionally(resource, clazz, ifNoneMatch, params);
+    }
+
     /**
      * Calls a post resource
      * 
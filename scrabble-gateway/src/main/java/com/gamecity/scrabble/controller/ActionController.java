@@ -1,14 +1,17 @@
 package com.gamecity.scrabble.controller;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
-import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,8 +22,11 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.async.DeferredResult;
 
 import com.gamecity.scrabble.model.rest.ActionDto;
+import com.gamecity.scrabble.util.ChannelSubscriptions;
 import com.gamecity.scrabble.util.JsonUtils;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -34,8 +40,32 @@ import lombok.extern.slf4j.Slf4j;
 public class ActionController extends AbstractController implements MessageListener {
 
     private static final String API_RESOURCE_PATH = "/games/{gameId}/actions";
+    private static final String ACTION = "ACTION";
 
-    private final Map<DeferredResult<ActionDto>, Pair<Long, Integer>> actions = new ConcurrentHashMap<>();
+    // the waiting requests of a game leave and come back together on every action, the channel stays subscribed
+    private static final long UNSUBSCRIBE_GRACE_PERIOD = 10 * 1000L;
+
+    // the waiting requests by game and version, a game is subscribed while a request is waiting for its actions
+    private final Map<Long, Map<Integer, Set<DeferredResult<ActionDto>>>> actions = new ConcurrentHashMap<>();
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private ChannelSubscriptions subscriptions;
+
+    @PostConstruct
+    void init() {
+        subscriptions = new ChannelSubscriptions("action-channel-unsubscriber", redisMessageListenerContainer, this,
+                UNSUBSCRIBE_GRACE_PERIOD);
+    }
+
+    @PreDestroy
+    void destroy() {
+        subscriptions.stop();
+    }
 
     /**
      * Gets the {@link List list} of {@link ActionDto actions}
@@ -62,18 +92,24 @@ public class ActionController extends AbstractController implements MessageListe
 
         final DeferredResult<ActionDto> deferredResult =
                 new DeferredResult<>(ASYNCHRONOUS_REQUEST_DURATION, Collections.emptyList());
-        actions.put(deferredResult, Pair.of(gameId, version));
+        register(gameId, version, deferredResult);
 
         deferredResult.onCompletion(new Runnable() {
             @Override
             public void run() {
-                actions.remove(deferredResult);
+                unregister(gameId, version, deferredResult);
             }
         });
 
-        final ActionDto actionDto = get(API_RESOURCE_PATH + "/{version}", ActionDto.class, gameId, version);
-        if (actionDto != null) {
-            deferredResult.setResult(actionDto);
+        try {
+            final ActionDto actionDto = get(API_RESOURCE_PATH + "/{version}", ActionDto.class, gameId, version);
+            if (actionDto != null) {
+                deferredResult.setResult(actionDto);
+            }
+        } catch (RuntimeException e) {
+            // the deferred result is not returned, so it is never completed and it is removed here
+            unregister(gameId, version, deferredResult);
+            throw e;
         }
 
         return deferredResult;
@@ -81,18 +117,59 @@ public class ActionController extends AbstractController implements MessageListe
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
-        final ActionDto actionDto = JsonUtils.toDto(JsonUtils.formatRedisPayload(message.toString()), ActionDto.class);
-
         try {
-            for (Entry<DeferredResult<ActionDto>, Pair<Long, Integer>> entry : actions.entrySet()) {
-                if (entry.getValue().getRight().equals(actionDto.getVersion())
-                        && entry.getValue().getLeft().equals(actionDto.getGameId())) {
-                    entry.getKey().setResult(actionDto);
-                }
+            final String payload = (String) redisTemplate.getValueSerializer().deserialize(message.getBody());
+            final ActionDto actionDto = JsonUtils.toDto(payload, ActionDto.class);
+            if (actionDto == null) {
+                return;
             }
+
+            // the waiting requests of the version are taken out at once, a request of the version waiting after
+            // this point finds the action in the api
+            final List<DeferredResult<ActionDto>> deferredResults = new ArrayList<>();
+            actions.computeIfPresent(actionDto.getGameId(), (gameId, versions) -> {
+                final Set<DeferredResult<ActionDto>> waitingResults = versions.remove(actionDto.getVersion());
+                if (waitingResults != null) {
+                    deferredResults.addAll(waitingResults);
+                }
+                return versions;
+            });
+
+            deferredResults.forEach(deferredResult -> deferredResult.setResult(actionDto));
         } catch (Exception e) {
             log.error("Exception : {} {}", e.getMessage(), e);
         }
     }
 
+    /*
+     * Adds the waiting request, the channel of the game is subscribed before the request waits
+     */
+    private void register(Long gameId, Integer version, DeferredResult<ActionDto> deferredResult) {
+        subscriptions.subscribe(getChannel(gameId));
+        actions.compute(gameId, (id, versions) -> {
+            final Map<Integer, Set<DeferredResult<ActionDto>>> gameVersions =
+                    versions == null ? new ConcurrentHashMap<>() : versions;
+            gameVersions.computeIfAbsent(version, key -> ConcurrentHashMap.newKeySet()).add(deferredResult);
+            return gameVersions;
+        });
+    }
+
+    /*
+     * Removes the completed request, the channel of the game is unsubscribed a while after no request is waiting
+     */
+    private void unregister(Long gameId, Integer version, DeferredResult<ActionDto> deferredResult) {
+        actions.computeIfPresent(gameId, (id, versions) -> {
+            versions.computeIfPresent(version, (key, deferredResults) -> {
+                deferredResults.remove(deferredResult);
+                return deferredResults.isEmpty() ? null : deferredResults;
+            });
+            return versions.isEmpty() ? null : versions;
+        });
+        subscriptions.unsubscribe(getChannel(gameId));
+    }
+
+    private static String getChannel(Long gameId) {
+        return ACTION + ":" + gameId;
+    }
+
 }
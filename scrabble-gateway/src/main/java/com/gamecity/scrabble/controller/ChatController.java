@@ -1,9 +1,11 @@
 package com.gamecity.scrabble.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.redis.connection.Message;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.async.DeferredResult;
 
 import com.gamecity.scrabble.model.rest.ChatDto;
+import com.gamecity.scrabble.util.JsonUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,7 +37,8 @@ public class ChatController extends AbstractController implements MessageListene
 
     private static final String API_RESOURCE_PATH = "/games/{gameId}/chats";
 
-    private final Map<DeferredResult<List<ChatDto>>, Long> chats = new ConcurrentHashMap<>();
+    // the waiting requests by game, the published messages are delivered without reading the chats again
+    private final Map<Long, Set<ChatWaiter>> chats = new ConcurrentHashMap<>();
 
     /**
      * Sends a {@link ChatDto chat} message
@@ -66,19 +70,22 @@ public class ChatController extends AbstractController implements MessageListene
 
         final DeferredResult<List<ChatDto>> deferredResult =
                 new DeferredResult<>(ASYNCHRONOUS_REQUEST_DURATION, Collections.emptyList());
-        chats.put(deferredResult, gameId);
+        final ChatWaiter chatWaiter = new ChatWaiter(deferredResult, messageCount);
+        chats.computeIfAbsent(gameId, key -> ConcurrentHashMap.newKeySet()).add(chatWaiter);
 
         deferredResult.onCompletion(new Runnable() {
             @Override
             public void run() {
-                chats.remove(deferredResult);
+                chats.computeIfPresent(gameId, (key, chatWaiters) -> {
+                    chatWaiters.remove(chatWaiter);
+                    return chatWaiters.isEmpty() ? null : chatWaiters;
+                });
             }
         });
 
-        final List<ChatDto> chats = list(API_RESOURCE_PATH, ChatDto.class, gameId);
-        if (chats != null && chats.size() > messageCount) {
-            deferredResult.setResult(chats);
-        }
+        // the messages published while the chats are read are added to the chats
+        final List<ChatDto> messages = list(API_RESOURCE_PATH, ChatDto.class, gameId);
+        chatWaiter.load(messages == null ? Collections.emptyList() : messages);
 
         return deferredResult;
     }
@@ -86,15 +93,68 @@ public class ChatController extends AbstractController implements MessageListene
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            for (Entry<DeferredResult<List<ChatDto>>, Long> entry : chats.entrySet()) {
-                final List<ChatDto> messages = list(API_RESOURCE_PATH, ChatDto.class, entry.getValue());
-                if (messages != null) {
-                    entry.getKey().setResult(messages);
-                }
+            final ChatDto chatDto =
+                    JsonUtils.toDto(new String(message.getBody(), StandardCharsets.UTF_8), ChatDto.class);
+            if (chatDto == null) {
+                return;
+            }
+
+            final Set<ChatWaiter> chatWaiters = chats.get(chatDto.getGameId());
+            if (chatWaiters != null) {
+                chatWaiters.forEach(chatWaiter -> chatWaiter.add(chatDto));
             }
         } catch (Exception e) {
             log.error("Exception : {} {}", e.getMessage(), e);
         }
     }
 
+    /*
+     * A request waiting for the new messages of a game. The published messages are kept until the chats of
+     * the game are read, so a message published in the meantime is neither lost nor duplicated.
+     */
+    private static final class ChatWaiter {
+
+        private final DeferredResult<List<ChatDto>> deferredResult;
+        private final Integer messageCount;
+        private final List<ChatDto> publishedChats = new ArrayList<>();
+        private List<ChatDto> chats;
+
+        private ChatWaiter(final DeferredResult<List<ChatDto>> deferredResult, final Integer messageCount) {
+            this.deferredResult = deferredResult;
+            this.messageCount = messageCount;
+        }
+
+        private synchronized void load(List<ChatDto> chats) {
+            this.chats = new ArrayList<>(chats);
+            publishedChats.forEach(this::append);
+            publishedChats.clear();
+            complete();
+        }
+
+        private synchronized void add(ChatDto chatDto) {
+            if (deferredResult.isSetOrExpired()) {
+                return;
+            }
+            if (chats == null) {
+                publishedChats.add(chatDto);
+                return;
+            }
+            append(chatDto);
+            complete();
+        }
+
+        private void append(ChatDto chatDto) {
+            if (chats.stream().noneMatch(chat -> chat.getId().equals(chatDto.getId()))) {
+                chats.add(chatDto);
+            }
+        }
+
+        private void complete() {
+            if (chats.size() > messageCount) {
+                deferredResult.setResult(new ArrayList<>(chats));
+            }
+        }
+
+    }
+
 }
@@ -3,6 +3,8 @@ package com.gamecity.scrabble.controller;
 import java.util.Collections;
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -32,13 +35,22 @@ public class GameController extends AbstractController {
     /**
      * Gets a {@link GameDto game} by id
      * 
-     * @param id <code>id</code> of the game
-     * @return the game
+     * @param id          <code>id</code> of the game
+     * @param ifNoneMatch if none match header
+     * @return the game, or not modified if the game is not updated since the tag in If-None-Match
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Object> get(@PathVariable Long id) {
-        final GameDto gameDto = get(API_RESOURCE_PATH + "/{gameId}", GameDto.class, id);
-        return new ResponseEntity<>(gameDto, HttpStatus.OK);
+    public ResponseEntity<GameDto> get(@PathVariable Long id,
+                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+                                               required = false) String ifNoneMatch) {
+        final ResponseEntity<GameDto> response =
+                getConditionally(API_RESOURCE_PATH + "/{gameId}", GameDto.class, ifNoneMatch, id);
+
+        // the game is revalidated on every poll, the api answers with not modified until the game is updated
+        return ResponseEntity.status(response.getStatusCode())
+                .eTag(response.getHeaders().getETag())
+                .cacheControl(CacheControl.noCache())
+                .body(response.getBody());
     }
 
     /**
@@ -0,0 +1,279 @@
+package com.gamecity.scrabble.controller;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.gamecity.scrabble.model.rest.ActionDto;
+import com.gamecity.scrabble.model.rest.GameDto;
+import com.gamecity.scrabble.model.rest.GameEventDto;
+import com.gamecity.scrabble.model.rest.PlayerDto;
+import com.gamecity.scrabble.model.rest.VirtualBoardDto;
+import com.gamecity.scrabble.model.rest.VirtualRackDto;
+import com.gamecity.scrabble.util.ChannelSubscriptions;
+import com.gamecity.scrabble.util.JsonUtils;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link GameEventDto Game event} resources
+ * 
+ * @author ekarakus
+ */
+@RestController
+@RequestMapping("/rest/games/{gameId}/events")
+@Slf4j
+public class GameEventController extends AbstractController implements MessageListener {
+
+    private static final String GAME_RESOURCE_PATH = "/games/{gameId}";
+    private static final String ACTION_RESOURCE_PATH = "/games/{gameId}/actions";
+    private static final String BOARD_RESOURCE_PATH = "/games/{gameId}/boards?version={version}";
+    private static final String PLAYER_RESOURCE_PATH = "/games/{gameId}/players?version={version}";
+    private static final String RACK_RESOURCE_PATH = "/games/{gameId}/racks/users/{userId}?roundNumber={roundNumber}";
+
+    private static final String ACTION = "ACTION";
+    private static final String WAITING = "WAITING";
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+    private static final String EVENT_NAME = "action";
+    private static final long EVENT_STREAM_DURATION = 30 * 60 * 1000L;
+    private static final long UNSUBSCRIBE_GRACE_PERIOD = 10 * 1000L;
+    private static final int EVENT_THREAD_COUNT = 4;
+
+    // the open streams by game, a game is subscribed while a stream of the game is open
+    private final Map<Long, Set<GameEventStream>> streams = new ConcurrentHashMap<>();
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private ChannelSubscriptions subscriptions;
+
+    // the events are read from the api on these threads, so a slow read doesn't delay the redis listener
+    private ExecutorService eventExecutor;
+
+    @PostConstruct
+    void init() {
+        subscriptions = new ChannelSubscriptions("game-event-channel-unsubscriber", redisMessageListenerContainer,
+                this, UNSUBSCRIBE_GRACE_PERIOD);
+        eventExecutor = Executors.newFixedThreadPool(EVENT_THREAD_COUNT,
+                new ThreadFactoryBuilder().setNameFormat("game-event-%d").setDaemon(true).build());
+    }
+
+    @PreDestroy
+    void destroy() {
+        eventExecutor.shutdownNow();
+        subscriptions.stop();
+    }
+
+    /**
+     * Opens a stream of the {@link GameEventDto events} of a game. An event is sent after every action with the
+     * board, the players and the rack of the user, so the game is followed without polling the resources.
+     * 
+     * @param gameId  <code>id</code> of the game
+     * @param version the last version known by the client
+     * @return the event stream, or not found if the game is not found
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> getEvents(@PathVariable Long gameId, @RequestParam Integer version) {
+        final GameDto gameDto = get(GAME_RESOURCE_PATH, GameDto.class, gameId);
+        if (gameDto == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        final SseEmitter emitter = new SseEmitter(EVENT_STREAM_DURATION);
+        final GameEventStream stream = new GameEventStream(emitter, getUserId(), version);
+        register(gameId, stream);
+
+        emitter.onCompletion(() -> unregister(gameId, stream));
+        emitter.onTimeout(emitter::complete);
+
+        // the stream is registered before the actions are read, so an action is not missed in between, an action
+        // published in between is sent once as the stream drops the versions it has sent
+        try {
+            final List<ActionDto> actions = list(ACTION_RESOURCE_PATH, ActionDto.class, gameId);
+            if (actions != null && !actions.isEmpty()) {
+                send(gameId, actions.get(actions.size() - 1), Set.of(stream));
+            }
+        } catch (RuntimeException e) {
+            // the emitter is not returned, so it is never completed and the stream is removed here
+            unregister(gameId, stream);
+            throw e;
+        }
+
+        return ResponseEntity.ok(emitter);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            final String payload = (String) redisTemplate.getValueSerializer().deserialize(message.getBody());
+            final ActionDto actionDto = JsonUtils.toDto(payload, ActionDto.class);
+            if (actionDto == null) {
+                return;
+            }
+
+            final Set<GameEventStream> gameStreams = streams.get(actionDto.getGameId());
+            if (gameStreams != null && !gameStreams.isEmpty()) {
+                eventExecutor.execute(() -> {
+                    try {
+                        send(actionDto.getGameId(), actionDto, gameStreams);
+                    } catch (Exception e) {
+                        log.error("An error occured while sending the action {} of game {}", actionDto.getVersion(),
+                                actionDto.getGameId(), e);
+                    }
+                });
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("The action is not sent, the event executor is stopped");
+        } catch (Exception e) {
+            log.error("Exception : {} {}", e.getMessage(), e);
+        }
+    }
+
+    /*
+     * Sends the event of the action to the streams that haven't sent it, the board and the players are read once
+     * for all streams
+     */
+    private void send(Long gameId, ActionDto actionDto, Set<GameEventStream> gameStreams) {
+        if (gameStreams.stream().allMatch(stream -> stream.hasSent(actionDto.getVersion()))) {
+            return;
+        }
+
+        final List<PlayerDto> players = list(PLAYER_RESOURCE_PATH, PlayerDto.class, gameId, actionDto.getVersion());
+
+        VirtualBoardDto boardDto = null;
+        if (!WAITING.equals(actionDto.getGameStatus()) && actionDto.getBoardVersion() != null) {
+            boardDto = get(BOARD_RESOURCE_PATH, VirtualBoardDto.class, gameId, actionDto.getBoardVersion());
+        }
+
+        for (GameEventStream stream : gameStreams) {
+            if (stream.hasSent(actionDto.getVersion())) {
+                continue;
+            }
+            final GameEventDto gameEventDto = GameEventDto.builder()
+                    .action(actionDto)
+                    .board(boardDto)
+                    .players(players)
+                    .rack(getRack(gameId, actionDto, players, stream.userId))
+                    .build();
+            stream.send(actionDto.getVersion(), gameEventDto);
+        }
+    }
+
+    /*
+     * Gets the rack of the user in the round of the action, the rack is not sent if the game is not in progress
+     */
+    private VirtualRackDto getRack(Long gameId, ActionDto actionDto, List<PlayerDto> players, Long userId) {
+        if (!IN_PROGRESS.equals(actionDto.getGameStatus()) || players == null) {
+            return null;
+        }
+
+        final PlayerDto player =
+                players.stream().filter(playerDto -> userId.equals(playerDto.getUserId())).findFirst().orElse(null);
+        if (player == null) {
+            return null;
+        }
+
+        // the rack of a player who has played in the round is the rack of the next round
+        final Integer roundNumber = actionDto.getCurrentPlayerNumber() >= player.getPlayerNumber()
+                ? actionDto.getRoundNumber()
+                : Math.max(actionDto.getRoundNumber() - 1, 1);
+        return get(RACK_RESOURCE_PATH, VirtualRackDto.class, gameId, userId, roundNumber);
+    }
+
+    /*
+     * Adds the stream, the channel of the game is subscribed before the stream is added
+     */
+    private void register(Long gameId, GameEventStream stream) {
+        subscriptions.subscribe(getChannel(gameId));
+        streams.compute(gameId, (id, gameStreams) -> {
+            final Set<GameEventStream> registeredStreams =
+                    gameStreams == null ? ConcurrentHashMap.newKeySet() : gameStreams;
+            registeredStreams.add(stream);
+            return registeredStreams;
+        });
+    }
+
+    /*
+     * Removes the completed stream, the channel of the game is unsubscribed a while after no stream is open
+     */
+    private void unregister(Long gameId, GameEventStream stream) {
+        streams.computeIfPresent(gameId, (id, gameStreams) -> {
+            gameStreams.remove(stream);
+            return gameStreams.isEmpty() ? null : gameStreams;
+        });
+        subscriptions.unsubscribe(getChannel(gameId));
+    }
+
+    private static String getChannel(Long gameId) {
+        return ACTION + ":" + gameId;
+    }
+
+    /*
+     * An open event stream of a user
+     */
+    private static final class GameEventStream {
+
+        private final SseEmitter emitter;
+        private final Long userId;
+
+        // the last version sent or known by the client, the events are sent in the version order
+        private int lastVersion;
+
+        private GameEventStream(final SseEmitter emitter, final Long userId, final Integer lastVersion) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.lastVersion = lastVersion;
+        }
+
+        private synchronized boolean hasSent(Integer version) {
+            return version <= lastVersion;
+        }
+
+        /*
+         * Sends the event, an event of a version that is already sent or older is dropped
+         */
+        private synchronized void send(Integer version, GameEventDto gameEventDto) {
+            if (hasSent(version)) {
+                return;
+            }
+
+            lastVersion = version;
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(version))
+                        .name(EVENT_NAME)
+                        .data(gameEventDto, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // the client is disconnected or the stream is already completed
+                emitter.completeWithError(e);
+            }
+        }
+
+    }
+
+}
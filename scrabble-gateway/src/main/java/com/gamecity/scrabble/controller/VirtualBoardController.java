@@ -1,15 +1,25 @@
 package com.gamecity.scrabble.controller;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.gamecity.scrabble.model.rest.VirtualBoardDto;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 /**
  * {@link VirtualBoardDto Board} resources
@@ -21,20 +31,68 @@ import com.gamecity.scrabble.model.rest.VirtualBoardDto;
 public class VirtualBoardController extends AbstractController {
 
     private static final String API_RESOURCE_PATH = "/games/{gameId}/boards";
+    private static final long MAXIMUM_CACHED_BOARD_COUNT = 1000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+    private static final long IMMUTABLE_MAX_AGE_DAYS = 365;
+
+    // a board doesn't change after it is stored, so a board is read from the api once for all players with its tag
+    private final Cache<String, ResponseEntity<VirtualBoardDto>> boards = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_BOARD_COUNT)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
 
     /**
      * Gets the {@link VirtualBoardDto board} by game id and version
      * 
-     * @param gameId  <code>id</code> of the game
-     * @param version <code>version</code> version of the board
+     * @param gameId      <code>id</code> of the game
+     * @param version     <code>version</code> version of the board
+     * @param ifNoneMatch the tag of the board that the client has
      * @return the virtual board
      */
     @GetMapping
     @ResponseBody
-    public ResponseEntity<VirtualBoardDto> getBoard(@PathVariable Long gameId, @RequestParam Integer version) {
-        final VirtualBoardDto boardDto =
-                get(API_RESOURCE_PATH + "?version={version}", VirtualBoardDto.class, gameId, version);
-        return new ResponseEntity<>(boardDto, HttpStatus.OK);
+    public ResponseEntity<VirtualBoardDto> getBoard(@PathVariable Long gameId, @RequestParam Integer version,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+                                                            required = false) String ifNoneMatch) {
+        final String key = gameId + ":" + version;
+        final ResponseEntity<VirtualBoardDto> cachedResponse = boards.getIfPresent(key);
+        if (cachedResponse != null) {
+            return createResponse(cachedResponse, ifNoneMatch);
+        }
+
+        // the tag of the client is checked by the api, the api only tags a stored board
+        final ResponseEntity<VirtualBoardDto> response = getConditionally(API_RESOURCE_PATH + "?version={version}",
+                VirtualBoardDto.class, ifNoneMatch, gameId, version);
+        if (response.getStatusCode() != HttpStatus.NOT_MODIFIED && response.getHeaders().getETag() == null) {
+            return new ResponseEntity<>(response.getBody(), HttpStatus.OK);
+        }
+        if (response.getBody() != null && !CollectionUtils.isEmpty(response.getBody().getCells())) {
+            boards.put(key, response);
+        }
+
+        return createResponse(response, ifNoneMatch);
+    }
+
+    /*
+     * Creates the response of a stored board, the board is not sent if the client has the board already
+     */
+    private static ResponseEntity<VirtualBoardDto> createResponse(ResponseEntity<VirtualBoardDto> response,
+                                                                  String ifNoneMatch) {
+        final String eTag = response.getHeaders().getETag();
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED || matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(createCacheControl()).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(createCacheControl()).body(response.getBody());
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        return ifNoneMatch != null && Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals(eTag) || tag.equals("W/" + eTag) || tag.equals("*"));
+    }
+
+    private static CacheControl createCacheControl() {
+        return CacheControl.maxAge(IMMUTABLE_MAX_AGE_DAYS, TimeUnit.DAYS).cachePrivate().immutable();
     }
 
 }
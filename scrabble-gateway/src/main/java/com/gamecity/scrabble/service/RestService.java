@@ -1,6 +1,9 @@
 package com.gamecity.scrabble.service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.ResponseEntity;
 
 import com.gamecity.scrabble.model.rest.AbstractDto;
 
@@ -33,6 +36,19 @@ public interface RestService {
      */
     <T extends AbstractDto> List<T> list(String resource, Class<T> clazz, Object... params);
 
+    /**
+     * Calls a get resource with the If-None-Match header, the resource is not read if the dto is not modified
+     * 
+     * @param <T>         type of the dto
+     * @param resource    rest resource to call
+     * @param clazz       dto class to return
+     * @param ifNoneMatch if none match header, the resource is read unconditionally if it is null
+     * @param params      rest resource parameters
+     * @return the dto with its tag, or not modified without a body
+     */
+    <T extends AbstractDto> ResponseEntity<T> getConditionally(String resource, Class<T> clazz, String ifNoneMatch,
+                                                               Object... params);
+
     /**
      * Calls a post resource
      * 
@@ -67,4 +83,63 @@ public interface RestService {
      */
     <T extends AbstractDto> void delete(String resource, Class<T> clazz, Object... params);
 
+    /**
+     * Calls a get resource asynchronously
+     * 
+     * @param <T>      type of the dto
+     * @param resource rest resource to call
+     * @param clazz    dto class to return
+     * @param params   rest resource parameters
+     * @return the future of the dto
+     */
+    <T extends AbstractDto> CompletableFuture<T> getAsync(String resource, Class<T> clazz, Object... params);
+
+    /**
+     * Calls a list resource asynchronously
+     * 
+     * @param <T>      type of the dto
+     * @param resource rest resource to call
+     * @param clazz    dto class to return
+     * @param params   rest resource parameters
+     * @return the future of the dto list
+     */
+    <T extends AbstractDto> CompletableFuture<List<T>> listAsync(String resource, Class<T> clazz, Object... params);
+
+    /**
+     * Calls a post resource asynchronously
+     * 
+     * @param <T>      type of the dto
+     * @param resource rest resource to call
+     * @param clazz    dto class to return
+     * @param entity   entity to send
+     * @param params   rest resource parameters
+     * @return the future of the dto
+     */
+    <T extends AbstractDto> CompletableFuture<T> postAsync(String resource, Class<T> clazz, Object entity,
+                                                           Object... params);
+
+    /**
+     * Calls a put resource asynchronously
+     * 
+     * @param <T>      type of the dto
+     * @param resource rest resource to call
+     * @param clazz    dto class to return
+     * @param entity   entity to send
+     * @param params   rest resource parameters
+     * @return the future of the saved dto
+     */
+    <T extends AbstractDto> CompletableFuture<T> putAsync(String resource, Class<T> clazz, T entity,
+                                                          Object... params);
+
+    /**
+     * Calls a delete resource asynchronously
+     * 
+     * @param <T>      type of the dto
+     * @param resource rest resource to call
+     * @param clazz    dto class to return
+     * @param params   rest resource parameters
+     * @return the future completed when the resource is deleted
+     */
+    <T extends AbstractDto> CompletableFuture<Void> deleteAsync(String resource, Class<T> clazz, Object... params);
+
 }
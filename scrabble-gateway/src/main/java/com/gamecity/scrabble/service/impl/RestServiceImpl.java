@@ -1,22 +1,33 @@
 package com.gamecity.scrabble.service.impl;
 
-import java.io.BufferedReader;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Scanner;
-import java.util.function.IntConsumer;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 import com.gamecity.scrabble.model.rest.AbstractDto;
@@ -24,50 +35,136 @@ import com.gamecity.scrabble.model.rest.ExceptionDto;
 import com.gamecity.scrabble.rest.exception.GenericException;
 import com.gamecity.scrabble.service.RestService;
 import com.gamecity.scrabble.util.JsonUtils;
+import com.gamecity.scrabble.util.SingleFlight;
 import com.google.common.net.HttpHeaders;
 
+import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 @Component
-@SuppressWarnings("unchecked")
 class RestServiceImpl implements RestService {
 
     @Value("${api.endpoint}")
     private String apiEndpoint;
 
+    @Value("${api.connect.timeout.milliseconds:5000}")
+    private long connectTimeout;
+
+    @Value("${api.request.timeout.milliseconds:30000}")
+    private long requestTimeout;
+
+    @Value("${api.route.timeouts:}")
+    private String routeTimeouts;
+
+    private final Map<String, Duration> timeouts = new HashMap<>();
+
+    // the identical reads made by the players of a game after an action are sent once
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private HttpClient httpClient;
+
+    @PostConstruct
+    void init() {
+        // the connections to the api are kept alive and shared by the calls
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .build();
+
+        // the timeouts of the routes are defined as resource=milliseconds pairs separated by commas
+        for (String routeTimeout : StringUtils.split(routeTimeouts, ',')) {
+            final int index = routeTimeout.lastIndexOf('=');
+            timeouts.put(routeTimeout.substring(0, index).trim(),
+                    Duration.ofMillis(Long.parseLong(routeTimeout.substring(index + 1).trim())));
+        }
+    }
+
     @Override
     public <T extends AbstractDto> T get(String resource, Class<T> clazz, Object... params) {
         final ServiceCall serviceCall = new ServiceCall(resource, HttpMethod.GET, null, params);
-        final String payload = doCall(serviceCall);
-        return JsonUtils.toDto(payload, clazz);
+        final Function<InputStream, T> reader = payload -> JsonUtils.toDto(payload, clazz);
+        return join(read(serviceCall, clazz.getName(),
+                () -> CompletableFuture.completedFuture(doCall(serviceCall, reader))));
     }
 
     @Override
     public <T extends AbstractDto> List<T> list(String resource, Class<T> clazz, Object... params) {
         final ServiceCall serviceCall = new ServiceCall(resource, HttpMethod.GET, null, params);
-        final String payload = doCall(serviceCall);
-        return JsonUtils.toList(payload, clazz);
+        final Function<InputStream, List<T>> reader = payload -> JsonUtils.toList(payload, clazz);
+        return join(read(serviceCall, List.class.getName() + "<" + clazz.getName() + ">",
+                () -> CompletableFuture.completedFuture(doCall(serviceCall, reader))));
+    }
+
+    @Override
+    public <T extends AbstractDto> ResponseEntity<T> getConditionally(String resource, Class<T> clazz,
+                                                                      String ifNoneMatch, Object... params) {
+        final ServiceCall serviceCall = new ServiceCall(resource, HttpMethod.GET, null, params);
+        final HttpRequest.Builder requestBuilder =
+                HttpRequest.newBuilder(createRequest(serviceCall), (name, value) -> true);
+        if (ifNoneMatch != null) {
+            requestBuilder.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+
+        // only the calls with the same tag are merged, the response depends on the tag sent by the client
+        final HttpRequest request = requestBuilder.build();
+        return join(read(serviceCall, clazz.getName() + " " + ifNoneMatch,
+                () -> CompletableFuture.completedFuture(doConditionalCall(request, clazz))));
     }
 
     @Override
     public <T extends AbstractDto> T post(String resource, Class<T> clazz, Object entity, Object... params) {
         final ServiceCall serviceCall = new ServiceCall(resource, HttpMethod.POST, entity, params);
-        final String payload = doCall(serviceCall);
-        return JsonUtils.toDto(payload, clazz);
+        return doCall(serviceCall, payload -> JsonUtils.toDto(payload, clazz));
     }
 
     @Override
     public <T extends AbstractDto> T put(String resource, Class<T> clazz, T entity, Object... params) {
         final ServiceCall serviceCall = new ServiceCall(resource, HttpMethod.PUT, entity, params);
-        final String payload = doCall(serviceCall);
-        return JsonUtils.toDto(payload, clazz);
+        return doCall(serviceCall, payload -> JsonUtils.toDto(payload, clazz));
     }
 
     @Override
     public <T extends AbstractDto> void delete(String resource, Class<T> clazz, Object... params) {
         final ServiceCall serviceCall = new ServiceCall(resource, HttpMethod.DELETE, null, params);
-        doCall(serviceCall);
+        doCall(serviceCall, payload -> null);
+    }
+
+    @Override
+    public <T extends AbstractDto> CompletableFuture<T> getAsync(String resource, Class<T> clazz,
+                                                                 Object... params) {
+        final ServiceCall serviceCall = new ServiceCall(resource, HttpMethod.GET, null, params);
+        return read(serviceCall, clazz.getName(),
+                () -> doCallAsync(serviceCall, payload -> JsonUtils.toDto(payload, clazz)));
+    }
+
+    @Override
+    public <T extends AbstractDto> CompletableFuture<List<T>> listAsync(String resource, Class<T> clazz,
+                                                                        Object... params) {
+        final ServiceCall serviceCall = new ServiceCall(resource, HttpMethod.GET, null, params);
+        return read(serviceCall, List.class.getName() + "<" + clazz.getName() + ">",
+                () -> doCallAsync(serviceCall, payload -> JsonUtils.toList(payload, clazz)));
+    }
+
+    @Override
+    public <T extends AbstractDto> CompletableFuture<T> postAsync(String resource, Class<T> clazz, Object entity,
+                                                                  Object... params) {
+        final ServiceCall serviceCall = new ServiceCall(resource, HttpMethod.POST, entity, params);
+        return doCallAsync(serviceCall, payload -> JsonUtils.toDto(payload, clazz));
+    }
+
+    @Override
+    public <T extends AbstractDto> CompletableFuture<T> putAsync(String resource, Class<T> clazz, T entity,
+                                                                 Object... params) {
+        final ServiceCall serviceCall = new ServiceCall(resource, HttpMethod.PUT, entity, params);
+        return doCallAsync(serviceCall, payload -> JsonUtils.toDto(payload, clazz));
+    }
+
+    @Override
+    public <T extends AbstractDto> CompletableFuture<Void> deleteAsync(String resource, Class<T> clazz,
+                                                                       Object... params) {
+        final ServiceCall serviceCall = new ServiceCall(resource, HttpMethod.DELETE, null, params);
+        return doCallAsync(serviceCall, payload -> null);
     }
 
     // ---------------------------------------------------- private methods
@@ -84,135 +181,123 @@ class RestServiceImpl implements RestService {
 
     }
 
-    class ResourceURLCreator {
-
-        private final StringBuilder resourceURL = new StringBuilder();
-        private String resource;
-        private Object[] params;
-
-        public ResourceURLCreator(String resource, Object... params) {
-            this.resource = resource;
-            this.params = params;
-        }
-
-        public String createURL() {
-            createResourceURL().addRequestParams();
-            return resourceURL.toString();
-        }
-
-        private ResourceURLCreator createResourceURL() {
-            resourceURL.append(apiEndpoint).append(resource).toString();
-            return this;
-        }
-
-        private ResourceURLCreator addRequestParams() {
-            if (params != null && params.length > 0) {
-                final IntConsumer consumer = i -> resourceURL.replace(resourceURL.indexOf("{"),
-                        resourceURL.indexOf("}") + 1, String.valueOf(params[i]));
-                IntStream.range(0, params.length).forEach(consumer);
-            }
-            return this;
-        }
+    /*
+     * Makes the read or joins the identical read in flight, the result is shared by the callers
+     */
+    private <R> CompletableFuture<R> read(ServiceCall serviceCall, String type, Supplier<CompletableFuture<R>> call) {
+        final String key = type + " " + serviceCall.getResource() + " " + Arrays.toString(serviceCall.getParams());
+        return singleFlight.execute(key, call);
     }
 
-    private <T extends AbstractDto> String doCall(ServiceCall serviceCall) {
+    /*
+     * Waits for the result of the call, the exception of the call is thrown as it is
+     */
+    private static <R> R join(CompletableFuture<R> future) {
         try {
-            final HttpURLConnection httpURLConnection =
-                    createConnection(serviceCall.getResource(), serviceCall.getParams());
-
-            httpURLConnection.setRequestMethod(serviceCall.getMethod().name());
-            httpURLConnection.setRequestProperty(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
-            httpURLConnection.setRequestProperty(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-
-            if (HttpMethod.POST == serviceCall.getMethod() || HttpMethod.PUT == serviceCall.getMethod()) {
-                httpURLConnection.setDoOutput(true);
-
-                if (serviceCall.getPostObject() != null) {
-                    final String payload;
-                    if (serviceCall.getPostObject() instanceof List) {
-                        payload = JsonUtils.toJson((List<T>) serviceCall.getPostObject());
-                    } else {
-                        payload = JsonUtils.toJson((T) serviceCall.getPostObject());
-                    }
-                    httpURLConnection.setRequestProperty(HttpHeaders.CONTENT_LENGTH,
-                            "" + payload.getBytes(StandardCharsets.UTF_8.displayName()).length);
-                    final DataOutputStream daos = new DataOutputStream(httpURLConnection.getOutputStream());
-                    daos.write(payload.getBytes(StandardCharsets.UTF_8.displayName()));
-                    daos.flush();
-                    daos.close();
-                }
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
-
-            return buildResponse(httpURLConnection);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw e;
         }
     }
 
-    private HttpURLConnection createConnection(String resource, Object... params) {
-        final ResourceURLCreator resourceURLCreator = new ResourceURLCreator(resource, params);
-        final String resourceURL = resourceURLCreator.createURL();
-
+    private <R> R doCall(ServiceCall serviceCall, Function<InputStream, R> reader) {
         try {
-            final URL url = new URL(resourceURL);
-            return (HttpURLConnection) url.openConnection();
+            final HttpResponse<InputStream> response =
+                    httpClient.send(createRequest(serviceCall), BodyHandlers.ofInputStream());
+            return readResponse(response, reader);
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
         }
     }
 
-    private String buildResponse(HttpURLConnection httpURLConnection) {
+    /*
+     * Makes a conditional call, a not modified response is returned with the tag and without a body
+     */
+    private <T extends AbstractDto> ResponseEntity<T> doConditionalCall(HttpRequest request, Class<T> clazz) {
         try {
-            final int responseCode = httpURLConnection.getResponseCode();
-            if (responseCode != 200) {
-                final String payload = buildErrorMessage(httpURLConnection);
-                closeHttpConnection(httpURLConnection);
-
-                if (responseCode == 500) {
-                    final ExceptionDto exceptionDto = JsonUtils.toDto(payload, ExceptionDto.class);
-                    throw new GenericException(exceptionDto);
-                }
-
-                closeHttpConnection(httpURLConnection);
-                throw new GenericException(payload);
+            final HttpResponse<InputStream> response = httpClient.send(request, BodyHandlers.ofInputStream());
+            final String eTag = response.headers().firstValue(HttpHeaders.ETAG).orElse(null);
+            if (response.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                response.body().close();
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
             }
 
-            final BufferedReader br = new BufferedReader(new InputStreamReader((httpURLConnection.getInputStream())));
-
-            String output;
-            final StringBuilder payload = new StringBuilder();
-            while ((output = br.readLine()) != null) {
-                payload.append(output);
-            }
-            closeHttpConnection(httpURLConnection);
-            return payload.toString();
+            final T dto = readResponse(response, payload -> JsonUtils.toDto(payload, clazz));
+            return ResponseEntity.ok().eTag(eTag).body(dto);
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
         }
     }
 
-    private void closeHttpConnection(HttpURLConnection httpURLConnection) {
-        httpURLConnection.disconnect();
+    private <R> CompletableFuture<R> doCallAsync(ServiceCall serviceCall, Function<InputStream, R> reader) {
+        return httpClient.sendAsync(createRequest(serviceCall), BodyHandlers.ofInputStream())
+                .thenApply(response -> readResponse(response, reader));
     }
 
-    private String buildErrorMessage(HttpURLConnection httpURLConnection) {
-        InputStream stream = null;
-        try {
-            stream = httpURLConnection.getErrorStream();
-            if (stream == null) {
-                stream = httpURLConnection.getInputStream();
+    private HttpRequest createRequest(ServiceCall serviceCall) {
+        final BodyPublisher bodyPublisher = serviceCall.getPostObject() == null ? BodyPublishers.noBody()
+                : BodyPublishers.ofByteArray(
+                        JsonUtils.toJson(serviceCall.getPostObject()).getBytes(StandardCharsets.UTF_8));
+
+        return HttpRequest.newBuilder()
+                .uri(URI.create(createURL(serviceCall.getResource(), serviceCall.getParams())))
+                .method(serviceCall.getMethod().name(), bodyPublisher)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .timeout(timeouts.getOrDefault(serviceCall.getResource(), Duration.ofMillis(requestTimeout)))
+                .build();
+    }
+
+    /*
+     * Replaces the parameters of the resource in order
+     */
+    private String createURL(String resource, Object... params) {
+        final StringBuilder resourceURL = new StringBuilder(apiEndpoint.length() + resource.length() + 16);
+        resourceURL.append(apiEndpoint);
+
+        int paramIndex = 0;
+        int index = 0;
+        while (index < resource.length()) {
+            final int start = resource.indexOf('{', index);
+            final int end = start < 0 ? -1 : resource.indexOf('}', start);
+            if (end < 0 || params == null || paramIndex >= params.length) {
+                resourceURL.append(resource, index, resource.length());
+                break;
             }
-            String response;
-            try (Scanner scanner = new Scanner(stream)) {
-                scanner.useDelimiter("\\Z");
-                response = scanner.next();
+            resourceURL.append(resource, index, start).append(params[paramIndex++]);
+            index = end + 1;
+        }
+        return resourceURL.toString();
+    }
+
+    /*
+     * Reads the response from the stream, the stream is read to the end so the connection is reused
+     */
+    private <R> R readResponse(HttpResponse<InputStream> response, Function<InputStream, R> reader) {
+        try (InputStream payload = response.body()) {
+            if (response.statusCode() != 200) {
+                final String errorMessage = new String(payload.readAllBytes(), StandardCharsets.UTF_8);
+                if (response.statusCode() == 500) {
+                    final ExceptionDto exceptionDto = JsonUtils.toDto(errorMessage, ExceptionDto.class);
+                    throw new GenericException(exceptionDto);
+                }
+                throw new GenericException(errorMessage);
             }
-            return response;
+
+            final R result = reader.apply(payload);
+            payload.transferTo(OutputStream.nullOutputStream());
+            return result;
         } catch (IOException e) {
-            closeHttpConnection(httpURLConnection);
-            throw new RuntimeException(e);
-        } finally {
-            IOUtils.closeQuietly(stream);
+            throw new UncheckedIOException(e);
         }
     }
 
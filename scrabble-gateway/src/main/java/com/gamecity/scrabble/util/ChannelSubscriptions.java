@@ -0,0 +1,150 @@
+package com.gamecity.scrabble.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reference counted subscriptions of a listener to the Redis channels. A channel is subscribed by its first
+ * subscriber and it is unsubscribed after a grace period when the last subscriber leaves, so a channel whose
+ * subscribers leave and come back together, such as the waiting requests of a game after an action, stays
+ * subscribed. The Redis calls are made under the lock of the channel, so only the subscribers of the same
+ * channel wait for them.
+ *
+ * @author ekarakus
+ */
+@Slf4j
+public final class ChannelSubscriptions {
+
+    private final RedisMessageListenerContainer container;
+    private final MessageListener listener;
+    private final long gracePeriod;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the subscriptions of the listener
+     *
+     * @param name        name of the thread unsubscribing the channels
+     * @param container   container of the listener
+     * @param listener    listener of the channels
+     * @param gracePeriod time in milliseconds a channel stays subscribed after its last subscriber leaves
+     */
+    public ChannelSubscriptions(final String name, final RedisMessageListenerContainer container,
+                                final MessageListener listener, final long gracePeriod) {
+        this.container = container;
+        this.listener = listener;
+        this.gracePeriod = gracePeriod;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat(name).setDaemon(true).build());
+    }
+
+    /**
+     * Adds a subscriber to the channel, the channel is subscribed when the method returns
+     *
+     * @param channel the channel
+     */
+    public void subscribe(String channel) {
+        while (true) {
+            final Subscription subscription = subscriptions.computeIfAbsent(channel, Subscription::new);
+            synchronized (subscription) {
+                // the subscription is removed after it is read, a new one is created for the channel
+                if (subscription.removed) {
+                    continue;
+                }
+
+                if (!subscription.subscribed) {
+                    container.addMessageListener(listener, new ChannelTopic(channel));
+                    subscription.subscribed = true;
+                }
+                if (subscription.unsubscription != null) {
+                    subscription.unsubscription.cancel(false);
+                    subscription.unsubscription = null;
+                }
+                subscription.count++;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes a subscriber from the channel, the channel is unsubscribed after the grace period if no
+     * subscriber is added in between
+     *
+     * @param channel the channel
+     */
+    public void unsubscribe(String channel) {
+        final Subscription subscription = subscriptions.get(channel);
+        if (subscription == null) {
+            return;
+        }
+
+        synchronized (subscription) {
+            if (subscription.removed || subscription.count == 0) {
+                return;
+            }
+
+            subscription.count--;
+            if (subscription.count == 0 && !scheduler.isShutdown()) {
+                subscription.unsubscription =
+                        scheduler.schedule(() -> expire(subscription), gracePeriod, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Stops the scheduler, the channels are unsubscribed when the container is stopped
+     */
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /*
+     * Unsubscribes the channel if it has no subscriber, the subscription is not used after it is removed
+     */
+    private void expire(Subscription subscription) {
+        synchronized (subscription) {
+            if (subscription.removed || subscription.count > 0) {
+                return;
+            }
+
+            try {
+                container.removeMessageListener(listener, new ChannelTopic(subscription.channel));
+            } catch (Exception e) {
+                log.error("An error occured while unsubscribing the channel {}", subscription.channel, e);
+            }
+            subscription.subscribed = false;
+            subscription.removed = true;
+            subscriptions.remove(subscription.channel, subscription);
+        }
+    }
+
+    private static final class Subscription {
+
+        private final String channel;
+
+        // guarded by the subscription
+        private int count;
+        private boolean subscribed;
+        private boolean removed;
+        private ScheduledFuture<?> unsubscription;
+
+        private Subscription(final String channel) {
+            this.channel = channel;
+        }
+
+    }
+
+}
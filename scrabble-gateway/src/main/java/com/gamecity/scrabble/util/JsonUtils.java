@@ -1,11 +1,14 @@
 package com.gamecity.scrabble.util;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -29,6 +32,8 @@ public class JsonUtils {
         mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
         mapper.setSerializationInclusion(Include.NON_NULL);
         mapper.registerModule(new JavaTimeModule());
+        // the streams are closed by their owners
+        mapper.getFactory().disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
     }
 
     /**
@@ -46,8 +51,7 @@ public class JsonUtils {
         }
 
         try {
-            return mapper.readValue(payload, new TypeReference<List<T>>() {
-            });
+            return mapper.readValue(payload, mapper.getTypeFactory().constructCollectionType(List.class, clazz));
         } catch (Exception e) {
             log.error("An error occured while converting to {} by payload {}", clazz.getSimpleName(), payload);
             throw new RuntimeException(e);
@@ -75,6 +79,30 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Converts a JSON payload stream to a dto list, the stream is not closed
+     * 
+     * @param <T>     type of the dto class
+     * @param payload JSON payload stream
+     * @param clazz   dto class
+     * @return the dto list
+     */
+    public static <T> List<T> toList(InputStream payload, Class<T> clazz) {
+        return read(payload, mapper.getTypeFactory().constructCollectionType(List.class, clazz));
+    }
+
+    /**
+     * Converts a JSON payload stream to a dto, the stream is not closed
+     * 
+     * @param <T>     type of the dto class
+     * @param payload JSON payload stream
+     * @param clazz   dto class
+     * @return the dto object
+     */
+    public static <T> T toDto(InputStream payload, Class<T> clazz) {
+        return read(payload, mapper.constructType(clazz));
+    }
+
     /**
      * Converts a dto object to JSON payload
      * 
@@ -105,23 +133,19 @@ public class JsonUtils {
         }
     }
 
-    /**
-     * Formats the payload stored in Redis
-     * 
-     * @param payload payload stored in Redis
-     * @return the formatted payload
+    /*
+     * Reads the payload without copying it to a string, an empty payload is read as null
      */
-    public static String formatRedisPayload(String payload) {
-        if (StringUtils.isEmpty(payload)) {
-            return null;
-        }
-
-        String formattedPayload = payload.replace("\\", "");
-        if (formattedPayload.substring(0, 1).equals("\"")
-                && formattedPayload.substring(formattedPayload.length() - 1).equals("\"")) {
-            formattedPayload = formattedPayload.substring(1, formattedPayload.length() - 1);
+    private static <T> T read(InputStream payload, JavaType type) {
+        try (JsonParser parser = mapper.createParser(payload)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return mapper.readValue(parser, type);
+        } catch (IOException e) {
+            log.error("An error occured while converting to {}", type.getRawClass().getSimpleName());
+            throw new RuntimeException(e);
         }
-        return formattedPayload;
     }
 
 }
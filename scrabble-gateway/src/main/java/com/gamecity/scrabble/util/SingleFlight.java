@@ -0,0 +1,83 @@
+package com.gamecity.scrabble.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collapses the concurrent identical calls into one call. The first caller of a key makes the call and the
+ * callers arriving before the call completes share its result, a caller arriving after the completion makes
+ * a new call. The shared result is the same object for all callers, so it should not be modified.
+ *
+ * @author ekarakus
+ */
+@Slf4j
+public final class SingleFlight {
+
+    private final Map<String, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+    private final AtomicLong callCount = new AtomicLong();
+    private final AtomicLong mergedCount = new AtomicLong();
+
+    /**
+     * Makes the call or joins the call in flight with the same key
+     *
+     * @param <T>  type of the result
+     * @param key  key of the call
+     * @param call the call to make
+     * @return the future of the shared result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> call) {
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> callInFlight = calls.putIfAbsent(key, future);
+        if (callInFlight != null) {
+            log.debug("The call {} is merged into the call in flight, {} calls are merged into {} calls", key,
+                    mergedCount.incrementAndGet(), callCount.get());
+            return (CompletableFuture<T>) callInFlight.copy();
+        }
+
+        callCount.incrementAndGet();
+        try {
+            call.get().whenComplete((result, e) -> complete(key, future, result, e));
+        } catch (Throwable e) {
+            // the call is removed whatever it throws, otherwise the later callers of the key wait forever
+            complete(key, future, null, e);
+        }
+        return (CompletableFuture<T>) future.copy();
+    }
+
+    /**
+     * Gets the number of the calls made
+     *
+     * @return the number of the calls
+     */
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    /**
+     * Gets the number of the calls merged into a call in flight
+     *
+     * @return the number of the merged calls
+     */
+    public long getMergedCount() {
+        return mergedCount.get();
+    }
+
+    /*
+     * Removes the call before its result is shared, so a caller arriving later makes a new call
+     */
+    private void complete(String key, CompletableFuture<Object> future, Object result, Throwable e) {
+        calls.remove(key, future);
+        if (e != null) {
+            future.completeExceptionally(e);
+        } else {
+            future.complete(result);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.gamecity.scrabble.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class TestChannelSubscriptions {
+
+    private static final String CHANNEL = "ACTION:1";
+    private static final long GRACE_PERIOD = 100;
+
+    private final CountingContainer container = new CountingContainer();
+    private final MessageListener listener = (message, pattern) -> {
+    };
+
+    private ChannelSubscriptions subscriptions;
+
+    @BeforeEach
+    void beforeEach() {
+        subscriptions = new ChannelSubscriptions("test-unsubscriber", container, listener, GRACE_PERIOD);
+    }
+
+    @AfterEach
+    void afterEach() {
+        subscriptions.stop();
+    }
+
+    @Test
+    void test_subscribe_channel_once() {
+        subscriptions.subscribe(CHANNEL);
+        subscriptions.subscribe(CHANNEL);
+
+        assertThat(container.subscribeCount.get(), equalTo(1));
+    }
+
+    @Test
+    void test_unsubscribe_channel_after_grace_period() throws InterruptedException {
+        subscriptions.subscribe(CHANNEL);
+        subscriptions.subscribe(CHANNEL);
+        subscriptions.unsubscribe(CHANNEL);
+        subscriptions.unsubscribe(CHANNEL);
+
+        assertThat(container.unsubscribeCount.get(), equalTo(0));
+
+        Thread.sleep(GRACE_PERIOD * 3);
+
+        assertThat(container.unsubscribeCount.get(), equalTo(1));
+    }
+
+    @Test
+    void test_channel_stays_subscribed_when_subscriber_comes_back() throws InterruptedException {
+        subscriptions.subscribe(CHANNEL);
+        subscriptions.unsubscribe(CHANNEL);
+        subscriptions.subscribe(CHANNEL);
+
+        Thread.sleep(GRACE_PERIOD * 3);
+
+        assertThat(container.subscribeCount.get(), equalTo(1));
+        assertThat(container.unsubscribeCount.get(), equalTo(0));
+    }
+
+    @Test
+    void test_subscribe_channel_again_after_unsubscribed() throws InterruptedException {
+        subscriptions.subscribe(CHANNEL);
+        subscriptions.unsubscribe(CHANNEL);
+
+        Thread.sleep(GRACE_PERIOD * 3);
+
+        subscriptions.subscribe(CHANNEL);
+
+        assertThat(container.subscribeCount.get(), equalTo(2));
+        assertThat(container.unsubscribeCount.get(), equalTo(1));
+    }
+
+    /*
+     * Counts the subscriptions instead of subscribing the channels in Redis
+     */
+    private static final class CountingContainer extends RedisMessageListenerContainer {
+
+        private final AtomicInteger subscribeCount = new AtomicInteger();
+        private final AtomicInteger unsubscribeCount = new AtomicInteger();
+
+        @Override
+        public void addMessageListener(MessageListener listener, Topic topic) {
+            subscribeCount.incrementAndGet();
+        }
+
+        @Override
+        public void removeMessageListener(MessageListener listener, Topic topic) {
+            unsubscribeCount.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.gamecity.scrabble.util;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSingleFlight {
+
+    private static final String KEY = "GameDto /games/{gameId} [1]";
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    void test_merge_call_in_flight() {
+        final CompletableFuture<String> call = new CompletableFuture<>();
+
+        final CompletableFuture<String> first = singleFlight.execute(KEY, () -> call);
+        final CompletableFuture<String> second = singleFlight.execute(KEY, () -> {
+            throw new IllegalStateException("The call is made twice");
+        });
+
+        call.complete("game");
+
+        assertThat(first.join(), equalTo("game"));
+        assertThat(second.join(), equalTo("game"));
+        assertThat(singleFlight.getCallCount(), equalTo(1L));
+        assertThat(singleFlight.getMergedCount(), equalTo(1L));
+    }
+
+    @Test
+    void test_call_after_supplier_throws_error() throws Exception {
+        final CompletableFuture<String> failed = singleFlight.execute(KEY, () -> {
+            throw new OutOfMemoryError("Java heap space");
+        });
+
+        try {
+            failed.join();
+
+            fail("The failed call is completed");
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), instanceOf(OutOfMemoryError.class));
+        }
+
+        final CompletableFuture<String> second =
+                singleFlight.execute(KEY, () -> CompletableFuture.completedFuture("game"));
+
+        assertThat(second.get(1, TimeUnit.SECONDS), equalTo("game"));
+        assertThat(singleFlight.getCallCount(), equalTo(2L));
+        assertThat(singleFlight.getMergedCount(), equalTo(0L));
+    }
+
+    @Test
+    void test_call_after_supplier_throws_checked_exception() throws Exception {
+        final CompletableFuture<String> failed =
+                singleFlight.execute(KEY, () -> sneakyThrow(new IOException("Connection refused")));
+
+        try {
+            failed.join();
+
+            fail("The failed call is completed");
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+
+        final CompletableFuture<String> second =
+                singleFlight.execute(KEY, () -> CompletableFuture.completedFuture("game"));
+
+        assertThat(second.get(1, TimeUnit.SECONDS), equalTo("game"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, E extends Throwable> T sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
+
+}
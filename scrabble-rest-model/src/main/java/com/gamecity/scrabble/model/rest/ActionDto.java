@@ -31,6 +31,9 @@ public class ActionDto extends AbstractDto implements Serializable {
     @JsonProperty("version")
     private Integer version;
 
+    @JsonProperty("boardVersion")
+    private Integer boardVersion;
+
     @JsonProperty("currentPlayerNumber")
     private Integer currentPlayerNumber;
 
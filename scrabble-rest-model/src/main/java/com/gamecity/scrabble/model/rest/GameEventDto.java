@@ -0,0 +1,35 @@
+package com.gamecity.scrabble.model.rest;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the state of a game pushed to a player after an action
+ * 
+ * @author ekarakus
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class GameEventDto {
+
+    @JsonProperty("action")
+    private ActionDto action;
+
+    @JsonProperty("board")
+    private VirtualBoardDto board;
+
+    @JsonProperty("players")
+    private List<PlayerDto> players;
+
+    @JsonProperty("rack")
+    private VirtualRackDto rack;
+
+}